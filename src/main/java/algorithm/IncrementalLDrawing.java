@@ -0,0 +1,226 @@
+package main.java.algorithm;
+
+import com.yworks.yfiles.graph.IEdge;
+import com.yworks.yfiles.graph.IGraph;
+import com.yworks.yfiles.graph.INode;
+import main.java.algorithm.exception.GraphConditionsException;
+import main.java.algorithm.embedding.LRPlanarity;
+import main.java.algorithm.exception.LDrawingNotPossibleException;
+import main.java.algorithm.typeDetermination.TypeDetermination;
+import main.java.algorithm.types.LayoutPhase;
+import main.java.algorithm.utils.GraphConverter;
+import main.java.algorithm.utils.GraphFingerprint;
+import main.java.algorithm.utils.NodesPostOrder;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.IdSequence;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.TCSkeleton;
+import main.java.decomposition.spqrTree.TCTree;
+import main.java.decomposition.spqrTree.TCTreeNode;
+import main.java.decomposition.spqrTree.TCTreeNodeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lays out the same graph again and again while it is edited, e.g. in the GUI. The decomposition of the last run is
+ * kept, and edges that were added or removed since then are applied to the TCTree in place, see
+ * {@link TCTree#insertGraphEdge} and {@link TCTree#removeGraphEdge}. Only the pertinent graphs of the changed nodes and
+ * their ancestors are constructed again. The embedding and the coordinates are computed for the whole graph, as the
+ * st-ordering may change everywhere.
+ *
+ * Every other edit, i.e. added or removed nodes, edges that change the source, the target or the triconnected
+ * components in a way the tree does not cover, and every failure of the update, leads to a full run, so the result
+ * and the exceptions are the same as those of {@link LDrawing}. A session is not thread-safe.
+ */
+public class IncrementalLDrawing {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalLDrawing.class);
+
+    private final LDrawing lDrawing;
+    // context of the last run, its graph still contains the augmentation
+    private LayoutContext context = null;
+
+
+    public IncrementalLDrawing(){
+        this(null);
+    }
+
+    /**
+     * @param cache cache that is looked up before every full run, or null. A layout taken from the cache has no
+     *              decomposition, so the next edit leads to a full run.
+     */
+    public IncrementalLDrawing(LayoutCache cache){
+        this.lDrawing = new LDrawing(cache);
+    }
+
+    /**
+     * Lays out the graph, by updating the last run if the graph is the same and the edits allow it.
+     *
+     * @return the context holding the coordinates, the graph of its converter contains the augmented source.
+     */
+    public LayoutContext lDrawing(IGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        if(context != null && context.getGraphConverter().getOriginalGraph() == graph){
+            // the update continues the numbering of the converted graph, as the run did
+            IdSequence.Scope scope = context.getGraph().getIdSequence().enter();
+            try {
+                if(update(graph)){
+                    LayoutContext.publish(context);
+                    return context;
+                }
+            }catch(LDrawingNotPossibleException | RuntimeException e){
+                LOGGER.debug("Update of the last layout failed, the graph is laid out again: " + e.getMessage());
+            }finally {
+                scope.close();
+            }
+        }
+
+        context = null;
+        LayoutContext newContext = new LayoutContext();
+        newContext.startPhase();
+        GraphFingerprint fingerprint = lDrawing.getCache() == null ? null : GraphFingerprint.of(graph);
+        if(fingerprint != null && lDrawing.lookUp(newContext, graph, fingerprint))
+            return newContext;
+        newContext.setGraphConverter(new GraphConverter(graph));
+        lDrawing.layout(newContext, newContext.getGraphConverter().getConvertedGraph(), true);
+        if(fingerprint != null)
+            lDrawing.store(newContext, graph, fingerprint);
+        LayoutContext.publish(newContext);
+        context = newContext;
+        return context;
+    }
+
+    /**
+     * Forgets the last run, the next call lays out the graph from scratch.
+     */
+    public void reset(){
+        context = null;
+    }
+
+
+    /**
+     * Applies the edges removed from and added to the graph since the last run.
+     * @return false if the edits are not covered and the graph has to be laid out again.
+     */
+    private boolean update(IGraph graph) throws LDrawingNotPossibleException {
+
+        context.startPhase();
+        GraphConverter converter = context.getGraphConverter();
+        Map<INode, Vertex> vertices = converter.getOrigV2ConvV();
+        Map<IEdge, DirectedEdge> edges = converter.getOrigE2ConvE();
+
+        if(graph.getNodes().size() != vertices.size())
+            return false;
+        for(INode node : graph.getNodes())
+            if(!vertices.containsKey(node))
+                return false;
+
+        List<IEdge> addedEdges = new ArrayList<>();
+        Set<IEdge> remainingEdges = new HashSet<>();
+        for(IEdge edge : graph.getEdges()){
+            DirectedEdge convertedEdge = edges.get(edge);
+            if(convertedEdge == null){
+                addedEdges.add(edge);
+                continue;
+            }
+            if(convertedEdge.getSource() != vertices.get(edge.getSourceNode()) || convertedEdge.getTarget() != vertices.get(edge.getTargetNode()))
+                return false;
+            remainingEdges.add(edge);
+        }
+        List<IEdge> removedEdges = new ArrayList<>();
+        for(IEdge edge : edges.keySet())
+            if(!remainingEdges.contains(edge))
+                removedEdges.add(edge);
+        context.endPhase(LayoutPhase.PREPARATION);
+        if(addedEdges.isEmpty() && removedEdges.isEmpty())
+            return true;
+
+        context.startPhase();
+        TCTree<DirectedEdge, Vertex> tcTree = context.getTcTree();
+        List<TCTreeNode<DirectedEdge, Vertex>> changedNodes = new ArrayList<>();
+        for(IEdge edge : removedEdges){
+            DirectedEdge convertedEdge = edges.get(edge);
+            if(!keepsSourceAndTarget(converter, convertedEdge))
+                return false;
+            TCTreeNode<DirectedEdge, Vertex> changedNode = tcTree.removeGraphEdge(convertedEdge);
+            if(changedNode == null)
+                return false;
+            converter.removeEdge(edge);
+            changedNodes.add(changedNode);
+        }
+        Map<Vertex, Integer> stOrdering = context.getSTOrdering().getSTOrderingMap();
+        for(IEdge edge : addedEdges){
+            // an edge along the last st-ordering keeps the graph acyclic and does not change its source and target
+            Vertex source = vertices.get(edge.getSourceNode());
+            Vertex target = vertices.get(edge.getTargetNode());
+            if(stOrdering.get(source) >= stOrdering.get(target))
+                return false;
+            DirectedEdge convertedEdge = converter.addEdge(edge);
+            TCTreeNode<DirectedEdge, Vertex> changedNode = tcTree.insertGraphEdge(convertedEdge);
+            if(changedNode == null)
+                return false;
+            if(changedNode.getType() == TCTreeNodeType.TYPE_R && !isPlanar(changedNode)){
+                LOGGER.debug("The added edge makes the skeleton of a R-Node non-planar.");
+                return false;
+            }
+            changedNodes.add(changedNode);
+        }
+        context.setNodesPostOrder(new NodesPostOrder(tcTree));
+        context.endPhase(LayoutPhase.DECOMPOSITION);
+
+        context.startPhase();
+        new TypeDetermination(context).rerun(changedNodes);
+        context.endPhase(LayoutPhase.TYPE_DETERMINATION);
+
+        MultiDirectedGraph augmentedGraph = context.getGraph();
+        lDrawing.place(context, augmentedGraph);
+
+        LOGGER.debug("Updated the layout after removing " + removedEdges.size() + " and adding " + addedEdges.size() + " edges.");
+        return true;
+    }
+
+    /**
+     * @return true if the skeleton of the component is planar. A graph is planar if and only if the skeletons of all its
+     * triconnected components are, so after an edge was added to a rigid only its skeleton has to be checked.
+     */
+    private static boolean isPlanar(TCTreeNode<DirectedEdge, Vertex> node){
+
+        TCSkeleton<DirectedEdge, Vertex> skeleton = node.getSkeleton();
+        Map<Vertex, Integer> indices = new HashMap<>();
+        for(Vertex vertex : skeleton.getVertices())
+            indices.put(vertex, indices.size());
+        int[] edgeSources = new int[skeleton.countEdges()];
+        int[] edgeTargets = new int[edgeSources.length];
+        int i = 0;
+        for(DirectedEdge edge : skeleton.getEdges()){
+            edgeSources[i] = indices.get(edge.getV1());
+            edgeTargets[i++] = indices.get(edge.getV2());
+        }
+        return new LRPlanarity(indices.size(), edgeSources, edgeTargets).isPlanar();
+    }
+
+    /**
+     * @return true if the source of the edge keeps another outgoing and its target another incoming edge of the input
+     * graph, so the graph keeps its only source and target.
+     */
+    private static boolean keepsSourceAndTarget(GraphConverter converter, DirectedEdge edge){
+
+        Map<DirectedEdge, IEdge> convertedEdges = converter.getConvE2OrigE();
+        int outgoing = 0, incoming = 0;
+        for(DirectedEdge outgoingEdge : converter.getConvertedGraph().getOutgoingEdgeSet(edge.getSource()))
+            if(convertedEdges.containsKey(outgoingEdge))
+                outgoing++;
+        for(DirectedEdge incomingEdge : converter.getConvertedGraph().getIncomingEdgeSet(edge.getTarget()))
+            if(convertedEdges.containsKey(incomingEdge))
+                incoming++;
+        return outgoing > 1 && incoming > 1;
+    }
+}
@@ -1,181 +1,319 @@
 package main.java.algorithm;
 
-import com.yworks.yfiles.algorithms.GraphChecker;
 import com.yworks.yfiles.graph.IGraph;
-import com.yworks.yfiles.layout.YGraphAdapter;
+import com.yworks.yfiles.graph.INode;
 import main.java.algorithm.embedding.GraphEmbedding;
 import main.java.algorithm.typeDetermination.*;
 import main.java.algorithm.exception.GraphConditionsException;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
+import main.java.algorithm.io.GraphReader;
+import main.java.algorithm.types.LayoutPhase;
 import main.java.algorithm.utils.*;
 import main.java.algorithm.utils.coordinates.XCoordinates;
 import main.java.algorithm.utils.coordinates.YCoordinates;
+import main.java.decomposition.graph.CSRGraph;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.IdSequence;
 import main.java.decomposition.hyperGraph.Vertex;
 import main.java.decomposition.spqrTree.TCTree;
-import main.java.decomposition.spqrTree.TCTreeNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 public class LDrawing {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDrawing.class);
 
-    private IGraph initialGraph;
-    private MultiDirectedGraph convertedGraph;
-    private DirectedEdge backEdge;
-    private Vertex source;
-    private Vertex target;
-    private TCTree<DirectedEdge, Vertex> tcTree;
+    private final LayoutCache cache;
 
 
-    public void lDrawing(IGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
+    public LDrawing(){
+        this(null);
+    }
 
+    /**
+     * @param cache cache of earlier layouts that is looked up before and filled after every run, or null.
+     */
+    public LDrawing(LayoutCache cache){
+        this.cache = cache;
+    }
 
-        LOGGER.debug("Amount of nodes: " + graph.getNodes().size());
-        LOGGER.debug("Amount of edges: " + graph.getEdges().size());
 
+    /**
+     * Lays out the given graph. The engine keeps no state between calls, every call works on its own
+     * {@link LayoutContext}, so one instance can serve several threads at the same time.
+     *
+     * @return the context holding the coordinates of the finished run. If the layout was found in the cache, the
+     * context only holds the converter and the coordinates.
+     */
+    public LayoutContext lDrawing(IGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        LayoutContext context = new LayoutContext();
+
+        context.startPhase();
+        GraphFingerprint fingerprint = cache == null ? null : GraphFingerprint.of(graph);
+        if(fingerprint != null && lookUp(context, graph, fingerprint))
+            return context;
+        context.setGraphConverter(new GraphConverter(graph));
+        layout(context, context.getGraphConverter().getConvertedGraph());
+        if(fingerprint != null)
+            store(context, graph, fingerprint);
+        return context;
+    }
 
-        int numberTimeSamples = 100;
-        double[] firstTimes = new double[numberTimeSamples];
-        double[] secondTimes = new double[numberTimeSamples];
-        double[] thirdTimes = new double[numberTimeSamples];
-        double[] fourthTimes = new double[numberTimeSamples];
-        double[] fifthTimes = new double[numberTimeSamples];
-
-        for(int i = 0; i < numberTimeSamples+1; i++) {
-            TimeMeasurement.reset();
-
-            TimeMeasurement.startMeasure(this);
-            this.initialGraph = graph;
-            this.checkIfLDrawingPossible(initialGraph);
-            this.convertedGraph = GraphConverter.createGraphConverter(graph).getConvertedGraph();
-            Augmentation.createAugmentation(convertedGraph);
-            calculateSourceAndTarget();
-            firstTimes[i % numberTimeSamples] = TimeMeasurement.endMeasure(this);
-
-            TimeMeasurement.startMeasure(this);
-            this.augmentGraphWithNewSource();
-            this.tcTree = new TCTree<>(convertedGraph, backEdge);
-            AbstractPertinentGraph.tcTree = tcTree;
-            AbstractPertinentGraph.pertinentGraphsOfTCTreeNodes = new HashMap<>();
-            NodesPostOrder.createNodesPostOrder(tcTree);
-            secondTimes[i % numberTimeSamples] = TimeMeasurement.endMeasure(this);
-
-            TimeMeasurement.startMeasure(this);
-            for (TCTreeNode<DirectedEdge, Vertex> node : NodesPostOrder.getNodesPostOrder()) {
-                switch (node.getType()) {
-                    case TYPE_Q:
-                        new QPertinentGraph(node);
-                        break;
-                    case TYPE_S:
-                        new SPertinentGraph(node);
-                        break;
-                    case TYPE_P:
-                        new PPertinentGraph(node);
-                        break;
-                    case TYPE_R:
-                        new RPertinentGraph(node);
-                        break;
-                }
-            }
-            thirdTimes[i % numberTimeSamples] = TimeMeasurement.endMeasure(this);
-
-            TimeMeasurement.startMeasure(this);
-            GraphEmbedding.createEmbedding(convertedGraph);
-            AbstractPertinentGraph.pertinentGraphsOfTCTreeNodes.get(tcTree.getRoot()).reconstructOutgoingEmbedding();
-            AbstractPertinentGraph.pertinentGraphsOfTCTreeNodes.get(tcTree.getRoot()).reconstructIncomingEmbedding();
-            fourthTimes[i % numberTimeSamples] = TimeMeasurement.endMeasure(this);
-
-            TimeMeasurement.startMeasure(this);
-            STOrdering.createSTOrdering(convertedGraph, source);
-            Augmentation.getAugmentation().removeAugmentedParts();
-            XCoordinates.createCoordinates(convertedGraph);
-            YCoordinates.createCoordinates(convertedGraph);
-            fifthTimes[i % numberTimeSamples] = TimeMeasurement.endMeasure(this);
-        }
+    /**
+     * Lays out a graph that is already given in the decomposition representation, e.g. as read by
+     * {@link main.java.algorithm.io.GraphMLReader}, without any yFiles model. The coordinates are keyed by the vertices
+     * of the given graph. The graph is augmented during the run and restored to its original vertices and edges
+     * afterwards, also if the run fails.
+     *
+     * @return the context holding the coordinates of the finished run, it has no {@link GraphConverter}.
+     */
+    public LayoutContext lDrawing(MultiDirectedGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
 
-        double firstTime = 0;
-        double secondTime = 0;
-        double thirdTime = 0;
-        double fourthTime = 0;
-        double fifthTime = 0;
-
-        for(int i = 0; i < numberTimeSamples; i++){
-            firstTime += firstTimes[i];
-            secondTime += secondTimes[i];
-            thirdTime += thirdTimes[i];
-            fourthTime += fourthTimes[i];
-            fifthTime += fifthTimes[i];
-        }
+        LayoutContext context = new LayoutContext();
+
+        context.startPhase();
+        return layout(context, graph);
+    }
+
+    /**
+     * Lays out a graph read from a file. Unlike {@link #lDrawing(MultiDirectedGraph)}, the order of the file is known,
+     * so the cache is used if there is one.
+     *
+     * @return the context holding the coordinates keyed by the vertices of the reader. If the layout was found in the
+     * cache, the context only holds the coordinates.
+     */
+    public LayoutContext lDrawing(GraphReader reader) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        if(cache == null)
+            return lDrawing(reader.getGraph());
+
+        LayoutContext context = new LayoutContext();
+
+        context.startPhase();
+        GraphFingerprint fingerprint = GraphFingerprint.of(reader.getVertices(), reader.getEdges());
+        LayoutCache.Coordinates coordinates = cache.get(fingerprint);
+        if(coordinates != null)
+            return cached(context, reader.getVertices(), coordinates);
+        layout(context, reader.getGraph());
+        cache.put(fingerprint, coordinates(context, reader.getVertices()));
+        return context;
+    }
 
-        firstTime /= (double) numberTimeSamples;
-        secondTime /= (double) numberTimeSamples;
-        thirdTime /= (double) numberTimeSamples;
-        fourthTime /= (double) numberTimeSamples;
-        fifthTime /= (double) numberTimeSamples;
+    /**
+     * Checks whether the graph admits a L-Drawing. All steps of {@link #lDrawing(MultiDirectedGraph)} are run, the
+     * embedding and the coordinates included, because the embedding of some graphs which pass the type determination
+     * cannot be completed. So the check fails exactly if the layout fails, with the same exception. Only the result is
+     * dropped and not published. The graph is restored afterwards, also if the check fails.
+     *
+     * @throws GraphConditionsException if the graph does not fulfill the preconditions.
+     * @throws LDrawingNotPossibleException if a pertinent graph does not admit a L-Drawing.
+     */
+    public void checkFeasibility(MultiDirectedGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        LayoutContext context = new LayoutContext();
+
+        context.startPhase();
+        layout(context, graph, false);
+    }
 
-        LOGGER.debug("1. " + firstTime);
-        LOGGER.debug("2. " + secondTime);
-        LOGGER.debug("3. " + thirdTime);
-        LOGGER.debug("4. " + fourthTime);
-        LOGGER.debug("5. " + fifthTime);
+    /**
+     * @return true if the graph admits a L-Drawing, see {@link #checkFeasibility}.
+     */
+    public boolean isFeasible(MultiDirectedGraph graph){
+        try {
+            checkFeasibility(graph);
+            return true;
+        } catch (GraphConditionsException | LDrawingNotPossibleException e) {
+            LOGGER.debug("Graph does not admit a L-Drawing: " + e.getMessage());
+            return false;
+        }
     }
 
+    public boolean isFeasible(IGraph graph){
+        return isFeasible(new GraphConverter(graph).getConvertedGraph());
+    }
 
-    public void checkIfLDrawingPossible(IGraph graph) throws GraphConditionsException {
+    /**
+     * Checks many graphs at once, in parallel on the common pool. The graphs must be distinct. A graph whose check fails
+     * unexpectedly, e.g. with a non-planar skeleton, is logged and counted as not admitting a L-Drawing, so one graph
+     * does not stop the batch.
+     *
+     * @return for every graph in the order of the list whether it admits a L-Drawing.
+     */
+    public boolean[] isFeasible(List<MultiDirectedGraph> graphs){
+        boolean[] feasible = new boolean[graphs.size()];
+        IntStream.range(0, graphs.size()).parallel().forEach(i -> {
+            try {
+                feasible[i] = isFeasible(graphs.get(i));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Feasibility check of graph " + i + " failed.", e);
+            }
+        });
+        return feasible;
+    }
 
-        YGraphAdapter graphAdapter = new YGraphAdapter(graph);
-        if(initialGraph.getNodes().size() < 2)
-            throw new GraphConditionsException("The input graph contains less than two nodes. Please add nodes to the graph until it contains at least two nodes.");
-        if(initialGraph.getEdges().size() < 1)
-            throw new GraphConditionsException("The input graph contains no edges. Please add edges to the graph until it contains at least one edges.");
-        if(!GraphChecker.isConnected(graphAdapter.getYGraph()))
-            throw new GraphConditionsException("The input graph is not connected. Please connect all nodes of the graph to a biconnected graph.");
-        if(GraphChecker.isCyclic(graphAdapter.getYGraph()))
-            throw new GraphConditionsException("The input graph is cyclic. Please remove or change edges to make the graph acyclic.");
-        if(!GraphChecker.isPlanar(graphAdapter.getYGraph()))
-            throw new GraphConditionsException("The input graph is not planar. Please make sure the graph admits a planar embedding.");
+    LayoutCache getCache() {
+        return cache;
     }
 
 
-    private void augmentGraphWithNewSource(){
+    /**
+     * Converts the graph and sets the cached coordinates of the fingerprint, if there are any.
+     * @return false if the layout is not cached.
+     */
+    boolean lookUp(LayoutContext context, IGraph graph, GraphFingerprint fingerprint){
 
-        Vertex newSource = convertedGraph.addVertex(new Vertex("s'"));
-        DirectedEdge augmentedE1 = convertedGraph.addEdge(newSource, source);
-        DirectedEdge augmentedE2 = convertedGraph.addEdge(newSource, target);
-        DirectedEdge augmentedE3 = backEdge = convertedGraph.addEdge(newSource, target);
-        source = newSource;
+        LayoutCache.Coordinates coordinates = cache.get(fingerprint);
+        if(coordinates == null)
+            return false;
+        context.setGraphConverter(new GraphConverter(graph));
+        cached(context, verticesOfNodes(context.getGraphConverter(), graph), coordinates);
+        return true;
+    }
 
-        Augmentation.getAugmentation().setAugmentedSource(newSource);
-        Augmentation.getAugmentation().getAugmentedEdges().add(augmentedE1);
-        Augmentation.getAugmentation().getAugmentedEdges().add(augmentedE2);
-        Augmentation.getAugmentation().getAugmentedEdges().add(augmentedE3);
+    void store(LayoutContext context, IGraph graph, GraphFingerprint fingerprint){
+        cache.put(fingerprint, coordinates(context, verticesOfNodes(context.getGraphConverter(), graph)));
     }
 
+    private static LayoutContext cached(LayoutContext context, List<Vertex> vertices, LayoutCache.Coordinates coordinates){
 
-    private void calculateSourceAndTarget() throws GraphConditionsException {
+        context.setLayoutResult(new LayoutResult(vertices, coordinates.getX(), coordinates.getY()));
+        context.endPhase(LayoutPhase.PREPARATION);
+        LOGGER.debug("Layout of " + vertices.size() + " vertices taken from the cache.");
+
+        LayoutContext.publish(context);
+        return context;
+    }
 
-        Set<Vertex> sources = convertedGraph.vertexSet();
-        Set<Vertex> targets = convertedGraph.vertexSet();
+    private static LayoutCache.Coordinates coordinates(LayoutContext context, List<Vertex> vertices){
 
-        for(DirectedEdge edge : convertedGraph.getEdges()){
-            sources.remove(edge.getTarget());
-            targets.remove(edge.getSource());
+        LayoutResult layoutResult = context.getLayoutResult();
+        int[] x = new int[vertices.size()];
+        int[] y = new int[vertices.size()];
+        for(int i = 0; i < x.length; i++){
+            int ordinal = layoutResult.getOrdinal(vertices.get(i), i);
+            x[i] = layoutResult.getX(ordinal);
+            y[i] = layoutResult.getY(ordinal);
         }
+        return new LayoutCache.Coordinates(x, y);
+    }
+
+    /**
+     * @return the converted vertices in the order of the nodes of the graph, which is the order of the fingerprint.
+     */
+    private static List<Vertex> verticesOfNodes(GraphConverter converter, IGraph graph){
+        List<Vertex> vertices = new ArrayList<>(graph.getNodes().size());
+        for(INode node : graph.getNodes())
+            vertices.add(converter.getOrigV2ConvV().get(node));
+        return vertices;
+    }
+
+
+    private LayoutContext layout(LayoutContext context, MultiDirectedGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
 
-        if(sources.size() != 1) {
-            throw new GraphConditionsException("The input graph contains more than one source. Please add edges to the graph until it contains exactly one source.");
+        layout(context, graph, false);
+        LayoutContext.publish(context);
+        return context;
+    }
+
+    /**
+     * Runs all steps of the pipeline on the graph. The preparation phase has to be started on the context by the caller.
+     * All objects of the run are numbered from the sequence of the graph, so the result does not depend on earlier
+     * runs in the process.
+     *
+     * @param keepAugmentation if true, the augmentation stays in the graph, so the decomposition of the augmented graph
+     *                         can be updated later, see {@link IncrementalLDrawing}.
+     */
+    void layout(LayoutContext context, MultiDirectedGraph graph, boolean keepAugmentation) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        IdSequence.Scope scope = graph.getIdSequence().enter();
+        try {
+            run(context, graph, keepAugmentation);
+        } finally {
+            scope.close();
         }
-        if(targets.size() != 1) {
-            throw new GraphConditionsException("The input graph contains more than one target. Please add edges to the graph until it contains exactly one target.");
+    }
+
+    private void run(LayoutContext context, MultiDirectedGraph graph, boolean keepAugmentation) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        LOGGER.debug("Amount of nodes: " + graph.getVertices().size());
+        LOGGER.debug("Amount of edges: " + graph.getEdges().size());
+
+        GraphValidator validator = new GraphValidator(graph);
+        context.setAugmentation(new Augmentation(graph));
+        context.setSource(validator.getSource());
+        context.setTarget(validator.getTarget());
+        context.endPhase(LayoutPhase.PREPARATION);
+
+        context.startPhase();
+        this.augmentGraphWithNewSource(context);
+        boolean placed = false;
+        try {
+            context.setTcTree(new TCTree<>(context.getGraph(), context.getBackEdge()));
+            context.setNodesPostOrder(new NodesPostOrder(context.getTcTree()));
+            context.endPhase(LayoutPhase.DECOMPOSITION);
+
+            context.startPhase();
+            new TypeDetermination(context).run();
+            context.endPhase(LayoutPhase.TYPE_DETERMINATION);
+
+            place(context, graph);
+            placed = true;
+        } finally {
+            // a failed run always restores the graph of the caller
+            if(!keepAugmentation || !placed)
+                context.getAugmentation().removeAugmentedParts();
         }
-        this.source = sources.iterator().next();
-        this.target = targets.iterator().next();
 
+        for(LayoutPhase phase : LayoutPhase.values())
+            LOGGER.debug((phase.ordinal()+1) + ". " + context.getPhaseTime(phase));
+    }
+
+    /**
+     * Embeds the augmented graph along the pertinent graphs and computes the coordinates. The coordinates are computed
+     * on snapshots of the graph, so the augmentation may be removed afterwards.
+     */
+    void place(LayoutContext context, MultiDirectedGraph graph){
+
+        context.startPhase();
+        context.setGraphEmbedding(new GraphEmbedding(context.getGraph()));
+        AbstractPertinentGraph rootPert = context.getPertinentGraphsOfTCTreeNodes().get(context.getTcTree().getRoot());
+        rootPert.reconstructOutgoingEmbedding();
+        rootPert.reconstructIncomingEmbedding();
+        context.endPhase(LayoutPhase.EMBEDDING);
+
+        context.startPhase();
+        List<Vertex> vertices = new ArrayList<>(graph.getVertices());
+        CSRGraph csrGraph = new CSRGraph(vertices, graph::getOutgoingEdgeSet, graph::getIncomingEdgeSet);
+        CSRGraph embeddedGraph = context.getGraphEmbedding().toCSRGraph(vertices);
+        context.setSTOrdering(new STOrdering(csrGraph, csrGraph.getIndex(context.getSource())));
+        context.setXCoordinates(new XCoordinates(embeddedGraph, context.getSTOrdering()));
+        context.setYCoordinates(new YCoordinates(csrGraph, context.getSTOrdering()));
+        context.setLayoutResult(new LayoutResult(vertices, context.getXCoordinates().getCoordinates(), context.getYCoordinates().getCoordinates()));
+        context.endPhase(LayoutPhase.COORDINATES);
+    }
+
+
+    private void augmentGraphWithNewSource(LayoutContext context){
+
+        MultiDirectedGraph convertedGraph = context.getGraph();
+        Vertex newSource = convertedGraph.addVertex(new Vertex("s'"));
+        DirectedEdge augmentedE1 = convertedGraph.addEdge(newSource, context.getSource());
+        DirectedEdge augmentedE2 = convertedGraph.addEdge(newSource, context.getTarget());
+        DirectedEdge augmentedE3 = convertedGraph.addEdge(newSource, context.getTarget());
+        context.setBackEdge(augmentedE3);
+        context.setSource(newSource);
+
+        Augmentation augmentation = context.getAugmentation();
+        augmentation.setAugmentedSource(newSource);
+        augmentation.getAugmentedEdges().add(augmentedE1);
+        augmentation.getAugmentedEdges().add(augmentedE2);
+        augmentation.getAugmentedEdges().add(augmentedE3);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package main.java.algorithm;
+
+import com.yworks.yfiles.graph.IGraph;
+import main.java.algorithm.exception.GraphConditionsException;
+import main.java.algorithm.exception.LDrawingNotPossibleException;
+import main.java.algorithm.types.LayoutPhase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Opt-in profiling mode of the L-Drawing pipeline. Runs the pipeline a number of warm-up iterations that are thrown
+ * away, followed by measured iterations, and reports percentiles of the time spent in every {@link LayoutPhase}.
+ */
+public class LDrawingProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDrawingProfiler.class);
+
+    private final LDrawing lDrawing;
+    private final int warmUpIterations;
+    private final int measuredIterations;
+
+
+    public LDrawingProfiler(int warmUpIterations, int measuredIterations){
+        this(new LDrawing(), warmUpIterations, measuredIterations);
+    }
+
+    public LDrawingProfiler(LDrawing lDrawing, int warmUpIterations, int measuredIterations){
+        if(warmUpIterations < 0 || measuredIterations < 1)
+            throw new IllegalArgumentException("Profiling needs at least one measured iteration and a non-negative number of warm-up iterations.");
+        this.lDrawing = lDrawing;
+        this.warmUpIterations = warmUpIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+
+    public Report profile(IGraph graph) throws GraphConditionsException, LDrawingNotPossibleException {
+
+        for(int i = 0; i < warmUpIterations; i++)
+            lDrawing.lDrawing(graph);
+
+        double[][] samples = new double[LayoutPhase.values().length][measuredIterations];
+        for(int i = 0; i < measuredIterations; i++){
+            LayoutContext context = lDrawing.lDrawing(graph);
+            for(LayoutPhase phase : LayoutPhase.values())
+                samples[phase.ordinal()][i] = context.getPhaseTime(phase);
+        }
+
+        Report report = new Report(samples);
+        LOGGER.info("Profiled " + measuredIterations + " runs after " + warmUpIterations + " warm-up runs:\n" + report);
+        return report;
+    }
+
+
+
+    /**
+     * Sorted time samples in milliseconds of every phase.
+     */
+    public static class Report {
+
+        private final double[][] samples;
+
+        private Report(double[][] samples){
+            this.samples = samples;
+            for(double[] phaseSamples : samples)
+                Arrays.sort(phaseSamples);
+        }
+
+        /**
+         * Nearest-rank percentile of the samples of the given phase.
+         * @param percentile value in (0, 100].
+         */
+        public double getPercentile(LayoutPhase phase, double percentile){
+            double[] phaseSamples = samples[phase.ordinal()];
+            int rank = (int) Math.ceil(percentile / 100.0 * phaseSamples.length);
+            return phaseSamples[Math.min(Math.max(rank, 1), phaseSamples.length) - 1];
+        }
+
+        public double getMax(LayoutPhase phase){
+            double[] phaseSamples = samples[phase.ordinal()];
+            return phaseSamples[phaseSamples.length - 1];
+        }
+
+        public double getMean(LayoutPhase phase){
+            double sum = 0;
+            for(double sample : samples[phase.ordinal()])
+                sum += sample;
+            return sum / samples[phase.ordinal()].length;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("%-20s %9s %9s %9s %9s %9s%n", "phase [ms]", "mean", "p50", "p90", "p99", "max"));
+            for(LayoutPhase phase : LayoutPhase.values()){
+                builder.append(String.format("%-20s %9.3f %9.3f %9.3f %9.3f %9.3f%n", phase, getMean(phase),
+                        getPercentile(phase, 50), getPercentile(phase, 90), getPercentile(phase, 99), getMax(phase)));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package main.java.algorithm;
+
+import main.java.algorithm.utils.GraphFingerprint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coordinates of finished runs keyed by the {@link GraphFingerprint} of their input, so a graph that is laid out again
+ * does not need to be decomposed. The coordinates are kept in the order of the vertices the fingerprint was built from.
+ * Holds at most the given number of layouts and evicts the least recently used one. Only successful runs are cached.
+ *
+ * The cache is synchronized, one instance can be shared by several {@link LDrawing} instances and threads.
+ */
+public class LayoutCache {
+
+    private final int capacity;
+    private final Map<GraphFingerprint, Coordinates> layouts;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+
+    public LayoutCache(int capacity){
+        if(capacity < 1)
+            throw new IllegalArgumentException("The cache has to hold at least one layout.");
+        this.capacity = capacity;
+        this.layouts = new LinkedHashMap<GraphFingerprint, Coordinates>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GraphFingerprint, Coordinates> eldest){
+                if(size() <= LayoutCache.this.capacity)
+                    return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+
+    /**
+     * @return the coordinates stored for the fingerprint or null, counted as hit or miss.
+     */
+    public synchronized Coordinates get(GraphFingerprint fingerprint){
+        Coordinates coordinates = layouts.get(fingerprint);
+        if(coordinates == null)
+            misses++;
+        else
+            hits++;
+        return coordinates;
+    }
+
+    public synchronized void put(GraphFingerprint fingerprint, Coordinates coordinates){
+        if(coordinates.getX().length != fingerprint.getVertexCount())
+            throw new IllegalArgumentException("The coordinates do not match the number of vertices of the graph.");
+        layouts.put(fingerprint, coordinates);
+    }
+
+    public synchronized void clear(){
+        layouts.clear();
+    }
+
+
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return layouts.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the share of lookups that were hits, 0 if there was no lookup.
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d of %d layouts cached, %d hits, %d misses, %d evictions", layouts.size(), capacity, hits, misses, evictions);
+    }
+
+
+
+    /**
+     * x and y coordinates of the vertices, indexed by their position in the order of the fingerprint. The y coordinates
+     * grow upwards, as computed by the engine. The arrays are shared by all hits and must not be changed.
+     */
+    public static class Coordinates {
+
+        private final int[] x;
+        private final int[] y;
+
+        public Coordinates(int[] x, int[] y){
+            if(x.length != y.length)
+                throw new IllegalArgumentException("Every vertex needs a x and a y coordinate.");
+            this.x = x;
+            this.y = y;
+        }
+
+        public int[] getX() {
+            return x;
+        }
+
+        public int[] getY() {
+            return y;
+        }
+    }
+}
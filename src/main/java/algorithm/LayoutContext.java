@@ -0,0 +1,189 @@
+package main.java.algorithm;
+
+import main.java.algorithm.embedding.GraphEmbedding;
+import main.java.algorithm.typeDetermination.AbstractPertinentGraph;
+import main.java.algorithm.types.LayoutPhase;
+import main.java.algorithm.utils.Augmentation;
+import main.java.algorithm.utils.GraphConverter;
+import main.java.algorithm.utils.NodesPostOrder;
+import main.java.algorithm.utils.STOrdering;
+import main.java.algorithm.utils.coordinates.XCoordinates;
+import main.java.algorithm.utils.coordinates.YCoordinates;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.TCTree;
+import main.java.decomposition.spqrTree.TCTreeNode;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State of a single run of the L-Drawing pipeline. Every run of {@link LDrawing} owns its own context, so several
+ * graphs can be laid out at the same time. The most recently finished context is published for the static accessors
+ * of the pipeline classes.
+ */
+public class LayoutContext {
+
+    private static volatile LayoutContext lastContext;
+
+    private GraphConverter graphConverter;
+    private Augmentation augmentation;
+    private TCTree<DirectedEdge, Vertex> tcTree;
+    private Map<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> pertinentGraphsOfTCTreeNodes = new ConcurrentHashMap<>();
+    private NodesPostOrder nodesPostOrder;
+    private GraphEmbedding graphEmbedding;
+    private STOrdering stOrdering;
+    private XCoordinates xCoordinates;
+    private YCoordinates yCoordinates;
+    private LayoutResult layoutResult;
+
+    private DirectedEdge backEdge;
+    private Vertex source;
+    private Vertex target;
+
+    private double[] phaseTimes = new double[LayoutPhase.values().length];
+    private long phaseStart;
+
+
+    public static LayoutContext getLastContext() {
+        return lastContext;
+    }
+
+    static void publish(LayoutContext context) {
+        lastContext = context;
+    }
+
+
+
+    public MultiDirectedGraph getGraph() {
+        return augmentation.getAugmentedGraph();
+    }
+
+    public GraphConverter getGraphConverter() {
+        return graphConverter;
+    }
+
+    public Augmentation getAugmentation() {
+        return augmentation;
+    }
+
+    public TCTree<DirectedEdge, Vertex> getTcTree() {
+        return tcTree;
+    }
+
+    public Map<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> getPertinentGraphsOfTCTreeNodes() {
+        return pertinentGraphsOfTCTreeNodes;
+    }
+
+    public NodesPostOrder getNodesPostOrder() {
+        return nodesPostOrder;
+    }
+
+    public GraphEmbedding getGraphEmbedding() {
+        return graphEmbedding;
+    }
+
+    public STOrdering getSTOrdering() {
+        return stOrdering;
+    }
+
+    public XCoordinates getXCoordinates() {
+        return xCoordinates;
+    }
+
+    public YCoordinates getYCoordinates() {
+        return yCoordinates;
+    }
+
+    /**
+     * @return the coordinates of the finished run by vertex ordinal. Unlike {@link #getXCoordinates()} and
+     * {@link #getYCoordinates()}, it is also set if the layout was taken from the cache.
+     */
+    public LayoutResult getLayoutResult() {
+        return layoutResult;
+    }
+
+    public DirectedEdge getBackEdge() {
+        return backEdge;
+    }
+
+    public Vertex getSource() {
+        return source;
+    }
+
+    public Vertex getTarget() {
+        return target;
+    }
+
+    /**
+     * @return time in milliseconds the given phase took in this run.
+     */
+    public double getPhaseTime(LayoutPhase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
+
+
+    void setGraphConverter(GraphConverter graphConverter) {
+        this.graphConverter = graphConverter;
+    }
+
+    void setAugmentation(Augmentation augmentation) {
+        this.augmentation = augmentation;
+    }
+
+    void setTcTree(TCTree<DirectedEdge, Vertex> tcTree) {
+        this.tcTree = tcTree;
+    }
+
+    void setNodesPostOrder(NodesPostOrder nodesPostOrder) {
+        this.nodesPostOrder = nodesPostOrder;
+    }
+
+    void setGraphEmbedding(GraphEmbedding graphEmbedding) {
+        this.graphEmbedding = graphEmbedding;
+    }
+
+    void setSTOrdering(STOrdering stOrdering) {
+        this.stOrdering = stOrdering;
+    }
+
+    void setXCoordinates(XCoordinates xCoordinates) {
+        this.xCoordinates = xCoordinates;
+    }
+
+    void setYCoordinates(YCoordinates yCoordinates) {
+        this.yCoordinates = yCoordinates;
+    }
+
+    void setLayoutResult(LayoutResult layoutResult) {
+        this.layoutResult = layoutResult;
+    }
+
+    void setBackEdge(DirectedEdge backEdge) {
+        this.backEdge = backEdge;
+    }
+
+    void setSource(Vertex source) {
+        this.source = source;
+    }
+
+    void setTarget(Vertex target) {
+        this.target = target;
+    }
+
+    /**
+     * Starts measuring the next phase. The start is kept on the context, so a run that fails leaves nothing behind.
+     */
+    void startPhase() {
+        this.phaseStart = System.nanoTime();
+    }
+
+    /**
+     * Sets the time since the last {@link #startPhase()} as time of the given phase.
+     */
+    void endPhase(LayoutPhase phase) {
+        this.phaseTimes[phase.ordinal()] = (System.nanoTime() - phaseStart) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,157 @@
+package main.java.algorithm;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coordinates of a finished run in dense arrays indexed by the ordinal of the vertex, i.e. its position in the graph
+ * that was laid out. A consumer that visits the vertices in this order reads the coordinates without any lookup, every
+ * other consumer finds the ordinal of a vertex by {@link #getOrdinal(Vertex)}. The y coordinates grow upwards, as
+ * computed by the engine.
+ *
+ * Optionally the result holds the two bends of every edge, four values x1, y1, x2, y2 per edge ordinal in the same
+ * orientation, e.g. as read from a binary graph file. The arrays are shared and must not be changed.
+ */
+public class LayoutResult {
+
+    private final List<Vertex> vertices;
+    private final int[] x;
+    private final int[] y;
+    private final List<DirectedEdge> edges;
+    private final int[] bends;
+
+    // built on the first lookup, consumers that go by ordinal never need them
+    private volatile Map<Vertex, Integer> vertexOrdinals = null;
+    private volatile Map<DirectedEdge, Integer> edgeOrdinals = null;
+
+
+    public LayoutResult(List<Vertex> vertices, int[] x, int[] y){
+        this(vertices, x, y, null, null);
+    }
+
+    /**
+     * @param edges the edges in the order of the bends, or null if there are no bends.
+     * @param bends four values per edge, or null.
+     */
+    public LayoutResult(List<Vertex> vertices, int[] x, int[] y, List<DirectedEdge> edges, int[] bends){
+        if(x.length != vertices.size() || y.length != vertices.size())
+            throw new IllegalArgumentException("Every vertex needs a x and a y coordinate.");
+        if((edges == null) != (bends == null) || bends != null && bends.length != 4 * edges.size())
+            throw new IllegalArgumentException("Every edge needs two bends.");
+        this.vertices = vertices;
+        this.x = x;
+        this.y = y;
+        this.edges = edges;
+        this.bends = bends;
+    }
+
+
+
+    public int getVertexCount() {
+        return vertices.size();
+    }
+
+    public Vertex getVertex(int ordinal) {
+        return vertices.get(ordinal);
+    }
+
+    /**
+     * @return the ordinal of the vertex, or -1 if it was not laid out.
+     */
+    public int getOrdinal(Vertex vertex) {
+        Map<Vertex, Integer> ordinals = vertexOrdinals;
+        if(ordinals == null){
+            ordinals = new HashMap<>(2 * vertices.size());
+            for(int i = 0; i < vertices.size(); i++)
+                ordinals.put(vertices.get(i), i);
+            vertexOrdinals = ordinals;
+        }
+        Integer ordinal = ordinals.get(vertex);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @param position the ordinal the vertex is expected to have, e.g. its position in the list the graph was built
+     *                 from, which saves the lookup if it is right.
+     * @return the ordinal of the vertex, or -1 if it was not laid out.
+     */
+    public int getOrdinal(Vertex vertex, int position) {
+        if(position >= 0 && position < vertices.size() && vertices.get(position) == vertex)
+            return position;
+        return getOrdinal(vertex);
+    }
+
+    public int getX(int ordinal) {
+        return x[ordinal];
+    }
+
+    public int getY(int ordinal) {
+        return y[ordinal];
+    }
+
+    public int getX(Vertex vertex) {
+        return x[ordinalOf(vertex)];
+    }
+
+    public int getY(Vertex vertex) {
+        return y[ordinalOf(vertex)];
+    }
+
+    public int[] getX() {
+        return x;
+    }
+
+    public int[] getY() {
+        return y;
+    }
+
+    public boolean hasBends() {
+        return bends != null;
+    }
+
+    /**
+     * @return the ordinal of the edge in the bends, or -1 if there are no bends for it.
+     */
+    public int getEdgeOrdinal(DirectedEdge edge) {
+        if(edges == null)
+            return -1;
+        Map<DirectedEdge, Integer> ordinals = edgeOrdinals;
+        if(ordinals == null){
+            ordinals = new HashMap<>(2 * edges.size());
+            for(int i = 0; i < edges.size(); i++)
+                ordinals.put(edges.get(i), i);
+            edgeOrdinals = ordinals;
+        }
+        Integer ordinal = ordinals.get(edge);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @param position the ordinal the edge is expected to have, see {@link #getOrdinal(Vertex, int)}.
+     * @return the ordinal of the edge in the bends, or -1 if there are no bends for it.
+     */
+    public int getEdgeOrdinal(DirectedEdge edge, int position) {
+        if(edges != null && position >= 0 && position < edges.size() && edges.get(position) == edge)
+            return position;
+        return getEdgeOrdinal(edge);
+    }
+
+    /**
+     * @return the bends, x1, y1, x2, y2 of the edge with ordinal i at 4 * i, or null.
+     */
+    public int[] getBends() {
+        return bends;
+    }
+
+
+    private int ordinalOf(Vertex vertex){
+        int ordinal = getOrdinal(vertex);
+        if(ordinal < 0)
+            throw new IllegalArgumentException("The vertex " + vertex + " was not laid out.");
+        return ordinal;
+    }
+}
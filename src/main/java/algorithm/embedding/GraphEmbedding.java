@@ -1,5 +1,7 @@
 package main.java.algorithm.embedding;
 
+import main.java.algorithm.LayoutContext;
+import main.java.decomposition.graph.CSRGraph;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
 import main.java.decomposition.hyperGraph.Vertex;
@@ -10,20 +12,17 @@ public class GraphEmbedding{
 
     private Map<Vertex, List<DirectedEdge>> outgoingEdges = new HashMap<>();
     private Map<Vertex, List<DirectedEdge>> incomingEdges = new HashMap<>();
-    //Singleton
-    private static GraphEmbedding singleton;
 
+    /**
+     * @return the embedding of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
     public static GraphEmbedding getEmbedding(){
-        return singleton;
-    }
-
-    public static GraphEmbedding createEmbedding(MultiDirectedGraph graph){
-        singleton = new GraphEmbedding(graph);
-        return singleton;
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getGraphEmbedding();
     }
 
 
-    private GraphEmbedding(MultiDirectedGraph graph){
+    public GraphEmbedding(MultiDirectedGraph graph){
         for(Vertex vertex : graph.getVertices()){
             outgoingEdges.put(vertex, new ArrayList<>());
             incomingEdges.put(vertex, new ArrayList<>());
@@ -37,4 +36,12 @@ public class GraphEmbedding{
     public List<DirectedEdge> getIncomingEdges(Vertex vertex) {
         return incomingEdges.get(vertex);
     }
+
+    /**
+     * @param vertices the vertices of the embedded graph, they are numbered in this order.
+     * @return the embedded graph with the outgoing and incoming edges of every vertex ordered from left to right.
+     */
+    public CSRGraph toCSRGraph(List<Vertex> vertices){
+        return new CSRGraph(vertices, this::getOutgoingEdges, this::getIncomingEdges);
+    }
 }
\ No newline at end of file
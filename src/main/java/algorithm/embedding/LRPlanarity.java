@@ -0,0 +1,707 @@
+package main.java.algorithm.embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Linear time left-right planarity test (U. Brandes, "The Left-Right Planarity Test", 2009) on an int indexed
+ * undirected multigraph. Vertices are 0..vertexCount-1, edge i connects edgeSources[i] and edgeTargets[i]; the
+ * direction of the edges is ignored. Self loops and parallel edges do not influence planarity and are skipped.
+ *
+ * If requested, a planar embedding is computed as well. It is given as rotation system over darts: dart 2i runs from
+ * edgeSources[i] to edgeTargets[i], dart 2i+1 is its reverse. The faces follow the rotation, the dart after d in a
+ * face is the successor of the reverse of d in the rotation at the head of d. Parallel edges are embedded next to
+ * each other, so every pair of them bounds a face of size two.
+ *
+ * All depth-first searches are iterative, so the size of the graph is not limited by the call stack.
+ */
+public class LRPlanarity {
+
+    private static final int NONE = -1;
+
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+
+    //undirected adjacency in compressed form
+    private int[] adjacencyStart;
+    private int[] adjacency;
+    private boolean[] skipped;
+    private int[] representative;
+
+    //dfs orientation
+    private int[] height;
+    private int[] parentEdge;
+    private int[] roots;
+    private int rootCount;
+    private int[] orientedSource;
+    private int[] orientedTarget;
+    private int[] lowpt;
+    private int[] lowpt2;
+    private int[] nestingDepth;
+
+    //state of the iterative depth-first searches, shared by all roots
+    private int[] dfsStack;
+    private int[] dfsPosition;
+    private boolean[] dfsReturning;
+
+    //outgoing edges of the orientation ordered by nesting depth
+    private int[] outgoingStart;
+    private int[] outgoing;
+
+    //testing
+    private int[] ref;
+    private int[] side;
+    private int[] lowptEdge;
+    private int[] stackBottom;
+
+    //stack of conflict pairs, every pair consists of a left and a right interval of return edges
+    private int[] leftLow;
+    private int[] leftHigh;
+    private int[] rightLow;
+    private int[] rightHigh;
+    private int conflictStackSize;
+
+    //embedding, the darts around a vertex form a circular list
+    private int[] leftRef;
+    private int[] rightRef;
+    private int[] firstDart;
+    private int[] nextDart;
+    private int[] previousDart;
+
+    private boolean planar;
+
+
+    public LRPlanarity(int vertexCount, int[] edgeSources, int[] edgeTargets){
+        this(vertexCount, edgeSources, edgeTargets, false);
+    }
+
+    /**
+     * @param embed whether a planar embedding is computed if the graph is planar.
+     */
+    public LRPlanarity(int vertexCount, int[] edgeSources, int[] edgeTargets, boolean embed){
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeSources.length;
+        this.edgeSources = edgeSources;
+        this.edgeTargets = edgeTargets;
+        this.planar = test();
+        if(planar && embed)
+            embed();
+    }
+
+    public boolean isPlanar() {
+        return planar;
+    }
+
+    public boolean isEmbedded() {
+        return nextDart != null;
+    }
+
+    /**
+     * @return the darts leaving the given vertex in the order of the rotation.
+     */
+    public int[] getRotation(int vertex){
+        checkEmbedded();
+        int degree = 0;
+        int first = firstDart[vertex];
+        if(first == NONE)
+            return new int[0];
+        int dart = first;
+        do {
+            degree++;
+            dart = nextDart[dart];
+        } while(dart != first);
+
+        int[] rotation = new int[degree];
+        for(int i = 0; i < degree; i++){
+            rotation[i] = dart;
+            dart = nextDart[dart];
+        }
+        return rotation;
+    }
+
+    /**
+     * @return the dart following the given one in the rotation at its source.
+     */
+    public int getNextDart(int dart){
+        checkEmbedded();
+        return nextDart[dart];
+    }
+
+    /**
+     * @return every face as sequence of darts.
+     */
+    public List<int[]> getFaces(){
+        checkEmbedded();
+        List<int[]> faces = new ArrayList<>();
+        boolean[] visited = new boolean[2 * edgeCount];
+        int[] face = new int[2 * edgeCount];
+        for(int start = 0; start < 2 * edgeCount; start++){
+            if(visited[start])
+                continue;
+            int size = 0;
+            for(int dart = start; !visited[dart]; dart = nextDart[dart ^ 1]){
+                visited[dart] = true;
+                face[size++] = dart;
+            }
+            faces.add(Arrays.copyOf(face, size));
+        }
+        return faces;
+    }
+
+    public static int edgeOfDart(int dart){
+        return dart >> 1;
+    }
+
+    public int getDartSource(int dart){
+        return (dart & 1) == 0 ? edgeSources[dart >> 1] : edgeTargets[dart >> 1];
+    }
+
+    public int getDartTarget(int dart){
+        return (dart & 1) == 0 ? edgeTargets[dart >> 1] : edgeSources[dart >> 1];
+    }
+
+
+
+    private boolean test(){
+
+        int simpleEdges = buildAdjacency();
+        if(vertexCount > 2 && simpleEdges > 3 * vertexCount - 6)
+            return false;
+
+        height = filled(vertexCount, NONE);
+        parentEdge = filled(vertexCount, NONE);
+        roots = new int[vertexCount];
+        orientedSource = filled(edgeCount, NONE);
+        orientedTarget = filled(edgeCount, NONE);
+        lowpt = new int[edgeCount];
+        lowpt2 = new int[edgeCount];
+        nestingDepth = new int[edgeCount];
+
+        dfsStack = new int[vertexCount + 1];
+        dfsPosition = Arrays.copyOf(adjacencyStart, vertexCount);
+        dfsReturning = new boolean[edgeCount];
+        for(int vertex = 0; vertex < vertexCount; vertex++){
+            if(height[vertex] == NONE){
+                height[vertex] = 0;
+                roots[rootCount++] = vertex;
+                orient(vertex);
+            }
+        }
+
+        sortOutgoingEdges(0);
+
+        ref = filled(edgeCount, NONE);
+        side = filled(edgeCount, 1);
+        lowptEdge = new int[edgeCount];
+        stackBottom = new int[edgeCount];
+        leftLow = new int[edgeCount + 1];
+        leftHigh = new int[edgeCount + 1];
+        rightLow = new int[edgeCount + 1];
+        rightHigh = new int[edgeCount + 1];
+
+        dfsPosition = Arrays.copyOf(outgoingStart, vertexCount);
+        dfsReturning = new boolean[edgeCount];
+        for(int i = 0; i < rootCount; i++){
+            if(!testing(roots[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Builds the adjacency and marks self loops and all but the first of parallel edges as skipped.
+     * @return number of edges which are not skipped.
+     */
+    private int buildAdjacency(){
+
+        adjacencyStart = new int[vertexCount + 1];
+        for(int edge = 0; edge < edgeCount; edge++){
+            adjacencyStart[edgeSources[edge] + 1]++;
+            adjacencyStart[edgeTargets[edge] + 1]++;
+        }
+        for(int vertex = 0; vertex < vertexCount; vertex++)
+            adjacencyStart[vertex + 1] += adjacencyStart[vertex];
+
+        adjacency = new int[2 * edgeCount];
+        int[] position = new int[vertexCount];
+        System.arraycopy(adjacencyStart, 0, position, 0, vertexCount);
+        for(int edge = 0; edge < edgeCount; edge++){
+            adjacency[position[edgeSources[edge]]++] = edge;
+            adjacency[position[edgeTargets[edge]]++] = edge;
+        }
+
+        skipped = new boolean[edgeCount];
+        representative = filled(edgeCount, NONE);
+        int[] lastSeen = filled(vertexCount, NONE);
+        int[] lastEdge = new int[vertexCount];
+        int simpleEdges = 0;
+        for(int vertex = 0; vertex < vertexCount; vertex++){
+            for(int i = adjacencyStart[vertex]; i < adjacencyStart[vertex + 1]; i++){
+                int edge = adjacency[i];
+                int neighbour = opposite(edge, vertex);
+                if(neighbour == vertex){
+                    skipped[edge] = true;
+                }else if(vertex < neighbour){
+                    if(lastSeen[neighbour] == vertex){
+                        skipped[edge] = true;
+                        representative[edge] = lastEdge[neighbour];
+                    }else{
+                        lastSeen[neighbour] = vertex;
+                        lastEdge[neighbour] = edge;
+                        simpleEdges++;
+                    }
+                }
+            }
+        }
+        return simpleEdges;
+    }
+
+
+    /**
+     * Orients the edges along a depth-first search starting at the given root and calculates the lowpoints and the
+     * nesting depth of every edge.
+     */
+    private void orient(int root){
+
+        int[] stack = dfsStack;
+        int[] position = dfsPosition;
+        boolean[] returning = dfsReturning;
+
+        int top = 0;
+        stack[top++] = root;
+        while(top > 0){
+            int vertex = stack[--top];
+            int parent = parentEdge[vertex];
+
+            for(; position[vertex] < adjacencyStart[vertex + 1]; position[vertex]++){
+                int edge = adjacency[position[vertex]];
+                if(skipped[edge])
+                    continue;
+
+                if(!returning[edge]){
+                    if(orientedSource[edge] != NONE)
+                        continue;
+                    int neighbour = opposite(edge, vertex);
+                    orientedSource[edge] = vertex;
+                    orientedTarget[edge] = neighbour;
+                    lowpt[edge] = height[vertex];
+                    lowpt2[edge] = height[vertex];
+                    if(height[neighbour] == NONE){
+                        //tree edge, continue with the neighbour and come back afterwards
+                        parentEdge[neighbour] = edge;
+                        height[neighbour] = height[vertex] + 1;
+                        returning[edge] = true;
+                        stack[top++] = vertex;
+                        stack[top++] = neighbour;
+                        break;
+                    }
+                    //back edge
+                    lowpt[edge] = height[neighbour];
+                }
+
+                nestingDepth[edge] = 2 * lowpt[edge];
+                if(lowpt2[edge] < height[vertex])
+                    nestingDepth[edge]++;
+
+                if(parent != NONE){
+                    if(lowpt[edge] < lowpt[parent]){
+                        lowpt2[parent] = Math.min(lowpt[parent], lowpt2[edge]);
+                        lowpt[parent] = lowpt[edge];
+                    }else if(lowpt[edge] > lowpt[parent]){
+                        lowpt2[parent] = Math.min(lowpt2[parent], lowpt[edge]);
+                    }else{
+                        lowpt2[parent] = Math.min(lowpt2[parent], lowpt2[edge]);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Orders the outgoing edges of every vertex by their nesting depth with a bucket sort.
+     * @param offset added to the nesting depths, needed once they are signed.
+     */
+    private void sortOutgoingEdges(int offset){
+
+        int buckets = offset + 2 * vertexCount + 2;
+        int[] bucketStart = new int[buckets + 1];
+        for(int edge = 0; edge < edgeCount; edge++){
+            if(!skipped[edge])
+                bucketStart[nestingDepth[edge] + offset + 1]++;
+        }
+        for(int depth = 0; depth < buckets; depth++)
+            bucketStart[depth + 1] += bucketStart[depth];
+
+        int[] byDepth = new int[bucketStart[buckets]];
+        for(int edge = 0; edge < edgeCount; edge++){
+            if(!skipped[edge])
+                byDepth[bucketStart[nestingDepth[edge] + offset]++] = edge;
+        }
+
+        outgoingStart = new int[vertexCount + 1];
+        for(int edge : byDepth)
+            outgoingStart[orientedSource[edge] + 1]++;
+        for(int vertex = 0; vertex < vertexCount; vertex++)
+            outgoingStart[vertex + 1] += outgoingStart[vertex];
+
+        outgoing = new int[byDepth.length];
+        int[] position = new int[vertexCount];
+        System.arraycopy(outgoingStart, 0, position, 0, vertexCount);
+        for(int edge : byDepth)
+            outgoing[position[orientedSource[edge]]++] = edge;
+    }
+
+
+    /**
+     * Second depth-first search along the ordered outgoing edges, collecting the constraints of the return edges in
+     * the conflict pair stack.
+     * @return false if the constraints can not be fulfilled, i.e. the graph is not planar.
+     */
+    private boolean testing(int root){
+
+        int[] stack = dfsStack;
+        int[] position = dfsPosition;
+        boolean[] returning = dfsReturning;
+
+        int top = 0;
+        stack[top++] = root;
+        while(top > 0){
+            int vertex = stack[--top];
+            int parent = parentEdge[vertex];
+            boolean descended = false;
+
+            for(; position[vertex] < outgoingStart[vertex + 1]; position[vertex]++){
+                int edge = outgoing[position[vertex]];
+                int target = orientedTarget[edge];
+
+                if(!returning[edge]){
+                    stackBottom[edge] = conflictStackSize;
+                    if(edge == parentEdge[target]){
+                        returning[edge] = true;
+                        stack[top++] = vertex;
+                        stack[top++] = target;
+                        descended = true;
+                        break;
+                    }
+                    lowptEdge[edge] = edge;
+                    push(NONE, NONE, edge, edge);
+                }
+
+                //integrate new return edges
+                if(lowpt[edge] < height[vertex]){
+                    if(position[vertex] == outgoingStart[vertex]){
+                        lowptEdge[parent] = lowptEdge[edge];
+                    }else if(!addConstraints(edge, parent)){
+                        return false;
+                    }
+                }
+            }
+
+            if(!descended && parent != NONE)
+                removeBackEdges(parent);
+        }
+        return true;
+    }
+
+
+    private boolean addConstraints(int edge, int parent){
+
+        int pLeftLow = NONE, pLeftHigh = NONE, pRightLow = NONE, pRightHigh = NONE;
+
+        //merge return edges of edge into the right interval
+        do {
+            int q = --conflictStackSize;
+            int qLeftLow = leftLow[q], qLeftHigh = leftHigh[q], qRightLow = rightLow[q], qRightHigh = rightHigh[q];
+            if(qLeftLow != NONE || qLeftHigh != NONE){
+                int low = qLeftLow, high = qLeftHigh;
+                qLeftLow = qRightLow;
+                qLeftHigh = qRightHigh;
+                qRightLow = low;
+                qRightHigh = high;
+            }
+            if(qLeftLow != NONE || qLeftHigh != NONE)
+                return false;
+
+            if(lowpt[qRightLow] > lowpt[parent]){
+                if(pRightLow == NONE && pRightHigh == NONE)
+                    pRightHigh = qRightHigh;
+                else
+                    ref[pRightLow] = qRightHigh;
+                pRightLow = qRightLow;
+            }else{
+                ref[qRightLow] = lowptEdge[parent];
+            }
+        } while(conflictStackSize != stackBottom[edge]);
+
+        //merge conflicting return edges of the previous siblings into the left interval
+        while(conflictStackSize > 0 && (conflicting(leftLow[conflictStackSize - 1], leftHigh[conflictStackSize - 1], edge)
+                || conflicting(rightLow[conflictStackSize - 1], rightHigh[conflictStackSize - 1], edge))){
+            int q = --conflictStackSize;
+            int qLeftLow = leftLow[q], qLeftHigh = leftHigh[q], qRightLow = rightLow[q], qRightHigh = rightHigh[q];
+            if(conflicting(qRightLow, qRightHigh, edge)){
+                int low = qLeftLow, high = qLeftHigh;
+                qLeftLow = qRightLow;
+                qLeftHigh = qRightHigh;
+                qRightLow = low;
+                qRightHigh = high;
+            }
+            if(conflicting(qRightLow, qRightHigh, edge))
+                return false;
+
+            if(pRightLow != NONE)
+                ref[pRightLow] = qRightHigh;
+            if(qRightLow != NONE)
+                pRightLow = qRightLow;
+
+            if(pLeftLow == NONE && pLeftHigh == NONE)
+                pLeftHigh = qLeftHigh;
+            else
+                ref[pLeftLow] = qLeftHigh;
+            pLeftLow = qLeftLow;
+        }
+
+        if(pLeftLow != NONE || pLeftHigh != NONE || pRightLow != NONE || pRightHigh != NONE)
+            push(pLeftLow, pLeftHigh, pRightLow, pRightHigh);
+        return true;
+    }
+
+
+    /**
+     * Removes the return edges ending at the source of the given tree edge and determines the side of the tree edge
+     * relative to its highest return edge.
+     */
+    private void removeBackEdges(int edge){
+
+        int source = orientedSource[edge];
+
+        //drop entire conflict pairs
+        while(conflictStackSize > 0 && lowest(conflictStackSize - 1) == height[source]){
+            int q = --conflictStackSize;
+            if(leftLow[q] != NONE)
+                side[leftLow[q]] = -1;
+        }
+
+        //trim the intervals of the topmost remaining pair
+        if(conflictStackSize > 0){
+            int q = conflictStackSize - 1;
+
+            while(leftHigh[q] != NONE && orientedTarget[leftHigh[q]] == source)
+                leftHigh[q] = ref[leftHigh[q]];
+            if(leftHigh[q] == NONE && leftLow[q] != NONE){
+                ref[leftLow[q]] = rightLow[q];
+                side[leftLow[q]] = -1;
+                leftLow[q] = NONE;
+            }
+
+            while(rightHigh[q] != NONE && orientedTarget[rightHigh[q]] == source)
+                rightHigh[q] = ref[rightHigh[q]];
+            if(rightHigh[q] == NONE && rightLow[q] != NONE){
+                ref[rightLow[q]] = leftLow[q];
+                side[rightLow[q]] = -1;
+                rightLow[q] = NONE;
+            }
+        }
+
+        //the side of the edge is the side of a highest return edge
+        if(lowpt[edge] < height[source] && conflictStackSize > 0){
+            int q = conflictStackSize - 1;
+            int highLeft = leftHigh[q];
+            int highRight = rightHigh[q];
+            if(highLeft != NONE && (highRight == NONE || lowpt[highLeft] > lowpt[highRight]))
+                ref[edge] = highLeft;
+            else
+                ref[edge] = highRight;
+        }
+    }
+
+
+
+    /**
+     * Turns the sides of the return edges into a rotation system. The outgoing edges are ordered by their signed
+     * nesting depth, afterwards a third depth-first search places the reverse of every edge at its target.
+     */
+    private void embed(){
+
+        int[] chain = new int[edgeCount];
+        for(int edge = 0; edge < edgeCount; edge++){
+            if(!skipped[edge])
+                nestingDepth[edge] *= sign(edge, chain);
+        }
+        sortOutgoingEdges(2 * vertexCount + 2);
+
+        nextDart = new int[2 * edgeCount];
+        previousDart = new int[2 * edgeCount];
+        firstDart = filled(vertexCount, NONE);
+        leftRef = filled(vertexCount, NONE);
+        rightRef = filled(vertexCount, NONE);
+
+        for(int vertex = 0; vertex < vertexCount; vertex++){
+            int previous = NONE;
+            for(int i = outgoingStart[vertex]; i < outgoingStart[vertex + 1]; i++){
+                int dart = dartFrom(outgoing[i], vertex);
+                if(previous == NONE)
+                    insertFirst(vertex, dart);
+                else
+                    insertAfter(previous, dart);
+                previous = dart;
+            }
+        }
+
+        dfsPosition = Arrays.copyOf(outgoingStart, vertexCount);
+        dfsReturning = new boolean[edgeCount];
+        for(int i = 0; i < rootCount; i++)
+            embedding(roots[i]);
+
+        embedSkippedEdges();
+    }
+
+
+    /**
+     * Resolves the side of the given edge relative to the chain of its reference edges.
+     */
+    private int sign(int edge, int[] chain){
+
+        int length = 0;
+        for(int current = edge; ref[current] != NONE; current = ref[current])
+            chain[length++] = current;
+
+        for(int i = length - 1; i >= 0; i--){
+            int current = chain[i];
+            side[current] *= side[ref[current]];
+            ref[current] = NONE;
+        }
+        return side[edge];
+    }
+
+
+    private void embedding(int root){
+
+        int[] stack = dfsStack;
+        int[] position = dfsPosition;
+        boolean[] returning = dfsReturning;
+
+        int top = 0;
+        stack[top++] = root;
+        while(top > 0){
+            int vertex = stack[--top];
+
+            for(; position[vertex] < outgoingStart[vertex + 1]; position[vertex]++){
+                int edge = outgoing[position[vertex]];
+                int target = orientedTarget[edge];
+
+                if(edge == parentEdge[target]){
+                    if(returning[edge])
+                        continue;
+                    int dart = dartFrom(edge, vertex);
+                    insertFirst(target, dart ^ 1);
+                    leftRef[vertex] = dart;
+                    rightRef[vertex] = dart;
+                    returning[edge] = true;
+                    stack[top++] = vertex;
+                    stack[top++] = target;
+                    break;
+                }
+
+                //back edge, place its reverse next to the tree edge leading towards it
+                int dart = dartFrom(edge, target);
+                if(side[edge] == 1){
+                    insertAfter(rightRef[target], dart);
+                }else{
+                    insertAfter(previousDart[leftRef[target]], dart);
+                    leftRef[target] = dart;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Inserts parallel edges directly behind their representative and self loops anywhere at their vertex.
+     */
+    private void embedSkippedEdges(){
+
+        for(int edge = 0; edge < edgeCount; edge++){
+            if(!skipped[edge])
+                continue;
+            int dart = 2 * edge;
+            int source = edgeSources[edge];
+            if(representative[edge] == NONE){
+                if(firstDart[source] == NONE)
+                    insertFirst(source, dart);
+                else
+                    insertAfter(firstDart[source], dart);
+                insertAfter(dart, dart ^ 1);
+            }else{
+                int representativeDart = dartFrom(representative[edge], source);
+                insertAfter(representativeDart, dart);
+                insertAfter(previousDart[representativeDart ^ 1], dart ^ 1);
+            }
+        }
+    }
+
+
+    private void insertFirst(int vertex, int dart){
+        int first = firstDart[vertex];
+        if(first == NONE){
+            nextDart[dart] = dart;
+            previousDart[dart] = dart;
+        }else{
+            insertAfter(previousDart[first], dart);
+        }
+        firstDart[vertex] = dart;
+    }
+
+    private void insertAfter(int reference, int dart){
+        int next = nextDart[reference];
+        nextDart[reference] = dart;
+        previousDart[dart] = reference;
+        nextDart[dart] = next;
+        previousDart[next] = dart;
+    }
+
+    private int dartFrom(int edge, int vertex){
+        return edgeSources[edge] == vertex ? 2 * edge : 2 * edge + 1;
+    }
+
+    private void checkEmbedded(){
+        if(!isEmbedded())
+            throw new IllegalStateException("No embedding was computed.");
+    }
+
+
+
+    private void push(int pLeftLow, int pLeftHigh, int pRightLow, int pRightHigh){
+        leftLow[conflictStackSize] = pLeftLow;
+        leftHigh[conflictStackSize] = pLeftHigh;
+        rightLow[conflictStackSize] = pRightLow;
+        rightHigh[conflictStackSize] = pRightHigh;
+        conflictStackSize++;
+    }
+
+    private boolean conflicting(int low, int high, int edge){
+        return (low != NONE || high != NONE) && lowpt[high] > lowpt[edge];
+    }
+
+    private int lowest(int q){
+        if(leftLow[q] == NONE && leftHigh[q] == NONE)
+            return lowpt[rightLow[q]];
+        if(rightLow[q] == NONE && rightHigh[q] == NONE)
+            return lowpt[leftLow[q]];
+        return Math.min(lowpt[leftLow[q]], lowpt[rightLow[q]]);
+    }
+
+    private int opposite(int edge, int vertex){
+        return edgeSources[edge] == vertex ? edgeTargets[edge] : edgeSources[edge];
+    }
+
+    private static int[] filled(int length, int value){
+        int[] array = new int[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+}
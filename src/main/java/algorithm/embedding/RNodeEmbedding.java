@@ -1,6 +1,5 @@
 package main.java.algorithm.embedding;
 
-import com.yworks.yfiles.algorithms.*;
 import main.java.algorithm.typeDetermination.Face;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
@@ -14,13 +13,14 @@ import java.util.Map;
 public class RNodeEmbedding {
 
     private MultiDirectedGraph originalGraph;
-    private Graph convertedGraph;
 
-    private Map<Vertex, Node> origV2ConvV = new HashMap<>();
-    private Map<Edge, DirectedEdge> convE2OrigE = new HashMap<>();
+    private Map<Vertex, Integer> origV2ConvV = new HashMap<>();
+    private List<DirectedEdge> convE2OrigE = new ArrayList<>();
+    private int[] edgeSources;
+    private int[] edgeTargets;
     private Map<Vertex, List<DirectedEdge>> outgoingEdges = new HashMap<>();
     private Map<Vertex, List<DirectedEdge>> incomingEdges = new HashMap<>();
-    private PlanarEmbedding planarEmbedding;
+    private LRPlanarity planarEmbedding;
 
     private List<Face> convertedFaces;
     private Vertex source;
@@ -31,7 +31,9 @@ public class RNodeEmbedding {
 
         this.originalGraph = graph;
         convertGraph();
-        this.planarEmbedding = new PlanarEmbedding(convertedGraph);
+        this.planarEmbedding = new LRPlanarity(origV2ConvV.size(), edgeSources, edgeTargets, true);
+        if(!planarEmbedding.isPlanar())
+            throw new IllegalStateException("The skeleton of a R-Node has to be planar.");
         calculateOrderedEdges();
         this.source = source;
         this.target = target;
@@ -40,22 +42,14 @@ public class RNodeEmbedding {
 
 
     private void convertGraph(){
-        convertedGraph = new Graph();
+        edgeSources = new int[originalGraph.countEdges()];
+        edgeTargets = new int[edgeSources.length];
         for(DirectedEdge origEdge : originalGraph.getEdges()){
-            Vertex origSource = origEdge.getSource();
-            Vertex origTarget = origEdge.getTarget();
-            if(!origV2ConvV.containsKey(origSource)){
-                Node convertedSource = convertedGraph.createNode();
-                origV2ConvV.put(origSource, convertedSource);
-            }
-            if(!origV2ConvV.containsKey(origTarget)){
-                Node convertedTarget = convertedGraph.createNode();
-                origV2ConvV.put(origTarget, convertedTarget);
-            }
-            Node convertedSource = origV2ConvV.get(origSource);
-            Node convertedTarget = origV2ConvV.get(origTarget);
-            Edge convertedEdge = convertedGraph.createEdge(convertedSource, convertedTarget);
-            convE2OrigE.put(convertedEdge, origEdge);
+            Integer convertedSource = origV2ConvV.computeIfAbsent(origEdge.getSource(), vertex -> origV2ConvV.size());
+            Integer convertedTarget = origV2ConvV.computeIfAbsent(origEdge.getTarget(), vertex -> origV2ConvV.size());
+            edgeSources[convE2OrigE.size()] = convertedSource;
+            edgeTargets[convE2OrigE.size()] = convertedTarget;
+            convE2OrigE.add(origEdge);
         }
     }
 
@@ -68,8 +62,8 @@ public class RNodeEmbedding {
             incomingEdges.put(vertex, new ArrayList<>());
 
             List<DirectedEdge> edges = new ArrayList<>();
-            for (Dart dart : planarEmbedding.getOutgoingDarts(origV2ConvV.get(vertex)))
-                edges.add(convE2OrigE.get(dart.getAssociatedEdge()));
+            for (int dart : planarEmbedding.getRotation(origV2ConvV.get(vertex)))
+                edges.add(convE2OrigE.get(LRPlanarity.edgeOfDart(dart)));
 
             int start = 0;
             for (; start < edges.size(); start++) {
@@ -114,14 +108,14 @@ public class RNodeEmbedding {
 
         convertedFaces = new ArrayList<>();
 
-        for(List<Dart> originalFace : planarEmbedding.getFaces()){
+        for(int[] originalFace : planarEmbedding.getFaces()){
             boolean containsSource = false;
             boolean containsTarget = false;
             boolean containsAugmentedSource = false;
-            Face convertedFace = new Face(originalFace.size());
+            Face convertedFace = new Face(originalFace.length);
 
-            for(Dart dart : originalFace) {
-                DirectedEdge edge = convE2OrigE.get(dart.getAssociatedEdge());
+            for(int dart : originalFace) {
+                DirectedEdge edge = convE2OrigE.get(LRPlanarity.edgeOfDart(dart));
                 if(edge.getSource().equals(source) || edge.getTarget().equals(source))
                     containsSource = true;
                 if(edge.getSource().equals(target) || edge.getTarget().equals(target))
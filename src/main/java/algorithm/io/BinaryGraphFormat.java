@@ -0,0 +1,35 @@
+package main.java.algorithm.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the compact binary graph files ({@code .ldg}) read by {@link BinaryGraphReader} and written by
+ * {@link BinaryGraphWriter}. All values are little endian 32 bit integers, every section starts at a multiple of four:
+ *
+ * <pre>
+ * header   magic "LDRG", version, flags, vertexCount n, edgeCount m
+ * edges    int[m] sources, int[m] targets             vertex indices
+ * labels   int[n + 1] offsets, byte[offsets[n]] UTF-8  only with {@link #LABELS}, padded to four bytes
+ * layout   int[n] x, int[n] y, int[4 m] bends           only with {@link #LAYOUT}, node centers and the two bends
+ *                                                       (x1, y1, x2, y2) of every edge in the yFiles orientation
+ * </pre>
+ */
+final class BinaryGraphFormat {
+
+    static final int MAGIC = 0x4752444C;
+    static final int VERSION = 1;
+
+    static final int LABELS = 1;
+    static final int LAYOUT = 1 << 1;
+
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+
+    private BinaryGraphFormat(){}
+
+
+    static int padded(int bytes){
+        return (bytes + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+}
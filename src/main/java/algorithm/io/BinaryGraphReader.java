@@ -0,0 +1,266 @@
+package main.java.algorithm.io;
+
+import main.java.algorithm.LayoutResult;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps a file of the {@link BinaryGraphFormat} into memory. The edge, label and layout arrays are read through views
+ * on the mapping without copying; only the {@link MultiDirectedGraph} for the engine is built from them. Vertices and
+ * edges get the ids {@code n<index>} and {@code e<index>} as description, like the ids of {@link GraphMLReader}.
+ */
+public class BinaryGraphReader implements GraphReader {
+
+    private final int vertexCount;
+    private final int edgeCount;
+    private final IntBuffer edgeSources;
+    private final IntBuffer edgeTargets;
+    private final IntBuffer labelOffsets;
+    private final ByteBuffer labelBytes;
+    private final IntBuffer xCoordinates;
+    private final IntBuffer yCoordinates;
+    private final IntBuffer bends;
+
+    private final MultiDirectedGraph graph = new MultiDirectedGraph();
+    private final List<Vertex> vertices;
+    private final List<DirectedEdge> edges;
+
+
+    public BinaryGraphReader(File file) throws IOException {
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if(channel.size() < BinaryGraphFormat.HEADER_BYTES || channel.size() > Integer.MAX_VALUE)
+                throw new IOException(file + " is no binary graph file.");
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(BinaryGraphFormat.BYTE_ORDER);
+
+        if(buffer.getInt() != BinaryGraphFormat.MAGIC)
+            throw new IOException(file + " is no binary graph file.");
+        int version = buffer.getInt();
+        if(version != BinaryGraphFormat.VERSION)
+            throw new IOException(file + " has the unsupported version " + version + ".");
+        int flags = buffer.getInt();
+        vertexCount = buffer.getInt();
+        edgeCount = buffer.getInt();
+        if(vertexCount < 0 || edgeCount < 0)
+            throw new IOException(file + " is corrupt.");
+        long arrayBytes = 2L * edgeCount;
+        if((flags & BinaryGraphFormat.LABELS) != 0)
+            arrayBytes += vertexCount + 1L;
+        if((flags & BinaryGraphFormat.LAYOUT) != 0)
+            arrayBytes += 2L * vertexCount + 4L * edgeCount;
+        if(BinaryGraphFormat.HEADER_BYTES + arrayBytes * Integer.BYTES > buffer.capacity())
+            throw new IOException(file + " is truncated.");
+
+        try {
+            int position = BinaryGraphFormat.HEADER_BYTES;
+            edgeSources = intView(buffer, position, edgeCount);
+            edgeTargets = intView(buffer, position += edgeCount * Integer.BYTES, edgeCount);
+            position += edgeCount * Integer.BYTES;
+
+            if((flags & BinaryGraphFormat.LABELS) != 0){
+                labelOffsets = intView(buffer, position, vertexCount + 1);
+                position += (vertexCount + 1) * Integer.BYTES;
+                checkLabelOffsets(file, labelOffsets, buffer.capacity() - position);
+                labelBytes = byteView(buffer, position, labelOffsets.get(vertexCount));
+                position += BinaryGraphFormat.padded(labelOffsets.get(vertexCount));
+            } else {
+                labelOffsets = null;
+                labelBytes = null;
+            }
+
+            if((flags & BinaryGraphFormat.LAYOUT) != 0){
+                xCoordinates = intView(buffer, position, vertexCount);
+                yCoordinates = intView(buffer, position += vertexCount * Integer.BYTES, vertexCount);
+                bends = intView(buffer, position + vertexCount * Integer.BYTES, 4 * edgeCount);
+            } else {
+                xCoordinates = null;
+                yCoordinates = null;
+                bends = null;
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new IOException(file + " is truncated.", exception);
+        }
+
+        vertices = new ArrayList<>(vertexCount);
+        edges = new ArrayList<>(edgeCount);
+        buildGraph(file);
+    }
+
+    /**
+     * Checks that the offsets start at zero, do not decrease and that the labels fit into the remaining bytes, so every
+     * label can be read.
+     */
+    private static void checkLabelOffsets(File file, IntBuffer labelOffsets, int remainingBytes) throws IOException {
+
+        if(labelOffsets.get(0) != 0)
+            throw new IOException("The labels of " + file + " do not start at offset 0.");
+        for(int i = 0; i + 1 < labelOffsets.limit(); i++)
+            if(labelOffsets.get(i + 1) < labelOffsets.get(i))
+                throw new IOException("The label " + i + " of " + file + " has a negative length.");
+        if(labelOffsets.get(labelOffsets.limit() - 1) > remainingBytes)
+            throw new IOException(file + " is truncated.");
+    }
+
+    private static IntBuffer intView(ByteBuffer buffer, int position, int length){
+        return byteView(buffer, position, length * Integer.BYTES).asIntBuffer();
+    }
+
+    private static ByteBuffer byteView(ByteBuffer buffer, int position, int length){
+        ByteBuffer view = buffer.duplicate();
+        view.limit(position + length);
+        view.position(position);
+        return view.slice().order(BinaryGraphFormat.BYTE_ORDER);
+    }
+
+    private void buildGraph(File file) throws IOException {
+
+        for(int i = 0; i < vertexCount; i++){
+            Vertex vertex = new Vertex(getLabel(i), "n" + i);
+            graph.addVertex(vertex);
+            vertices.add(vertex);
+        }
+        for(int i = 0; i < edgeCount; i++){
+            int source = edgeSources.get(i);
+            int target = edgeTargets.get(i);
+            if(source < 0 || source >= vertexCount || target < 0 || target >= vertexCount)
+                throw new IOException("The edge " + i + " of " + file + " references a vertex that does not exist.");
+            DirectedEdge edge = graph.addEdge(vertices.get(source), vertices.get(target));
+            edge.setDescription("e" + i);
+            edges.add(edge);
+        }
+    }
+
+
+
+    @Override
+    public MultiDirectedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the vertices in the order of their indices.
+     */
+    @Override
+    public List<Vertex> getVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return the edges in the order of their indices.
+     */
+    @Override
+    public List<DirectedEdge> getEdges() {
+        return edges;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @return view of the source vertex indices of all edges.
+     */
+    public IntBuffer getEdgeSources() {
+        return edgeSources.duplicate();
+    }
+
+    /**
+     * @return view of the target vertex indices of all edges.
+     */
+    public IntBuffer getEdgeTargets() {
+        return edgeTargets.duplicate();
+    }
+
+    public boolean hasLabels() {
+        return labelOffsets != null;
+    }
+
+    /**
+     * @return the label of the vertex with the given index or the empty string if the file has no labels.
+     */
+    public String getLabel(int vertex) {
+        if(labelOffsets == null)
+            return "";
+        int start = labelOffsets.get(vertex);
+        byte[] bytes = new byte[labelOffsets.get(vertex + 1) - start];
+        ByteBuffer view = labelBytes.duplicate();
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public boolean hasLayout() {
+        return xCoordinates != null;
+    }
+
+    /**
+     * @return view of the node center x coordinates, in the yFiles orientation like all layout arrays.
+     * @throws IllegalStateException if the file has no layout, see {@link #hasLayout()}.
+     */
+    public IntBuffer getXCoordinates() {
+        checkLayout();
+        return xCoordinates.duplicate();
+    }
+
+    /**
+     * @return view of the node center y coordinates.
+     * @throws IllegalStateException if the file has no layout.
+     */
+    public IntBuffer getYCoordinates() {
+        checkLayout();
+        return yCoordinates.duplicate();
+    }
+
+    /**
+     * @return view of the bends, four values x1, y1, x2, y2 per edge.
+     * @throws IllegalStateException if the file has no layout.
+     */
+    public IntBuffer getBends() {
+        checkLayout();
+        return bends.duplicate();
+    }
+
+    /**
+     * @return the layout of the file with the coordinates and bends as the engine computes them, i.e. with y growing
+     * upwards, e.g. for {@link LayoutWriter}. The vertices and edges have the ordinals of the file.
+     * @throws IllegalStateException if the file has no layout.
+     */
+    public LayoutResult getLayoutResult() {
+        checkLayout();
+        int[] x = new int[vertexCount];
+        int[] y = new int[vertexCount];
+        int[] edgeBends = new int[4 * edgeCount];
+        getXCoordinates().get(x);
+        getYCoordinates().get(y);
+        getBends().get(edgeBends);
+        for(int i = 0; i < vertexCount; i++)
+            y[i] = -y[i];
+        for(int i = 1; i < edgeBends.length; i += 2)
+            edgeBends[i] = -edgeBends[i];
+        return new LayoutResult(vertices, x, y, edges, edgeBends);
+    }
+
+    private void checkLayout(){
+        if(!hasLayout())
+            throw new IllegalStateException("The file has no layout.");
+    }
+}
@@ -0,0 +1,159 @@
+package main.java.algorithm.io;
+
+import main.java.algorithm.LayoutContext;
+import main.java.algorithm.LayoutResult;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a graph and optionally its layout in the {@link BinaryGraphFormat} through a memory mapping of the file.
+ * Vertices are numbered in the order of the given list.
+ */
+public class BinaryGraphWriter {
+
+    private final List<Vertex> vertices;
+    private final Collection<DirectedEdge> edges;
+    private final LayoutResult layoutResult;
+
+
+    public BinaryGraphWriter(GraphReader reader){
+        this(reader.getVertices(), reader.getEdges(), (LayoutResult) null);
+    }
+
+    public BinaryGraphWriter(GraphReader reader, LayoutContext context){
+        this(reader.getVertices(), reader.getEdges(), context);
+    }
+
+    public BinaryGraphWriter(List<Vertex> vertices, Collection<DirectedEdge> edges, LayoutContext context){
+        this(vertices, edges, context.getLayoutResult());
+    }
+
+    /**
+     * @param layoutResult coordinates as computed by the engine or null to write no layout. If it has bends, they are
+     *                     written instead of the bends of the L-shapes.
+     */
+    public BinaryGraphWriter(List<Vertex> vertices, Collection<DirectedEdge> edges, LayoutResult layoutResult){
+        this.vertices = vertices;
+        this.edges = edges;
+        this.layoutResult = layoutResult;
+    }
+
+
+
+    public void write(File file) throws IOException {
+
+        int vertexCount = vertices.size();
+        int edgeCount = edges.size();
+        boolean layout = layoutResult != null;
+
+        Map<Vertex, Integer> indices = new HashMap<>(2 * vertexCount);
+        // ordinals[i] is the ordinal of the vertex i in the layout
+        int[] ordinals = layout ? new int[vertexCount] : null;
+        byte[][] labels = new byte[vertexCount][];
+        int labelBytes = 0;
+        boolean hasLabels = false;
+        for(int i = 0; i < vertexCount; i++){
+            Vertex vertex = vertices.get(i);
+            indices.put(vertex, i);
+            if(layout){
+                ordinals[i] = layoutResult.getOrdinal(vertex, i);
+                if(ordinals[i] < 0)
+                    throw new IOException("The vertex " + vertex + " was not laid out.");
+            }
+            String name = vertex.getName() == null ? "" : vertex.getName();
+            labels[i] = name.getBytes(StandardCharsets.UTF_8);
+            labelBytes += labels[i].length;
+            hasLabels |= !name.isEmpty();
+        }
+
+        long size = BinaryGraphFormat.HEADER_BYTES + 2L * edgeCount * Integer.BYTES;
+        if(hasLabels)
+            size += (vertexCount + 1L) * Integer.BYTES + BinaryGraphFormat.padded(labelBytes);
+        if(layout)
+            size += (2L * vertexCount + 4L * edgeCount) * Integer.BYTES;
+        if(size > Integer.MAX_VALUE)
+            throw new IOException("The graph is too large for a single mapping.");
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(BinaryGraphFormat.BYTE_ORDER);
+
+            buffer.putInt(BinaryGraphFormat.MAGIC);
+            buffer.putInt(BinaryGraphFormat.VERSION);
+            buffer.putInt((hasLabels ? BinaryGraphFormat.LABELS : 0) | (layout ? BinaryGraphFormat.LAYOUT : 0));
+            buffer.putInt(vertexCount);
+            buffer.putInt(edgeCount);
+
+            int[] sources = new int[edgeCount];
+            int[] targets = new int[edgeCount];
+            int edgeIndex = 0;
+            for(DirectedEdge edge : edges){
+                sources[edgeIndex] = indexOf(indices, edge.getSource());
+                targets[edgeIndex++] = indexOf(indices, edge.getTarget());
+            }
+            for(int source : sources)
+                buffer.putInt(source);
+            for(int target : targets)
+                buffer.putInt(target);
+
+            if(hasLabels){
+                int offset = 0;
+                buffer.putInt(offset);
+                for(byte[] label : labels)
+                    buffer.putInt(offset += label.length);
+                for(byte[] label : labels)
+                    buffer.put(label);
+                for(int i = labelBytes; i < BinaryGraphFormat.padded(labelBytes); i++)
+                    buffer.put((byte) 0);
+            }
+
+            if(layout){
+                for(int ordinal : ordinals)
+                    buffer.putInt(layoutResult.getX(ordinal));
+                for(int ordinal : ordinals)
+                    buffer.putInt(-layoutResult.getY(ordinal));
+                int[] bends = layoutResult.getBends();
+                edgeIndex = 0;
+                for(DirectedEdge edge : edges){
+                    int edgeOrdinal = layoutResult.getEdgeOrdinal(edge, edgeIndex);
+                    if(edgeOrdinal >= 0){
+                        int offset = 4 * edgeOrdinal;
+                        buffer.putInt(bends[offset]);
+                        buffer.putInt(-bends[offset + 1]);
+                        buffer.putInt(bends[offset + 2]);
+                        buffer.putInt(-bends[offset + 3]);
+                    } else {
+                        int sourceX = layoutResult.getX(ordinals[sources[edgeIndex]]);
+                        int targetX = layoutResult.getX(ordinals[targets[edgeIndex]]);
+                        int targetY = -layoutResult.getY(ordinals[targets[edgeIndex]]);
+                        buffer.putInt(sourceX);
+                        buffer.putInt(targetY + LayoutWriter.BEND_SIZE);
+                        buffer.putInt((int) LayoutWriter.secondBendX(sourceX, targetX));
+                        buffer.putInt(targetY);
+                    }
+                    edgeIndex++;
+                }
+            }
+            buffer.force();
+        }
+    }
+
+    private static int indexOf(Map<Vertex, Integer> indices, Vertex vertex) throws IOException {
+        Integer index = indices.get(vertex);
+        if(index == null)
+            throw new IOException("The edge end " + vertex + " is not contained in the vertex list.");
+        return index;
+    }
+}
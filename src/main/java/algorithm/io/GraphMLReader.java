@@ -0,0 +1,252 @@
+package main.java.algorithm.io;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming GraphML reader that builds the {@link MultiDirectedGraph} of the decomposition directly, without a yFiles
+ * model in between. The document is read in a single pass with StAX; besides the graph only the mapping of node ids to
+ * vertices is kept.
+ *
+ * The name of a vertex is the text of the first label found in the data of the {@code NodeLabels} key, either the
+ * {@code Text} attribute or the {@code Label.Text} element as written by yFiles. Nodes without label are named by their
+ * id. The GraphML ids of nodes and edges are kept as description of the vertices and edges, edges without id get
+ * {@code e<index>}. Nested graphs are flattened, ports, hyperedges and all other data are ignored.
+ */
+public class GraphMLReader implements GraphReader {
+
+    private static final String NODE_LABELS = "NodeLabels";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final MultiDirectedGraph graph = new MultiDirectedGraph();
+    private final Map<String, Vertex> verticesById = new HashMap<>();
+    private final Set<String> undeclaredIds = new HashSet<>();
+    private final List<Vertex> vertices = new ArrayList<>();
+    private final List<DirectedEdge> edges = new ArrayList<>();
+
+    private String nodeLabelsKey;
+
+
+    public GraphMLReader(File file) throws IOException {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file), 1 << 16)) {
+            read(input);
+        }
+    }
+
+    public GraphMLReader(InputStream input) throws IOException {
+        read(input);
+    }
+
+
+
+    private void read(InputStream input) throws IOException {
+
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(input);
+            while(reader.hasNext()){
+                if(reader.next() != XMLStreamConstants.START_ELEMENT)
+                    continue;
+                switch (reader.getLocalName()){
+                    case "key":
+                        readKey(reader);
+                        break;
+                    case "node":
+                        readNode(reader);
+                        break;
+                    case "edge":
+                        readEdge(reader);
+                        break;
+                    case "data":
+                        skipElement(reader);
+                        break;
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new IOException("Malformed GraphML: " + exception.getMessage(), exception);
+        } finally {
+            if(reader != null)
+                closeQuietly(reader);
+        }
+
+        if(!undeclaredIds.isEmpty())
+            throw new IOException("Edges reference the nodes " + undeclaredIds + " which are not declared.");
+    }
+
+    private void readKey(XMLStreamReader reader){
+        if(NODE_LABELS.equals(reader.getAttributeValue(null, "attr.name")))
+            nodeLabelsKey = reader.getAttributeValue(null, "id");
+    }
+
+    /**
+     * Reads the node up to its end or up to a nested graph, which is picked up by the main loop.
+     */
+    private void readNode(XMLStreamReader reader) throws XMLStreamException, IOException {
+
+        String id = requiredAttribute(reader, "id");
+        Vertex vertex = verticesById.get(id);
+        if(vertex == null){
+            vertex = createVertex(id);
+        } else if(!undeclaredIds.remove(id)){
+            throw new IOException("The node " + id + " is declared twice.");
+        }
+        vertices.add(vertex);
+
+        String label = null;
+        while(reader.hasNext()){
+            int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT){
+                if("graph".equals(reader.getLocalName()))
+                    break;
+                if(label == null && "data".equals(reader.getLocalName())
+                        && nodeLabelsKey != null && nodeLabelsKey.equals(reader.getAttributeValue(null, "key"))){
+                    label = readFirstLabel(reader);
+                    continue;
+                }
+                skipElement(reader);
+            } else if(event == XMLStreamConstants.END_ELEMENT){
+                break;
+            }
+        }
+        vertex.setName(label != null ? label : id);
+    }
+
+    /**
+     * Consumes the data element and returns the text of its first label or null.
+     */
+    private static String readFirstLabel(XMLStreamReader reader) throws XMLStreamException {
+
+        String label = null;
+        int depth = 0;
+        while(reader.hasNext()){
+            int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT){
+                depth++;
+                if(label != null)
+                    continue;
+                if("Label".equals(reader.getLocalName()))
+                    label = reader.getAttributeValue(null, "Text");
+                else if("Label.Text".equals(reader.getLocalName())){
+                    label = reader.getElementText();
+                    depth--;
+                }
+            } else if(event == XMLStreamConstants.END_ELEMENT){
+                if(depth-- == 0)
+                    break;
+            }
+        }
+        return label;
+    }
+
+    /**
+     * Consumes the current element including all of its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        while(reader.hasNext()){
+            int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT)
+                depth++;
+            else if(event == XMLStreamConstants.END_ELEMENT && depth-- == 0)
+                break;
+        }
+    }
+
+    private void readEdge(XMLStreamReader reader) throws IOException {
+
+        String id = reader.getAttributeValue(null, "id");
+        Vertex source = vertexOf(requiredAttribute(reader, "source"));
+        Vertex target = vertexOf(requiredAttribute(reader, "target"));
+        DirectedEdge edge = graph.addEdge(source, target);
+        edge.setDescription(id != null ? id : "e" + edges.size());
+        edges.add(edge);
+    }
+
+    /**
+     * @return the vertex of the given node id; vertices referenced by an edge before their declaration are created
+     * ahead and named when the node is read.
+     */
+    private Vertex vertexOf(String id){
+        Vertex vertex = verticesById.get(id);
+        if(vertex == null){
+            vertex = createVertex(id);
+            undeclaredIds.add(id);
+        }
+        return vertex;
+    }
+
+    private Vertex createVertex(String id){
+        Vertex vertex = new Vertex();
+        vertex.setDescription(id);
+        verticesById.put(id, vertex);
+        graph.addVertex(vertex);
+        return vertex;
+    }
+
+    private static String requiredAttribute(XMLStreamReader reader, String name) throws IOException {
+        String value = reader.getAttributeValue(null, name);
+        if(value == null)
+            throw new IOException("The element " + reader.getLocalName() + " at line " + reader.getLocation().getLineNumber() + " has no " + name + " attribute.");
+        return value;
+    }
+
+    private static void closeQuietly(XMLStreamReader reader){
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+
+    private static XMLInputFactory createInputFactory(){
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+
+
+    @Override
+    public MultiDirectedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the vertices in the order of their node elements.
+     */
+    @Override
+    public List<Vertex> getVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return the edges in the order of their edge elements.
+     */
+    @Override
+    public List<DirectedEdge> getEdges() {
+        return edges;
+    }
+
+    public Vertex getVertex(String nodeId) {
+        return verticesById.get(nodeId);
+    }
+}
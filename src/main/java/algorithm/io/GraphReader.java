@@ -0,0 +1,26 @@
+package main.java.algorithm.io;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.List;
+
+/**
+ * A graph read from a file into the representation of the decomposition. The vertices and edges carry their file ids
+ * as description.
+ */
+public interface GraphReader {
+
+    MultiDirectedGraph getGraph();
+
+    /**
+     * @return the vertices in the order of the file.
+     */
+    List<Vertex> getVertices();
+
+    /**
+     * @return the edges in the order of the file.
+     */
+    List<DirectedEdge> getEdges();
+}
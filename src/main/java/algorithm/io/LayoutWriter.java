@@ -0,0 +1,284 @@
+package main.java.algorithm.io;
+
+import main.java.algorithm.LayoutContext;
+import main.java.algorithm.LayoutResult;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Streams the result of a L-Drawing run to GraphML or to a plain coordinate file without building a yFiles model.
+ * Nodes are placed at the centers given by the {@link LayoutResult} in the yFiles orientation, i.e. with negated y, and
+ * every edge gets the two bends of its L-shape. Nothing is buffered besides the output streams, the bends are taken
+ * from the result if it has them and computed while writing otherwise.
+ *
+ * Node and edge ids are taken from the descriptions of the vertices and edges as set by {@link GraphMLReader}. Without
+ * coordinates only the labels and the structure are written.
+ */
+public class LayoutWriter {
+
+    public static final int BEND_SIZE = 10;
+    public static final double NODE_SIZE = 30;
+
+    private static final String GRAPHML_NS = "http://graphml.graphdrawing.org/xmlns";
+    private static final String MARKUP_NS = "http://www.yworks.com/xml/yfiles-common/markup/3.0";
+    private static final String YFILES_NS = "http://www.yworks.com/xml/yfiles-common/3.0";
+    private static final String ATTRIBUTE_URI = "http://www.yworks.com/xml/yfiles-common/2.0/";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final Collection<Vertex> vertices;
+    private final Collection<DirectedEdge> edges;
+    private final LayoutResult layoutResult;
+
+
+    public LayoutWriter(GraphReader reader, LayoutContext context){
+        this(reader.getVertices(), reader.getEdges(), context);
+    }
+
+    /**
+     * @param vertices the vertices in the order they are written.
+     * @param edges the edges in the order they are written.
+     */
+    public LayoutWriter(Collection<Vertex> vertices, Collection<DirectedEdge> edges, LayoutContext context){
+        this(vertices, edges, context.getLayoutResult());
+    }
+
+    /**
+     * @param layoutResult coordinates as computed by the engine or null to write no geometry.
+     */
+    public LayoutWriter(Collection<Vertex> vertices, Collection<DirectedEdge> edges, LayoutResult layoutResult){
+        this.vertices = vertices;
+        this.edges = edges;
+        this.layoutResult = layoutResult;
+    }
+
+
+
+    public void writeGraphML(File file) throws IOException {
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+            writeGraphML(output);
+        }
+    }
+
+    /**
+     * Writes the layout as GraphML that yFiles reads with the node labels, the node geometry and the edge bends.
+     */
+    public void writeGraphML(OutputStream output) throws IOException {
+
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeCharacters("\n");
+            writer.setDefaultNamespace(GRAPHML_NS);
+            writer.setPrefix("x", MARKUP_NS);
+            writer.setPrefix("y", YFILES_NS);
+            writer.writeStartElement(GRAPHML_NS, "graphml");
+            writer.writeDefaultNamespace(GRAPHML_NS);
+            writer.writeNamespace("x", MARKUP_NS);
+            writer.writeNamespace("y", YFILES_NS);
+
+            writeKey(writer, "NodeLabels", "node", "d0");
+            if(hasLayout()){
+                writeKey(writer, "NodeGeometry", "node", "d1");
+                writeKey(writer, "EdgeGeometry", "edge", "d2");
+            }
+
+            indent(writer, 1);
+            writer.writeStartElement(GRAPHML_NS, "graph");
+            writer.writeAttribute("id", "G");
+            writer.writeAttribute("edgedefault", "directed");
+
+            int position = 0;
+            for(Vertex vertex : vertices)
+                writeNode(writer, vertex, position++);
+            position = 0;
+            for(DirectedEdge edge : edges)
+                writeEdge(writer, edge, position++);
+
+            indent(writer, 1);
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException exception) {
+            throw new IOException("Writing GraphML failed: " + exception.getMessage(), exception);
+        }
+    }
+
+    private static void writeKey(XMLStreamWriter writer, String name, String owner, String id) throws XMLStreamException {
+        indent(writer, 1);
+        writer.writeEmptyElement(GRAPHML_NS, "key");
+        writer.writeAttribute("attr.name", name);
+        writer.writeAttribute("for", owner);
+        writer.writeAttribute("id", id);
+        writer.writeAttribute(YFILES_NS, "attr.uri", ATTRIBUTE_URI + name);
+    }
+
+    /**
+     * @param position position of the vertex in the written order, the likely ordinal in the layout.
+     */
+    private void writeNode(XMLStreamWriter writer, Vertex vertex, int position) throws XMLStreamException {
+
+        indent(writer, 2);
+        writer.writeStartElement(GRAPHML_NS, "node");
+        writer.writeAttribute("id", vertex.getDescription());
+
+        indent(writer, 3);
+        writer.writeStartElement(GRAPHML_NS, "data");
+        writer.writeAttribute("key", "d0");
+        writer.writeStartElement(MARKUP_NS, "List");
+        writer.writeStartElement(YFILES_NS, "Label");
+        writer.writeStartElement(YFILES_NS, "Label.Text");
+        writer.writeCharacters(vertex.getName());
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+
+        if(hasLayout())
+            writeNodeGeometry(writer, ordinalOf(vertex, position));
+
+        indent(writer, 2);
+        writer.writeEndElement();
+    }
+
+    private void writeNodeGeometry(XMLStreamWriter writer, int ordinal) throws XMLStreamException {
+        indent(writer, 3);
+        writer.writeStartElement(GRAPHML_NS, "data");
+        writer.writeAttribute("key", "d1");
+        writer.writeEmptyElement(YFILES_NS, "RectD");
+        writer.writeAttribute("Height", Double.toString(NODE_SIZE));
+        writer.writeAttribute("Width", Double.toString(NODE_SIZE));
+        writer.writeAttribute("X", Double.toString(centerX(ordinal) - NODE_SIZE / 2));
+        writer.writeAttribute("Y", Double.toString(centerY(ordinal) - NODE_SIZE / 2));
+        writer.writeEndElement();
+    }
+
+    private void writeEdge(XMLStreamWriter writer, DirectedEdge edge, int position) throws XMLStreamException {
+
+        indent(writer, 2);
+        writer.writeStartElement(GRAPHML_NS, "edge");
+        writer.writeAttribute("id", edge.getDescription());
+        writer.writeAttribute("source", edge.getSource().getDescription());
+        writer.writeAttribute("target", edge.getTarget().getDescription());
+
+        if(hasLayout()){
+            indent(writer, 3);
+            writer.writeStartElement(GRAPHML_NS, "data");
+            writer.writeAttribute("key", "d2");
+            writer.writeStartElement(MARKUP_NS, "List");
+            double[] bends = bendsOf(edge, position);
+            for(int i = 0; i < bends.length; i += 2){
+                writer.writeEmptyElement(YFILES_NS, "Bend");
+                writer.writeAttribute("Location", bends[i] + "," + bends[i + 1]);
+            }
+            writer.writeEndElement();
+            writer.writeEndElement();
+            indent(writer, 2);
+        }
+        writer.writeEndElement();
+    }
+
+    private static void indent(XMLStreamWriter writer, int level) throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for(int i = 0; i < level; i++)
+            writer.writeCharacters("  ");
+    }
+
+
+
+    public void writeCoordinates(File file) throws IOException {
+        try (OutputStream output = new FileOutputStream(file)) {
+            writeCoordinates(output);
+        }
+    }
+
+    /**
+     * One line per node "node label x y" followed by one line per edge "edge sourceLabel targetLabel x1 y1 x2 y2".
+     */
+    public void writeCoordinates(OutputStream output) throws IOException {
+
+        if(!hasLayout())
+            throw new IllegalStateException("There are no coordinates to write.");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 1 << 16);
+        int position = 0;
+        for(Vertex vertex : vertices){
+            int ordinal = ordinalOf(vertex, position++);
+            writer.append("node ").append(vertex.getName())
+                    .append(' ').append(Double.toString(centerX(ordinal)))
+                    .append(' ').append(Double.toString(centerY(ordinal))).append('\n');
+        }
+        position = 0;
+        for(DirectedEdge edge : edges){
+            writer.append("edge ").append(edge.getSource().getName()).append(' ').append(edge.getTarget().getName());
+            double[] bends = bendsOf(edge, position++);
+            for(double coordinate : bends)
+                writer.append(' ').append(Double.toString(coordinate));
+            writer.append('\n');
+        }
+        writer.flush();
+    }
+
+
+
+    private boolean hasLayout(){
+        return layoutResult != null;
+    }
+
+    private int ordinalOf(Vertex vertex, int position){
+        int ordinal = layoutResult.getOrdinal(vertex, position);
+        if(ordinal < 0)
+            throw new IllegalArgumentException("The vertex " + vertex + " was not laid out.");
+        return ordinal;
+    }
+
+    private double centerX(int ordinal){
+        return + layoutResult.getX(ordinal);
+    }
+
+    private double centerY(int ordinal){
+        return - layoutResult.getY(ordinal);
+    }
+
+    /**
+     * @return x and y of the two bends of the edge: straight up from the source to just below the height of the target,
+     * then diagonally into the horizontal line towards the target.
+     */
+    private double[] bendsOf(DirectedEdge edge, int position){
+        int edgeOrdinal = layoutResult.getEdgeOrdinal(edge, position);
+        if(edgeOrdinal >= 0){
+            int[] bends = layoutResult.getBends();
+            int offset = 4 * edgeOrdinal;
+            return new double[]{bends[offset], -bends[offset + 1], bends[offset + 2], -bends[offset + 3]};
+        }
+        double sourceX = centerX(ordinalOf(edge.getSource(), -1));
+        int target = ordinalOf(edge.getTarget(), -1);
+        double targetX = centerX(target);
+        double targetY = centerY(target);
+        return new double[]{sourceX, targetY + BEND_SIZE, secondBendX(sourceX, targetX), targetY};
+    }
+
+    /**
+     * @return x of the second bend of an edge, the first bend lies straight above the source.
+     */
+    static double secondBendX(double sourceX, double targetX){
+        return sourceX < targetX ? sourceX + BEND_SIZE : sourceX - BEND_SIZE;
+    }
+}
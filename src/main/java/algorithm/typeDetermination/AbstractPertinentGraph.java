@@ -1,20 +1,27 @@
 package main.java.algorithm.typeDetermination;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
 import main.java.algorithm.types.SuccessorPathType;
+import main.java.algorithm.utils.Augmentation;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.hyperGraph.Vertex;
 import main.java.decomposition.spqrTree.TCTree;
 import main.java.decomposition.spqrTree.TCTreeNode;
 import main.java.decomposition.spqrTree.TCTreeNodeType;
+import main.java.decomposition.spqrTree.TreeIndex;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractPertinentGraph {
 
 
-    public static Map<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> pertinentGraphsOfTCTreeNodes;
-    public static TCTree<DirectedEdge, Vertex> tcTree;
+    protected final LayoutContext context;
+    protected final Map<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> pertinentGraphsOfTCTreeNodes;
+    protected final TCTree<DirectedEdge, Vertex> tcTree;
+    protected final TreeIndex<TCTreeNode<DirectedEdge, Vertex>> treeIndex;
 
     private TCTreeNode<DirectedEdge, Vertex> tcTreeNode = null;
     private SuccessorPathType successorPathType = null;
@@ -23,9 +30,16 @@ public abstract class AbstractPertinentGraph {
     private Vertex rightmostVertex = null;
     private Vertex source = null;
     private Vertex target = null;
+    // source and target of every augmentation edge found by construct(), in pairs
+    private final List<Vertex> augmentedEdgeEnds = new ArrayList<>();
+    private final List<DirectedEdge> augmentedEdges = new ArrayList<>();
 
 
-    public AbstractPertinentGraph(TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+    public AbstractPertinentGraph(LayoutContext context, TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+        this.context = context;
+        this.pertinentGraphsOfTCTreeNodes = context.getPertinentGraphsOfTCTreeNodes();
+        this.tcTree = context.getTcTree();
+        this.treeIndex = tcTree.getTreeIndex();
         this.tcTreeNode = tcTreeNode;
         pertinentGraphsOfTCTreeNodes.put(this.tcTreeNode, this);
         construct();
@@ -37,6 +51,41 @@ public abstract class AbstractPertinentGraph {
     abstract void construct() throws LDrawingNotPossibleException;
 
 
+    /**
+     * Buffers an augmentation edge. Pertinent graphs of independent subtrees may be constructed at the same time, so
+     * they do not change the shared augmented graph, see {@link #insertAugmentedEdges()}.
+     */
+    protected void addAugmentedEdge(Vertex source, Vertex target){
+        augmentedEdgeEnds.add(source);
+        augmentedEdgeEnds.add(target);
+    }
+
+    /**
+     * Inserts the buffered augmentation edges into the augmented graph in the order in which they were found.
+     */
+    public void insertAugmentedEdges(){
+        Augmentation augmentation = context.getAugmentation();
+        for(int i = 0; i < augmentedEdgeEnds.size(); i += 2){
+            DirectedEdge augmentedEdge = augmentation.getAugmentedGraph().addEdge(augmentedEdgeEnds.get(i), augmentedEdgeEnds.get(i+1));
+            augmentation.getAugmentedEdges().add(augmentedEdge);
+            augmentedEdges.add(augmentedEdge);
+        }
+        augmentedEdgeEnds.clear();
+    }
+
+    /**
+     * Removes the augmentation edges inserted for this pertinent graph, before it is constructed again or dropped.
+     */
+    public void removeAugmentedEdges(){
+        Augmentation augmentation = context.getAugmentation();
+        for(DirectedEdge augmentedEdge : augmentedEdges){
+            augmentation.getAugmentedGraph().removeEdge(augmentedEdge);
+            augmentation.getAugmentedEdges().remove(augmentedEdge);
+        }
+        augmentedEdges.clear();
+    }
+
+
 
 
 
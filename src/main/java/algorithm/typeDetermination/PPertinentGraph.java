@@ -1,7 +1,7 @@
 package main.java.algorithm.typeDetermination;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
-import main.java.algorithm.utils.Augmentation;
 import main.java.algorithm.types.SuccessorPathType;
 import main.java.algorithm.utils.PrintColors;
 import main.java.decomposition.graph.DirectedEdge;
@@ -20,8 +20,8 @@ public class PPertinentGraph extends AbstractPertinentGraph{
 
     private List<AbstractPertinentGraph> orderedChildPerts;
 
-    public PPertinentGraph(TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
-        super(tcTreeNode);
+    public PPertinentGraph(LayoutContext context, TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+        super(context, tcTreeNode);
     }
 
     @Override
@@ -30,7 +30,7 @@ public class PPertinentGraph extends AbstractPertinentGraph{
         orderedChildPerts = new ArrayList<>();
 
         //add all TypeM children that are not Q-Nodes
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
             TCTreeNodeType childTCType = childNode.getType();
             SuccessorPathType childSuccessorPathType = childPert.getSuccessorPathType();
@@ -39,7 +39,7 @@ public class PPertinentGraph extends AbstractPertinentGraph{
         }
 
         //add all QNodes
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             if(childNode.getType() == TCTreeNodeType.TYPE_Q){
                 AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
                 orderedChildPerts.add(childPert);
@@ -47,7 +47,7 @@ public class PPertinentGraph extends AbstractPertinentGraph{
         }
 
         //add TypeB Node or throw exception if there are more than one TypeB Node or QNodes.
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
             if(childPert.getSuccessorPathType() == SuccessorPathType.TYPE_B){
                 AbstractPertinentGraph lastChildPert = orderedChildPerts.isEmpty() ? null : orderedChildPerts.get(orderedChildPerts.size()-1);
@@ -81,11 +81,8 @@ public class PPertinentGraph extends AbstractPertinentGraph{
         for(int i = 0; i < orderedChildPerts.size()-1; i++){
             AbstractPertinentGraph childPert1 = orderedChildPerts.get(i);
             AbstractPertinentGraph childPert2 = orderedChildPerts.get(i+1);
-            if(childPert1.getRightmostVertex() != childPert2.getLeftmostVertex()) {
-                DirectedEdge augmentedEdge = Augmentation.getAugmentation().getAugmentedGraph().addEdge(childPert1.getRightmostVertex(), childPert2.getLeftmostVertex());
-                Augmentation.getAugmentation().getAugmentedEdges().add(augmentedEdge);
-                //LOGGER.debug(PrintColors.ANSI_BLUE + "        Insert Edge: " + augmentedEdge);
-            }
+            if(childPert1.getRightmostVertex() != childPert2.getLeftmostVertex())
+                addAugmentedEdge(childPert1.getRightmostVertex(), childPert2.getLeftmostVertex());
         }
     }
 
@@ -1,7 +1,7 @@
 package main.java.algorithm.typeDetermination;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
-import main.java.algorithm.embedding.GraphEmbedding;
 import main.java.algorithm.types.SuccessorPathType;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.hyperGraph.Vertex;
@@ -13,8 +13,8 @@ import java.util.List;
 public class QPertinentGraph extends AbstractPertinentGraph {
 
 
-    public QPertinentGraph(TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
-        super(tcTreeNode);
+    public QPertinentGraph(LayoutContext context, TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+        super(context, tcTreeNode);
     }
 
 
@@ -32,13 +32,13 @@ public class QPertinentGraph extends AbstractPertinentGraph {
 
     @Override
     public void reconstructOutgoingEmbedding(){
-        List<DirectedEdge> outgoingEdges = GraphEmbedding.getEmbedding().getOutgoingEdges(getSource());
+        List<DirectedEdge> outgoingEdges = context.getGraphEmbedding().getOutgoingEdges(getSource());
         outgoingEdges.add(this.getTcTreeNode().getSkeleton().getOriginalEdges().iterator().next());
     }
 
     @Override
     public void reconstructIncomingEmbedding(){
-        List<DirectedEdge> incomingEdges = GraphEmbedding.getEmbedding().getIncomingEdges(getTarget());
+        List<DirectedEdge> incomingEdges = context.getGraphEmbedding().getIncomingEdges(getTarget());
         incomingEdges.add(this.getTcTreeNode().getSkeleton().getOriginalEdges().iterator().next());
     }
 }
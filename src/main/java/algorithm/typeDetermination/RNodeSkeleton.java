@@ -0,0 +1,99 @@
+package main.java.algorithm.typeDetermination;
+
+import main.java.algorithm.embedding.RNodeEmbedding;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.TCTreeNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skeleton of a R-Node converted to a directed graph with one edge from the source to the target of the pertinent graph
+ * of every child, and its planar embedding.
+ */
+public class RNodeSkeleton {
+
+    private final MultiDirectedGraph convertedSkeleton = new MultiDirectedGraph();
+    private final Map<DirectedEdge, TCTreeNode<DirectedEdge, Vertex>> childrenOfVirtualEdges = new HashMap<>();
+    private final Vertex augmentedSource;
+
+    private Vertex source = null;
+    private Vertex target = null;
+    // s* and its edges to the source and the target, which exist from findPoles() until embed()
+    private Vertex skeletonSource = null;
+    private DirectedEdge skeletonEdge1 = null;
+    private DirectedEdge skeletonEdge2 = null;
+    private RNodeEmbedding embedding = null;
+
+
+    /**
+     * @param augmentedSource source added by the augmentation, it is removed from the skeleton.
+     */
+    public RNodeSkeleton(Vertex augmentedSource){
+        this.augmentedSource = augmentedSource;
+    }
+
+
+    public void addVirtualEdge(TCTreeNode<DirectedEdge, Vertex> childNode, Vertex source, Vertex target){
+        DirectedEdge virtualEdge = convertedSkeleton.addEdge(source, target);
+        childrenOfVirtualEdges.put(virtualEdge, childNode);
+    }
+
+    /**
+     * Removes the augmented source, finds the only source and the only target of the skeleton and connects a new vertex
+     * s* to them, so the outer face of the embedding is bounded by them.
+     */
+    public void findPoles(){
+        convertedSkeleton.removeVertex(augmentedSource);
+        Set<Vertex> sourceNodes = new HashSet<>(convertedSkeleton.vertexSet());
+        Set<Vertex> targetNodes = new HashSet<>(convertedSkeleton.vertexSet());
+        for(DirectedEdge edge : convertedSkeleton.getEdges()){
+            sourceNodes.remove(edge.getTarget());
+            targetNodes.remove(edge.getSource());
+        }
+        source = sourceNodes.iterator().next();
+        target = targetNodes.iterator().next();
+
+        skeletonSource = new Vertex("s*");
+        convertedSkeleton.addVertex(skeletonSource);
+        skeletonEdge1 = convertedSkeleton.addEdge(skeletonSource, source);
+        skeletonEdge2 = convertedSkeleton.addEdge(skeletonSource, target);
+    }
+
+    /**
+     * Embeds the skeleton, extracts the faces and removes s* again.
+     */
+    public void embed(){
+        embedding = new RNodeEmbedding(convertedSkeleton, skeletonSource, source, target);
+        embedding.getFaces();
+        convertedSkeleton.removeEdge(skeletonEdge2);
+        convertedSkeleton.removeEdge(skeletonEdge1);
+        convertedSkeleton.removeVertex(skeletonSource);
+    }
+
+
+
+    public MultiDirectedGraph getConvertedSkeleton() {
+        return convertedSkeleton;
+    }
+
+    public TCTreeNode<DirectedEdge, Vertex> getChildOfVirtualEdge(DirectedEdge virtualEdge) {
+        return childrenOfVirtualEdges.get(virtualEdge);
+    }
+
+    public Vertex getSource() {
+        return source;
+    }
+
+    public Vertex getTarget() {
+        return target;
+    }
+
+    public RNodeEmbedding getEmbedding() {
+        return embedding;
+    }
+}
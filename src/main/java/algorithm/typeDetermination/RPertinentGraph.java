@@ -1,10 +1,10 @@
 package main.java.algorithm.typeDetermination;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.embedding.RNodeEmbedding;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
 import main.java.algorithm.types.FaceType;
 import main.java.algorithm.types.SuccessorPathType;
-import main.java.algorithm.utils.Augmentation;
 import main.java.algorithm.utils.PrintColors;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
@@ -32,8 +32,8 @@ public class RPertinentGraph extends AbstractPertinentGraph{
     private boolean containsR = false;
 
 
-    public RPertinentGraph(TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
-        super(tcTreeNode);
+    public RPertinentGraph(LayoutContext context, TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+        super(context, tcTreeNode);
     }
 
 
@@ -50,26 +50,14 @@ public class RPertinentGraph extends AbstractPertinentGraph{
 
         setTcTreeNodeType(TCTreeNodeType.TYPE_R);
         setSuccessorPathType(SuccessorPathType.TYPE_M);
-        convertSkeleton();
-        Set<Vertex> sourceNodes = convertedSkeleton.vertexSet();
-        Set<Vertex> targetNodes = convertedSkeleton.vertexSet();
-        for(DirectedEdge edge : convertedSkeleton.getEdges()){
-            sourceNodes.remove(edge.getTarget());
-            targetNodes.remove(edge.getSource());
-        }
-        Vertex source = sourceNodes.iterator().next();
-        Vertex target = targetNodes.iterator().next();
+        RNodeSkeleton skeleton = convertSkeleton();
+        embedding = skeleton.getEmbedding();
+        convertedSkeleton = skeleton.getConvertedSkeleton();
+        for(DirectedEdge virtualEdge : convertedSkeleton.getEdges())
+            virtualEdges2PertinentGraphs.put(virtualEdge, pertinentGraphsOfTCTreeNodes.get(skeleton.getChildOfVirtualEdge(virtualEdge)));
+        Vertex source = skeleton.getSource();
         setSource(source);
-        setTarget(target);
-
-        Vertex augmentedSource = new Vertex("s*");
-        convertedSkeleton.addVertex(augmentedSource);
-        DirectedEdge augmentedEdge1 = convertedSkeleton.addEdge(augmentedSource, source);
-        DirectedEdge augmentedEdge2 = convertedSkeleton.addEdge(augmentedSource, target);
-        embedding = new RNodeEmbedding(convertedSkeleton, augmentedSource, source, target);
-        convertedSkeleton.removeEdge(augmentedEdge2);
-        convertedSkeleton.removeEdge(augmentedEdge1);
-        convertedSkeleton.removeVertex(augmentedSource);
+        setTarget(skeleton.getTarget());
 
         calculateFaceInformation();
         orderOutgoingFaces();
@@ -105,17 +93,19 @@ public class RPertinentGraph extends AbstractPertinentGraph{
 
 
 
-    private void convertSkeleton(){
+    /**
+     * @return the skeleton converted along the sources and targets of the pertinent graphs of the children, embedded.
+     */
+    private RNodeSkeleton convertSkeleton(){
 
-        convertedSkeleton = new MultiDirectedGraph();
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        RNodeSkeleton skeleton = new RNodeSkeleton(context.getAugmentation().getAugmentedSource());
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
-            Vertex source = childPert.getSource();
-            Vertex target = childPert.getTarget();
-            DirectedEdge virtualEdge = convertedSkeleton.addEdge(source, target);
-            virtualEdges2PertinentGraphs.put(virtualEdge, childPert);
+            skeleton.addVirtualEdge(childNode, childPert.getSource(), childPert.getTarget());
         }
-        convertedSkeleton.removeVertex(Augmentation.getAugmentation().getAugmentedSource());
+        skeleton.findPoles();
+        skeleton.embed();
+        return skeleton;
     }
 
 
@@ -303,7 +293,6 @@ public class RPertinentGraph extends AbstractPertinentGraph{
 
         for(Vertex vertex : convertedSkeleton.getVertices()) {
             List<Face> outgoingFaces = outgoingFacesOfVertices.get(vertex);
-            MultiDirectedGraph augmentedGraph = Augmentation.getAugmentation().getAugmentedGraph();
             boolean changedDirection = false;
 
             //all right faces
@@ -312,9 +301,7 @@ public class RPertinentGraph extends AbstractPertinentGraph{
                     containsR = true;
                     AbstractPertinentGraph lPert = virtualEdges2PertinentGraphs.get(face.getLEdge());
                     AbstractPertinentGraph rPert = virtualEdges2PertinentGraphs.get(face.getREdge());
-                    DirectedEdge augmentedEdge = augmentedGraph.addEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
-                    Augmentation.getAugmentation().getAugmentedEdges().add(augmentedEdge);
-                    //LOGGER.debug(PrintColors.ANSI_GREEN + "        Insert Edge: " + augmentedEdge);
+                    addAugmentedEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
                 }
             }
             //all left faces and undefined if they are after the first L-Face
@@ -323,9 +310,7 @@ public class RPertinentGraph extends AbstractPertinentGraph{
                     containsL = true;
                     AbstractPertinentGraph lPert = virtualEdges2PertinentGraphs.get(face.getLEdge());
                     AbstractPertinentGraph rPert = virtualEdges2PertinentGraphs.get(face.getREdge());
-                    DirectedEdge augmentedEdge = augmentedGraph.addEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
-                    Augmentation.getAugmentation().getAugmentedEdges().add(augmentedEdge);
-                    //LOGGER.debug(PrintColors.ANSI_GREEN + "        Insert Edge: " + augmentedEdge);
+                    addAugmentedEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
                 }
             }
 
@@ -334,28 +319,25 @@ public class RPertinentGraph extends AbstractPertinentGraph{
                 if(face.getFaceType() == FaceType.UNDEFINED){
                     AbstractPertinentGraph lPert = virtualEdges2PertinentGraphs.get(face.getLEdge());
                     AbstractPertinentGraph rPert = virtualEdges2PertinentGraphs.get(face.getREdge());
-                    DirectedEdge augmentedEdge;
 
                     if(containsL && containsR){
                         if(!changedDirection) {
-                            augmentedEdge = augmentedGraph.addEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
+                            addAugmentedEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
                             face.setFaceType(FaceType.TYPE_R);
                         } else {
-                            augmentedEdge = augmentedGraph.addEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
+                            addAugmentedEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
                             face.setFaceType(FaceType.TYPE_L);
                         }
                     }else if(containsR){
-                        augmentedEdge = augmentedGraph.addEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
+                        addAugmentedEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
                         face.setFaceType(FaceType.TYPE_R);
                     }else if(containsL){
-                        augmentedEdge = augmentedGraph.addEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
+                        addAugmentedEdge(rPert.getRightmostVertex(), lPert.getLeftmostVertex());
                         face.setFaceType(FaceType.TYPE_L);
                     }else{
-                        augmentedEdge = augmentedGraph.addEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
+                        addAugmentedEdge(lPert.getRightmostVertex(), rPert.getLeftmostVertex());
                         face.setFaceType(FaceType.TYPE_R);
                     }
-                    Augmentation.getAugmentation().getAugmentedEdges().add(augmentedEdge);
-                    //LOGGER.debug(PrintColors.ANSI_GREEN + "        Insert Edge: " + augmentedEdge);
                 }
                 if(face.getFaceType() == FaceType.TYPE_L){
                     changedDirection = true;
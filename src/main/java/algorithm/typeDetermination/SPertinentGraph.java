@@ -1,5 +1,6 @@
 package main.java.algorithm.typeDetermination;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
 import main.java.algorithm.utils.PrintColors;
 import main.java.decomposition.graph.DirectedEdge;
@@ -16,8 +17,8 @@ public class SPertinentGraph extends AbstractPertinentGraph{
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SPertinentGraph.class);
 
-    public SPertinentGraph(TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
-        super(tcTreeNode);
+    public SPertinentGraph(LayoutContext context, TCTreeNode<DirectedEdge, Vertex> tcTreeNode) throws LDrawingNotPossibleException {
+        super(context, tcTreeNode);
     }
 
 
@@ -26,14 +27,14 @@ public class SPertinentGraph extends AbstractPertinentGraph{
 
         Set<Vertex> sources = new HashSet<>(getTcTreeNode().getSkeleton().getVertices());
         Set<Vertex> targets = new HashSet<>(getTcTreeNode().getSkeleton().getVertices());
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
             sources.remove(childPert.getTarget());
             targets.remove(childPert.getSource());
         }
         setSource(sources.iterator().next());
         setTarget(targets.iterator().next());
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode())){
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode())){
             AbstractPertinentGraph childPert = pertinentGraphsOfTCTreeNodes.get(childNode);
             if(getSource() == childPert.getSource()){
                 setLeftmostVertex(childPert.getLeftmostVertex());
@@ -56,14 +57,14 @@ public class SPertinentGraph extends AbstractPertinentGraph{
     @Override
     public void reconstructOutgoingEmbedding(){
 
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode()))
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode()))
             pertinentGraphsOfTCTreeNodes.get(childNode).reconstructOutgoingEmbedding();
     }
 
     @Override
     public void reconstructIncomingEmbedding(){
 
-        for(TCTreeNode<DirectedEdge, Vertex> childNode : tcTree.getChildren(getTcTreeNode()))
+        for(TCTreeNode<DirectedEdge, Vertex> childNode : treeIndex.getChildren(getTcTreeNode()))
             pertinentGraphsOfTCTreeNodes.get(childNode).reconstructIncomingEmbedding();
     }
 }
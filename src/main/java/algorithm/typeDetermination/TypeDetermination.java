@@ -0,0 +1,255 @@
+package main.java.algorithm.typeDetermination;
+
+import main.java.algorithm.LayoutContext;
+import main.java.algorithm.exception.LDrawingNotPossibleException;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.TCTreeNode;
+import main.java.decomposition.spqrTree.TCTreeNodeType;
+import main.java.decomposition.spqrTree.TreeIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Constructs the pertinent graphs of all nodes of the TCTree bottom up. A pertinent graph only reads the pertinent
+ * graphs of its children, so the subtrees of a node are independent. Large trees are processed by a fork/join pool:
+ * the leaves are split into tasks and the last child that finishes continues with its parent.
+ *
+ * The result does not depend on the schedule. The augmentation edges are inserted in post order after all nodes are
+ * done, and if several nodes fail, the exception of the node that comes first in post order is thrown, as in the
+ * sequential run.
+ *
+ * The skeleton of a R-Node is embedded when its pertinent graph is constructed, i.e. by the task that finished its last
+ * child, which provides the poles of the virtual edges. So the embeddings of R-Nodes in independent subtrees run at the
+ * same time, and smaller trees are processed in parallel, too, if their R-Nodes hold many virtual edges.
+ */
+public class TypeDetermination {
+
+    // trees with fewer nodes are processed by the calling thread, unless they have R-Nodes to embed in parallel
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int LEAVES_PER_TASK = 256;
+    // two or more R-Nodes with at least this many virtual edges in total are embedded in parallel
+    private static final int EMBEDDING_THRESHOLD = 1024;
+
+    private final LayoutContext context;
+    private final TreeIndex<TCTreeNode<DirectedEdge, Vertex>> treeIndex;
+
+    // pending[i] is the number of children of node i whose pertinent graph is not constructed yet
+    private AtomicIntegerArray pending;
+    private int[] positions;
+    private int failedPosition;
+    private Throwable failure;
+
+
+    public TypeDetermination(LayoutContext context){
+        this.context = context;
+        this.treeIndex = context.getTcTree().getTreeIndex();
+    }
+
+
+    /**
+     * Constructs the pertinent graphs, in parallel on the common pool if the pool has more than one thread.
+     */
+    public void run() throws LDrawingNotPossibleException {
+        if(ForkJoinPool.getCommonPoolParallelism() < 2)
+            runSequentially();
+        else
+            run(ForkJoinPool.commonPool());
+    }
+
+    public void runSequentially() throws LDrawingNotPossibleException {
+        for(int position = 0; position < treeIndex.size(); position++)
+            construct(treeIndex.getPostOrder(position));
+        insertAugmentedEdges();
+    }
+
+    public void run(ForkJoinPool pool) throws LDrawingNotPossibleException {
+        if(treeIndex.size() < PARALLEL_THRESHOLD && !hasRNodesToEmbed())
+            runSequentially();
+        else
+            constructInParallel(pool);
+    }
+
+    /**
+     * Constructs the pertinent graphs again after the tree was changed in place, see
+     * {@link main.java.decomposition.spqrTree.TCTree#insertGraphEdge}. Only the changed nodes, their ancestors and the
+     * nodes without a pertinent graph are constructed, the pertinent graphs of the other nodes only depend on their
+     * unchanged subtrees. Pertinent graphs of nodes that left the tree are dropped with their augmentation edges.
+     */
+    public void rerun(Collection<TCTreeNode<DirectedEdge, Vertex>> changedNodes) throws LDrawingNotPossibleException {
+        Map<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> pertinentGraphs = context.getPertinentGraphsOfTCTreeNodes();
+        Iterator<Map.Entry<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph>> entries = pertinentGraphs.entrySet().iterator();
+        while(entries.hasNext()){
+            Map.Entry<TCTreeNode<DirectedEdge, Vertex>, AbstractPertinentGraph> entry = entries.next();
+            if(treeIndex.indexOf(entry.getKey()) < 0){
+                entry.getValue().removeAugmentedEdges();
+                entries.remove();
+            }
+        }
+
+        boolean[] dirty = new boolean[treeIndex.size()];
+        for(TCTreeNode<DirectedEdge, Vertex> node : changedNodes){
+            int index = treeIndex.indexOf(node);
+            while(index >= 0 && !dirty[index]){
+                dirty[index] = true;
+                index = treeIndex.getParent(index);
+            }
+        }
+
+        List<AbstractPertinentGraph> constructed = new ArrayList<>();
+        for(int position = 0; position < treeIndex.size(); position++){
+            int index = treeIndex.getPostOrder(position);
+            AbstractPertinentGraph pertinentGraph = pertinentGraphs.get(treeIndex.getNode(index));
+            if(pertinentGraph != null && !dirty[index])
+                continue;
+            if(pertinentGraph != null)
+                pertinentGraph.removeAugmentedEdges();
+            construct(index);
+            constructed.add(pertinentGraphs.get(treeIndex.getNode(index)));
+        }
+        for(AbstractPertinentGraph pertinentGraph : constructed)
+            pertinentGraph.insertAugmentedEdges();
+    }
+
+    private void constructInParallel(ForkJoinPool pool) throws LDrawingNotPossibleException {
+        int size = treeIndex.size();
+        pending = new AtomicIntegerArray(size);
+        positions = new int[size];
+        failedPosition = size;
+        failure = null;
+
+        List<Integer> leaves = new ArrayList<>();
+        for(int position = 0; position < size; position++){
+            int node = treeIndex.getPostOrder(position);
+            positions[node] = position;
+            int children = treeIndex.getChildrenEnd(node) - treeIndex.getChildrenStart(node);
+            pending.set(node, children);
+            if(children == 0)
+                leaves.add(node);
+        }
+        int[] leafArray = new int[leaves.size()];
+        for(int i = 0; i < leafArray.length; i++)
+            leafArray[i] = leaves.get(i);
+
+        // small tasks for small trees, so their R-Nodes are spread over the pool
+        int leavesPerTask = Math.max(1, Math.min(LEAVES_PER_TASK, leafArray.length / (4 * pool.getParallelism())));
+        pool.invoke(new LeavesTask(leafArray, 0, leafArray.length, leavesPerTask));
+
+        if(failure instanceof LDrawingNotPossibleException)
+            throw (LDrawingNotPossibleException) failure;
+        if(failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if(failure instanceof Error)
+            throw (Error) failure;
+        insertAugmentedEdges();
+    }
+
+
+    /**
+     * @return true if the tree has two or more R-Nodes with enough virtual edges to embed them in parallel.
+     */
+    private boolean hasRNodesToEmbed(){
+        int rNodeCount = 0, edges = 0;
+        for(int index = 0; index < treeIndex.size(); index++){
+            if(treeIndex.getNode(index).getType() == TCTreeNodeType.TYPE_R){
+                rNodeCount++;
+                edges += treeIndex.getChildrenEnd(index) - treeIndex.getChildrenStart(index);
+            }
+        }
+        return rNodeCount >= 2 && edges >= EMBEDDING_THRESHOLD;
+    }
+
+    /**
+     * Constructs the pertinent graph of the node and continues with the parent as long as this task finished its
+     * last open child.
+     */
+    private void processUpwards(int node){
+        while(node >= 0){
+            if(positions[node] > failedPosition())
+                return;
+            try{
+                construct(node);
+            }catch(LDrawingNotPossibleException | RuntimeException | Error e){
+                fail(node, e);
+                return;
+            }
+            int parent = treeIndex.getParent(node);
+            if(parent < 0 || pending.decrementAndGet(parent) != 0)
+                return;
+            node = parent;
+        }
+    }
+
+    private synchronized int failedPosition(){
+        return failedPosition;
+    }
+
+    private synchronized void fail(int node, Throwable e){
+        if(positions[node] < failedPosition){
+            failedPosition = positions[node];
+            failure = e;
+        }
+    }
+
+    private void construct(int index) throws LDrawingNotPossibleException {
+        TCTreeNode<DirectedEdge, Vertex> node = treeIndex.getNode(index);
+        switch (node.getType()) {
+            case TYPE_Q:
+                new QPertinentGraph(context, node);
+                break;
+            case TYPE_S:
+                new SPertinentGraph(context, node);
+                break;
+            case TYPE_P:
+                new PPertinentGraph(context, node);
+                break;
+            case TYPE_R:
+                new RPertinentGraph(context, node);
+                break;
+        }
+    }
+
+    private void insertAugmentedEdges(){
+        for(TCTreeNode<DirectedEdge, Vertex> node : treeIndex.getPostOrder())
+            context.getPertinentGraphsOfTCTreeNodes().get(node).insertAugmentedEdges();
+    }
+
+
+    /**
+     * Processes the leaves from start to end and all nodes above them that become ready.
+     */
+    private class LeavesTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 8764392172933489320L;
+
+        private final int[] leaves;
+        private final int start;
+        private final int end;
+        private final int leavesPerTask;
+
+        private LeavesTask(int[] leaves, int start, int end, int leavesPerTask){
+            this.leaves = leaves;
+            this.start = start;
+            this.end = end;
+            this.leavesPerTask = leavesPerTask;
+        }
+
+        @Override
+        protected void compute(){
+            if(end - start > leavesPerTask){
+                int middle = (start + end) >>> 1;
+                invokeAll(new LeavesTask(leaves, start, middle, leavesPerTask), new LeavesTask(leaves, middle, end, leavesPerTask));
+                return;
+            }
+            for(int i = start; i < end; i++)
+                processUpwards(leaves[i]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package main.java.algorithm.types;
+
+
+/**
+ * Phases of the L-Drawing pipeline, in the order they are executed.
+ */
+public enum LayoutPhase {
+
+    PREPARATION("check, conversion, source and target"),
+    DECOMPOSITION("augmentation, SPQR-tree, post order"),
+    TYPE_DETERMINATION("pertinent graphs"),
+    EMBEDDING("reconstruction of the embedding"),
+    COORDINATES("st-ordering, x- and y-coordinates");
+
+    private final String description;
+
+    LayoutPhase(String description){
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
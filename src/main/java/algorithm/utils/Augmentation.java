@@ -1,5 +1,6 @@
 package main.java.algorithm.utils;
 
+import main.java.algorithm.LayoutContext;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
 import main.java.decomposition.hyperGraph.Vertex;
@@ -12,21 +13,18 @@ public class Augmentation {
     private Set<DirectedEdge> augmentedEdges;
     private MultiDirectedGraph augmentedGraph;
     private Vertex augmentedSource;
-    //Singleton
-    private static Augmentation singleton;
 
 
+    /**
+     * @return the augmentation of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
     public static Augmentation getAugmentation(){
-        return singleton;
-    }
-
-    public static Augmentation createAugmentation(MultiDirectedGraph augmentedGraph){
-        singleton = new Augmentation(augmentedGraph);
-        return singleton;
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getAugmentation();
     }
 
 
-    private Augmentation(MultiDirectedGraph augmentedGraph){
+    public Augmentation(MultiDirectedGraph augmentedGraph){
         this.augmentedEdges = new HashSet<>();
         this.augmentedGraph = augmentedGraph;
     }
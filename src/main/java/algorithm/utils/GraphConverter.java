@@ -1,6 +1,7 @@
 package main.java.algorithm.utils;
 
 import com.yworks.yfiles.graph.*;
+import main.java.algorithm.LayoutContext;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.graph.MultiDirectedGraph;
 import main.java.decomposition.hyperGraph.Vertex;
@@ -12,25 +13,27 @@ public class GraphConverter {
 
     private Map<Vertex, INode> convV2OrigV;
     private Map<DirectedEdge, IEdge> convE2OrigE;
+    private Map<INode, Vertex> origV2ConvV;
+    private Map<IEdge, DirectedEdge> origE2ConvE;
     private IGraph originalGraph;
     private MultiDirectedGraph convertedGraph;
 
-    private static GraphConverter singleton;
-
-    public static GraphConverter createGraphConverter(IGraph graph){
-        singleton = new GraphConverter(graph);
-        return singleton;
-    }
 
+    /**
+     * @return the converter of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
     public static GraphConverter getGraphConverter() {
-        return singleton;
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getGraphConverter();
     }
 
 
-    private GraphConverter(IGraph graph){
+    public GraphConverter(IGraph graph){
         this.originalGraph = graph;
         this.convV2OrigV = new HashMap<>();
         this.convE2OrigE = new HashMap<>();
+        this.origV2ConvV = new HashMap<>();
+        this.origE2ConvE = new HashMap<>();
         convert();
     }
 
@@ -39,20 +42,40 @@ public class GraphConverter {
     private void convert(){
 
         convertedGraph = new MultiDirectedGraph();
-        Map<INode, Vertex> vertexMap = new HashMap<>();
 
         for(INode node : originalGraph.getNodes()){
             Vertex convertedVertex = new Vertex(node.getLabels().first().getText());
-            vertexMap.put(node, convertedVertex);
+            convertedGraph.addVertex(convertedVertex);
+            origV2ConvV.put(node, convertedVertex);
             convV2OrigV.put(convertedVertex, node);
         }
 
-        for(IEdge edge : originalGraph.getEdges()){
-            INode source = edge.getSourceNode();
-            INode target = edge.getTargetNode();
-            DirectedEdge convertedEdge = convertedGraph.addEdge(vertexMap.get(source), vertexMap.get(target));
-            convE2OrigE.put(convertedEdge, edge);
+        for(IEdge edge : originalGraph.getEdges())
+            addEdge(edge);
+    }
+
+
+    /**
+     * Converts an edge between two converted nodes and adds it to the converted graph.
+     */
+    public DirectedEdge addEdge(IEdge edge){
+        DirectedEdge convertedEdge = convertedGraph.addEdge(origV2ConvV.get(edge.getSourceNode()), origV2ConvV.get(edge.getTargetNode()));
+        convE2OrigE.put(convertedEdge, edge);
+        origE2ConvE.put(edge, convertedEdge);
+        return convertedEdge;
+    }
+
+    /**
+     * Removes the converted edge of the given edge from the converted graph.
+     * @return the removed edge or null if the edge was not converted.
+     */
+    public DirectedEdge removeEdge(IEdge edge){
+        DirectedEdge convertedEdge = origE2ConvE.remove(edge);
+        if(convertedEdge != null){
+            convE2OrigE.remove(convertedEdge);
+            convertedGraph.removeEdge(convertedEdge);
         }
+        return convertedEdge;
     }
 
 
@@ -65,6 +88,18 @@ public class GraphConverter {
         return convE2OrigE;
     }
 
+    public Map<INode, Vertex> getOrigV2ConvV() {
+        return origV2ConvV;
+    }
+
+    public Map<IEdge, DirectedEdge> getOrigE2ConvE() {
+        return origE2ConvE;
+    }
+
+    public IGraph getOriginalGraph() {
+        return originalGraph;
+    }
+
     public MultiDirectedGraph getConvertedGraph() {
         return convertedGraph;
     }
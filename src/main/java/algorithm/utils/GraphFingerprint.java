@@ -0,0 +1,162 @@
+package main.java.algorithm.utils;
+
+import com.yworks.yfiles.graph.IEdge;
+import com.yworks.yfiles.graph.IGraph;
+import com.yworks.yfiles.graph.INode;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SHA-256 digest of a directed graph given by its vertex labels and edges in a fixed order. The vertices are numbered
+ * in their order and every edge is encoded by the numbers of its source and target, so the fingerprint only depends on
+ * the structure, the labels and the order, not on the ids of the graph objects. A yFiles graph and the same graph read
+ * from a file have the same fingerprint, as the label of a node becomes the name of its vertex.
+ */
+public final class GraphFingerprint {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final byte[] digest;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int hashCode;
+
+
+    private GraphFingerprint(byte[] digest, int vertexCount, int edgeCount){
+        this.digest = digest;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.hashCode = Arrays.hashCode(digest);
+    }
+
+
+    /**
+     * @return the fingerprint of the nodes and edges in the order of the graph.
+     */
+    public static GraphFingerprint of(IGraph graph){
+
+        Encoder encoder = new Encoder();
+        Map<INode, Integer> numbers = new HashMap<>(2 * graph.getNodes().size());
+        encoder.putInt(graph.getNodes().size());
+        for(INode node : graph.getNodes()){
+            numbers.put(node, numbers.size());
+            encoder.putString(node.getLabels().first().getText());
+        }
+        encoder.putInt(graph.getEdges().size());
+        for(IEdge edge : graph.getEdges()){
+            encoder.putInt(numbers.get(edge.getSourceNode()));
+            encoder.putInt(numbers.get(edge.getTargetNode()));
+        }
+        return new GraphFingerprint(encoder.digest(), graph.getNodes().size(), graph.getEdges().size());
+    }
+
+    /**
+     * @param vertices the vertices in a fixed order, e.g. the order of the file they were read from.
+     * @param edges the edges between the vertices in a fixed order.
+     */
+    public static GraphFingerprint of(List<Vertex> vertices, List<DirectedEdge> edges){
+
+        Encoder encoder = new Encoder();
+        Map<Vertex, Integer> numbers = new HashMap<>(2 * vertices.size());
+        encoder.putInt(vertices.size());
+        for(Vertex vertex : vertices){
+            numbers.put(vertex, numbers.size());
+            encoder.putString(vertex.getName());
+        }
+        encoder.putInt(edges.size());
+        for(DirectedEdge edge : edges){
+            encoder.putInt(numbers.get(edge.getSource()));
+            encoder.putInt(numbers.get(edge.getTarget()));
+        }
+        return new GraphFingerprint(encoder.digest(), vertices.size(), edges.size());
+    }
+
+
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object)
+            return true;
+        if(!(object instanceof GraphFingerprint))
+            return false;
+        GraphFingerprint other = (GraphFingerprint) object;
+        return vertexCount == other.vertexCount && edgeCount == other.edgeCount && Arrays.equals(digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(2 * digest.length);
+        for(byte b : digest)
+            builder.append(String.format("%02x", b));
+        return builder.toString();
+    }
+
+
+    /**
+     * Feeds the digest through a buffer, so the graph is not encoded as a whole.
+     */
+    private static class Encoder {
+
+        private final MessageDigest messageDigest;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private Encoder(){
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException("SHA-256 is not available.", exception);
+            }
+        }
+
+        private void putInt(int value){
+            if(buffer.remaining() < Integer.BYTES)
+                flush();
+            buffer.putInt(value);
+        }
+
+        private void putString(String value){
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            // null and empty labels differ by the length
+            putInt(value == null ? -1 : bytes.length);
+            for(int offset = 0; offset < bytes.length; ){
+                if(!buffer.hasRemaining())
+                    flush();
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void flush(){
+            messageDigest.update(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+
+        private byte[] digest(){
+            flush();
+            return messageDigest.digest();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package main.java.algorithm.utils;
+
+import main.java.algorithm.embedding.LRPlanarity;
+import main.java.algorithm.exception.GraphConditionsException;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks in linear time that a graph fulfills the conditions of the L-Drawing algorithm: connected, acyclic, planar
+ * and exactly one source and one target. The edges are swept once to index them and to compute the degrees and the
+ * connected components; the test for cycles and the planarity test work on the resulting arrays.
+ */
+public class GraphValidator {
+
+    private Vertex source;
+    private Vertex target;
+
+
+    public GraphValidator(MultiDirectedGraph graph) throws GraphConditionsException {
+
+        List<Vertex> vertices = new ArrayList<>(graph.getVertices());
+        Collection<DirectedEdge> edges = graph.getEdges();
+        int vertexCount = vertices.size();
+        int edgeCount = edges.size();
+
+        if(vertexCount < 2)
+            throw new GraphConditionsException("The input graph contains less than two nodes. Please add nodes to the graph until it contains at least two nodes.");
+        if(edgeCount < 1)
+            throw new GraphConditionsException("The input graph contains no edges. Please add edges to the graph until it contains at least one edges.");
+
+        Map<Vertex, Integer> indices = new HashMap<>(2 * vertexCount);
+        for(int i = 0; i < vertexCount; i++)
+            indices.put(vertices.get(i), i);
+
+        int[] edgeSources = new int[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        int[] inDegree = new int[vertexCount];
+        int[] outDegree = new int[vertexCount];
+        int[] component = new int[vertexCount];
+        for(int i = 0; i < vertexCount; i++)
+            component[i] = i;
+        int components = vertexCount;
+
+        int edgeIndex = 0;
+        for(DirectedEdge edge : edges){
+            int s = indices.get(edge.getSource());
+            int t = indices.get(edge.getTarget());
+            edgeSources[edgeIndex] = s;
+            edgeTargets[edgeIndex++] = t;
+            outDegree[s]++;
+            inDegree[t]++;
+
+            int rootS = find(component, s);
+            int rootT = find(component, t);
+            if(rootS != rootT){
+                component[rootS] = rootT;
+                components--;
+            }
+        }
+
+        if(components > 1)
+            throw new GraphConditionsException("The input graph is not connected. Please connect all nodes of the graph to a biconnected graph.");
+
+        int sourceCount = 0, targetCount = 0, sourceIndex = -1, targetIndex = -1;
+        for(int i = 0; i < vertexCount; i++){
+            if(inDegree[i] == 0){
+                sourceCount++;
+                sourceIndex = i;
+            }
+            if(outDegree[i] == 0){
+                targetCount++;
+                targetIndex = i;
+            }
+        }
+
+        int[] order = orderTopologically(vertexCount, edgeSources, edgeTargets, inDegree, outDegree);
+        if(order == null)
+            throw new GraphConditionsException("The input graph is cyclic. Please remove or change edges to make the graph acyclic.");
+        if(!new LRPlanarity(vertexCount, edgeSources, edgeTargets).isPlanar())
+            throw new GraphConditionsException("The input graph is not planar. Please make sure the graph admits a planar embedding.");
+
+        if(sourceCount != 1)
+            throw new GraphConditionsException("The input graph contains more than one source. Please add edges to the graph until it contains exactly one source.");
+        if(targetCount != 1)
+            throw new GraphConditionsException("The input graph contains more than one target. Please add edges to the graph until it contains exactly one target.");
+
+        this.source = vertices.get(sourceIndex);
+        this.target = vertices.get(targetIndex);
+    }
+
+
+
+    /**
+     * Orders the vertices starting at every vertex without incoming edges.
+     * @return the order or null if not all vertices could be ordered, i.e. the graph contains a cycle.
+     */
+    private static int[] orderTopologically(int vertexCount, int[] edgeSources, int[] edgeTargets, int[] inDegree, int[] outDegree){
+
+        int[] outgoingStart = new int[vertexCount + 1];
+        for(int i = 0; i < vertexCount; i++)
+            outgoingStart[i + 1] = outgoingStart[i] + outDegree[i];
+        int[] outgoing = new int[edgeSources.length];
+        int[] position = new int[vertexCount];
+        System.arraycopy(outgoingStart, 0, position, 0, vertexCount);
+        for(int edge = 0; edge < edgeSources.length; edge++)
+            outgoing[position[edgeSources[edge]]++] = edgeTargets[edge];
+
+        int[] remainingIncoming = inDegree.clone();
+        int[] order = new int[vertexCount];
+        int ordered = 0;
+        int[] stack = new int[vertexCount];
+
+        for(int start = 0; start < vertexCount; start++){
+            if(inDegree[start] != 0)
+                continue;
+
+            int top = 0;
+            stack[top++] = start;
+            order[ordered++] = start;
+            position[start] = outgoingStart[start];
+            while(top > 0){
+                int vertex = stack[top - 1];
+                if(position[vertex] == outgoingStart[vertex + 1]){
+                    top--;
+                    continue;
+                }
+                int successor = outgoing[position[vertex]++];
+                if(--remainingIncoming[successor] == 0){
+                    order[ordered++] = successor;
+                    position[successor] = outgoingStart[successor];
+                    stack[top++] = successor;
+                }
+            }
+        }
+        return ordered == vertexCount ? order : null;
+    }
+
+    private static int find(int[] component, int vertex){
+        while(component[vertex] != vertex){
+            component[vertex] = component[component[vertex]];
+            vertex = component[vertex];
+        }
+        return vertex;
+    }
+
+
+
+    public Vertex getSource() {
+        return source;
+    }
+
+    public Vertex getTarget() {
+        return target;
+    }
+}
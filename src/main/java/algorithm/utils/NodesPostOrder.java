@@ -1,41 +1,26 @@
 package main.java.algorithm.utils;
 
+import main.java.algorithm.LayoutContext;
 import main.java.decomposition.graph.DirectedEdge;
 import main.java.decomposition.hyperGraph.Vertex;
 import main.java.decomposition.spqrTree.TCTree;
 import main.java.decomposition.spqrTree.TCTreeNode;
 
 import java.util.ArrayList;
-import java.util.List;
 
 public class NodesPostOrder extends ArrayList<TCTreeNode<DirectedEdge, Vertex>> {
 
-    private TCTree<DirectedEdge, Vertex> tcTree;
-    //Singleton
-    private static NodesPostOrder singleton;
-
 
+    /**
+     * @return the post order of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
     public static NodesPostOrder getNodesPostOrder(){
-        return singleton;
-    }
-
-    public static NodesPostOrder createNodesPostOrder(TCTree<DirectedEdge, Vertex> tcTree){
-        singleton = new NodesPostOrder(tcTree);
-        return singleton;
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getNodesPostOrder();
     }
 
 
-    private NodesPostOrder(TCTree<DirectedEdge, Vertex> tcTree){
-        super(tcTree.countVertices());
-        this.tcTree = tcTree;
-        orderNodes(tcTree.getRoot());
-    }
-
-    private void orderNodes(TCTreeNode<DirectedEdge, Vertex> node){
-
-        for(TCTreeNode<DirectedEdge, Vertex> child : tcTree.getChildren(node))
-            orderNodes(child);
-
-        add(node);
+    public NodesPostOrder(TCTree<DirectedEdge, Vertex> tcTree){
+        super(tcTree.getTreeIndex().getPostOrder());
     }
 }
@@ -1,54 +1,91 @@
 package main.java.algorithm.utils;
 
-import main.java.decomposition.graph.DirectedEdge;
-import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.algorithm.LayoutContext;
+import main.java.decomposition.graph.CSRGraph;
 import main.java.decomposition.hyperGraph.Vertex;
 
 import java.util.*;
 
 public class STOrdering {
 
-    private List<Vertex> stOrderingList = new ArrayList<>();
-    private Map<Vertex, Integer> stOrderingMap = new HashMap<>();
-    private MultiDirectedGraph graph;
-
-    //Singleton
-    private static STOrdering singleton;
+    private List<Vertex> stOrderingList;
+    private Map<Vertex, Integer> stOrderingMap;
+    private CSRGraph graph;
+    private int[] order;
+    private int[] rank;
+    private int ordered;
 
 
+    /**
+     * @return the st-ordering of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
     public static STOrdering getSTOrdering(){
-        return singleton;
-    }
-
-    public static STOrdering createSTOrdering(MultiDirectedGraph graph, Vertex source){
-        singleton = new STOrdering(graph, source);
-        return singleton;
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getSTOrdering();
     }
 
-    private STOrdering(MultiDirectedGraph graph, Vertex source){
+    public STOrdering(CSRGraph graph, int source){
 
         this.graph = graph;
-        Map<Vertex, Integer> incomingEdgesCounters = new HashMap<>();
-        for(Vertex vertex : graph.getVertices())
-            incomingEdgesCounters.put(vertex, graph.getEdgesWithTarget(vertex).size());
+        int vertexCount = graph.getVertexCount();
+        this.order = new int[vertexCount];
+        this.rank = new int[vertexCount];
+        Arrays.fill(rank, -1);
+
+        int[] incomingEdgesCounters = new int[vertexCount];
+        for(int vertex = 0; vertex < vertexCount; vertex++)
+            incomingEdgesCounters[vertex] = graph.getInDegree(vertex);
 
         orderVertices(source, incomingEdgesCounters);
+        if(ordered < vertexCount)
+            this.order = Arrays.copyOf(order, ordered);
+
+        this.stOrderingList = new ArrayList<>(ordered);
+        this.stOrderingMap = new HashMap<>(2 * ordered);
+        for(int vertex : order){
+            stOrderingMap.put(graph.getVertex(vertex), stOrderingList.size());
+            stOrderingList.add(graph.getVertex(vertex));
+        }
     }
 
 
 
 
-    private void orderVertices(Vertex vertex, Map<Vertex, Integer> incomingEdgesCounters){
-
-        stOrderingMap.put(vertex, stOrderingMap.size());
-        stOrderingList.add(vertex);
-
-        for(DirectedEdge outgoingEdge : graph.getEdgesWithSource(vertex)){
-            Vertex target = outgoingEdge.getTarget();
-            int incomingEdgesCounter = incomingEdgesCounters.get(target);
-            incomingEdgesCounters.replace(target, incomingEdgesCounter, incomingEdgesCounter-1);
-            if(incomingEdgesCounter-1 < 1)
-                orderVertices(target, incomingEdgesCounters);
+    /**
+     * Kahn's algorithm with a stack instead of a queue: a vertex is ordered as soon as its last incoming edge is removed
+     * and its outgoing edges are processed before those of the vertices ordered earlier, i.e. in the order of a
+     * depth-first traversal, without recursion.
+     */
+    private void orderVertices(int source, int[] incomingEdgesCounters){
+
+        int[] outOffsets = graph.getOutOffsets();
+        int[] outEdges = graph.getOutEdges();
+        int[] stackVertices = new int[order.length];
+        int[] stackPositions = new int[order.length];
+        int top = 0;
+
+        rank[source] = ordered;
+        order[ordered++] = source;
+        stackVertices[top] = source;
+        stackPositions[top] = outOffsets[source];
+
+        while(top >= 0){
+            int vertex = stackVertices[top];
+            int position = stackPositions[top];
+            if(position == outOffsets[vertex + 1]){
+                top--;
+                continue;
+            }
+            stackPositions[top] = position + 1;
+
+            int target = graph.getTarget(outEdges[position]);
+            if(--incomingEdgesCounters[target] < 1){
+                rank[target] = ordered;
+                order[ordered++] = target;
+                top++;
+                stackVertices[top] = target;
+                stackPositions[top] = outOffsets[target];
+            }
         }
     }
 
@@ -60,27 +97,18 @@ public class STOrdering {
     public Map<Vertex, Integer> getSTOrderingMap() {
         return stOrderingMap;
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    /**
+     * @return the vertex indices of the {@link CSRGraph} in st-order.
+     */
+    public int[] getOrder() {
+        return order;
+    }
 
+    /**
+     * @return the position of every vertex index in the st-ordering, -1 for vertices that are not ordered.
+     */
+    public int[] getRank() {
+        return rank;
+    }
+}
@@ -1,25 +1,24 @@
 package main.java.algorithm.utils.coordinates;
 
-import main.java.decomposition.graph.MultiDirectedGraph;
-import main.java.decomposition.hyperGraph.Vertex;
-
-import java.util.HashMap;
-import java.util.Map;
+import main.java.decomposition.graph.CSRGraph;
 
+/**
+ * Coordinates of the vertices indexed like the vertices of the {@link CSRGraph}.
+ */
 public abstract class AbstractCoordinates {
 
     public static int DISTANCE = 50;
 
-    protected Map<Vertex, Integer> coordinates;
-    protected MultiDirectedGraph graph;
+    protected int[] coordinates;
+    protected CSRGraph graph;
 
 
-    public AbstractCoordinates(MultiDirectedGraph graph){
+    public AbstractCoordinates(CSRGraph graph){
         this.graph = graph;
-        this.coordinates = new HashMap<>();
+        this.coordinates = new int[graph.getVertexCount()];
     }
 
-    public Map<Vertex, Integer> getCoordinates() {
+    public int[] getCoordinates() {
         return coordinates;
     }
 }
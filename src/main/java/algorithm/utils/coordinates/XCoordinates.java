@@ -1,122 +1,139 @@
 package main.java.algorithm.utils.coordinates;
 
-import main.java.algorithm.embedding.GraphEmbedding;
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.utils.STOrdering;
-import main.java.decomposition.graph.DirectedEdge;
-import main.java.decomposition.graph.MultiDirectedGraph;
-import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.graph.CSRGraph;
 
 import java.util.*;
 
+/**
+ * Places the vertices from left to right. Works on the {@link CSRGraph} of the embedding, i.e. the outgoing and
+ * incoming edges of every vertex are ordered from left to right, and keeps the horizontal order as linked list in
+ * the arrays left and right.
+ */
 public class XCoordinates extends AbstractCoordinates{
 
-    private Map<Vertex, Map<Vertex, Boolean>> isLeftPlacementPossible = new HashMap<>();
+    private static final int NONE = -1;
 
-    //Singleton
-    private static XCoordinates singleton;
+    private boolean[] isLeftPlacementPossible;
+    private int[] left;
+    private int[] right;
+    private STOrdering stOrdering;
 
-    public static XCoordinates getXCoordinates(){
-        return singleton;
-    }
 
-    public static XCoordinates createCoordinates(MultiDirectedGraph graph){
-        singleton = new XCoordinates(graph);
-        return singleton;
+    /**
+     * @return the x-coordinates of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
+    public static XCoordinates getXCoordinates(){
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getXCoordinates();
     }
 
-    private XCoordinates(MultiDirectedGraph graph){
-        super(graph);
+    /**
+     * @param embeddedGraph graph with the adjacency runs in the order of the embedding, its vertex indices have to be
+     *                      the ones of the st-ordering.
+     */
+    public XCoordinates(CSRGraph embeddedGraph, STOrdering stOrdering){
+        super(embeddedGraph);
+        this.stOrdering = stOrdering;
+        this.left = new int[graph.getVertexCount()];
+        this.right = new int[graph.getVertexCount()];
+        Arrays.fill(left, NONE);
+        Arrays.fill(right, NONE);
         calculateIsLeftPlacementPossible();
         calculateXCoordinates();
     }
 
     private void calculateXCoordinates(){
 
-        List<Vertex> stOrderingList = STOrdering.getSTOrdering().getSTOrderingList();
+        int[] order = stOrdering.getOrder();
 
-        for(int i = 1; i < stOrderingList.size(); i++){
-            Vertex vertex = stOrderingList.get(i);
+        for(int i = 1; i < order.length; i++){
+            int vertex = order[i];
             placeVertexInXDirection(vertex);
         }
 
 
         //find the leftmost vertex in the x-ordering
-        Vertex leftmost = null;
-        for(Vertex vertex : stOrderingList){
-            if(vertex.getLeft() == null) {
+        int leftmost = NONE;
+        for(int vertex : order){
+            if(left[vertex] == NONE) {
                 leftmost = vertex;
                 break;
             }
         }
 
         //assign x-coordinates to the vertices
-        Vertex currentVertex = leftmost;
-        int index = stOrderingList.size()-1;
-        while(currentVertex.getRight() != null){
-            coordinates.put(currentVertex, index--*DISTANCE);
-            currentVertex = currentVertex.getRight();
+        int currentVertex = leftmost;
+        int index = order.length-1;
+        while(right[currentVertex] != NONE){
+            coordinates[currentVertex] = index--*DISTANCE;
+            currentVertex = right[currentVertex];
         }
     }
 
 
-    private void placeVertexInXDirection(Vertex vertex){
+    private void placeVertexInXDirection(int vertex){
+
+        int sizeOfIncomingEdges = graph.getInDegree(vertex);
+        if(sizeOfIncomingEdges == 0)
+            throw new IllegalStateException("The vertex " + graph.getVertex(vertex) + " has no incoming edge in the embedding.");
 
-        List<DirectedEdge> incomingEdgesOfVertex = GraphEmbedding.getEmbedding().getIncomingEdges(vertex);
-        int sizeOfIncomingEdges = incomingEdgesOfVertex.size();
         if(sizeOfIncomingEdges == 1){
 
-            Vertex source = incomingEdgesOfVertex.get(0).getSource();
+            int incomingEdge = graph.getInEdge(vertex, 0);
+            int source = graph.getSource(incomingEdge);
 
-            if(isLeftPlacementPossible.get(source).get(vertex)){
-                Vertex left = source.getLeft();
-                if(left != null){
-                    left.setRight(vertex);
-                    vertex.setLeft(left);
+            if(isLeftPlacementPossible[incomingEdge]){
+                int left = this.left[source];
+                if(left != NONE){
+                    right[left] = vertex;
+                    this.left[vertex] = left;
                 }
-                source.setLeft(vertex);
-                vertex.setRight(source);
+                this.left[source] = vertex;
+                right[vertex] = source;
             }else{
-                Vertex right = source.getRight();
-                if(right != null){
-                    right.setLeft(vertex);
-                    vertex.setRight(right);
+                int right = this.right[source];
+                if(right != NONE){
+                    left[right] = vertex;
+                    this.right[vertex] = right;
                 }
-                source.setRight(vertex);
-                vertex.setLeft(source);
+                this.right[source] = vertex;
+                left[vertex] = source;
             }
         }else{
-            DirectedEdge rightmostIncomingEdge = incomingEdgesOfVertex.get(sizeOfIncomingEdges-1);
-            Vertex right = rightmostIncomingEdge.getSource();
-            Vertex left = right.getLeft();
+            int rightmostIncomingEdge = graph.getInEdge(vertex, sizeOfIncomingEdges-1);
+            int right = graph.getSource(rightmostIncomingEdge);
+            int left = this.left[right];
 
-            if(left != null) {
-                left.setRight(vertex);
-                vertex.setLeft(left);
+            if(left != NONE) {
+                this.right[left] = vertex;
+                this.left[vertex] = left;
             }
-            right.setLeft(vertex);
-            vertex.setRight(right);
+            this.left[right] = vertex;
+            this.right[vertex] = right;
         }
     }
 
 
+    /**
+     * An outgoing edge allows to place its target left of the source if the target comes later in the st-ordering
+     * than the targets of all outgoing edges left of it.
+     */
     private void calculateIsLeftPlacementPossible(){
 
-        Map<Vertex, Integer> stOrdering = STOrdering.getSTOrdering().getSTOrderingMap();
-
-        for(Vertex vertex : stOrdering.keySet()){
-            isLeftPlacementPossible.put(vertex, new HashMap<>());
+        int[] rank = stOrdering.getRank();
+        isLeftPlacementPossible = new boolean[graph.getEdgeCount()];
 
-            List<DirectedEdge> outgoingEdges = GraphEmbedding.getEmbedding().getOutgoingEdges(vertex);
+        for(int vertex : stOrdering.getOrder()){
             int highestSTIndex = -1;
 
-            for(DirectedEdge outgoingEdge : outgoingEdges){
-                Vertex successor = outgoingEdge.getTarget();
-                int stIndex = stOrdering.get(successor);
+            for(int i = 0; i < graph.getOutDegree(vertex); i++){
+                int outgoingEdge = graph.getOutEdge(vertex, i);
+                int stIndex = rank[graph.getTarget(outgoingEdge)];
                 if(stIndex > highestSTIndex){
                     highestSTIndex = stIndex;
-                    isLeftPlacementPossible.get(vertex).put(successor, true);
-                }else{
-                    isLeftPlacementPossible.get(vertex).put(successor, false);
+                    isLeftPlacementPossible[outgoingEdge] = true;
                 }
             }
         }
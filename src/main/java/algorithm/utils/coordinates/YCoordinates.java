@@ -1,36 +1,33 @@
 package main.java.algorithm.utils.coordinates;
 
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.utils.STOrdering;
-import main.java.decomposition.graph.MultiDirectedGraph;
-import main.java.decomposition.hyperGraph.Vertex;
-
-import java.util.List;
+import main.java.decomposition.graph.CSRGraph;
 
 public class YCoordinates extends AbstractCoordinates{
 
-    //Singleton
-    private static YCoordinates singleton;
+    private STOrdering stOrdering;
 
-    public static YCoordinates getYCoordinates(){
-        return singleton;
-    }
 
-    public static YCoordinates createCoordinates(MultiDirectedGraph graph){
-        singleton = new YCoordinates(graph);
-        return singleton;
+    /**
+     * @return the y-coordinates of the last finished run, see {@link LayoutContext#getLastContext()}.
+     */
+    public static YCoordinates getYCoordinates(){
+        LayoutContext context = LayoutContext.getLastContext();
+        return context == null ? null : context.getYCoordinates();
     }
 
-    public YCoordinates(MultiDirectedGraph graph) {
+    public YCoordinates(CSRGraph graph, STOrdering stOrdering) {
         super(graph);
+        this.stOrdering = stOrdering;
         calculateYCoordinates();
     }
 
     private void calculateYCoordinates(){
 
-        List<Vertex> stOrdering = STOrdering.getSTOrdering().getSTOrderingList();
         int counter = 0;
 
-        for(Vertex vertex : stOrdering)
-            coordinates.put(vertex, DISTANCE * counter++);
+        for(int vertex : stOrdering.getOrder())
+            coordinates[vertex] = DISTANCE * counter++;
     }
 }
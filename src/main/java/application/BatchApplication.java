@@ -0,0 +1,287 @@
+package main.java.application;
+
+import main.java.algorithm.LDrawing;
+import main.java.algorithm.LayoutCache;
+import main.java.algorithm.LayoutContext;
+import main.java.algorithm.exception.GraphConditionsException;
+import main.java.algorithm.exception.LDrawingNotPossibleException;
+import main.java.algorithm.io.BinaryGraphReader;
+import main.java.algorithm.io.BinaryGraphWriter;
+import main.java.algorithm.io.GraphMLReader;
+import main.java.algorithm.io.GraphReader;
+import main.java.algorithm.io.LayoutWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless entry point that lays out GraphML or binary graph files with a bounded pool of workers.
+ *
+ * Usage: BatchApplication [-t threads] [-o outputDirectory] [-b] [-c cachedLayouts] [-f] (file.graphml | file.ldg | directory)...
+ *
+ * For every input {@code name.graphml} or {@code name.ldg} the layouted graph is written to {@code name.layout.graphml}
+ * and the node centers and edge bends to {@code name.coordinates.txt}, or with {@code -b} both to the binary
+ * {@code name.layout.ldg}. Output files are placed next to the input unless an output directory is given. Files are
+ * read and written by streaming, no yFiles model is built. A per-file timing and success/reject summary is printed at
+ * the end.
+ *
+ * Exit codes: 0 if no file failed, rejected graphs included; 1 if at least one file failed with an unexpected error;
+ * 2 if the arguments name no input file or the output directory cannot be created.
+ *
+ * With {@code -c}, the layouts of up to the given number of graphs are cached, so files that contain the same graph
+ * with the same labels and order are only decomposed once.
+ *
+ * With {@code -f}, the files are only checked for whether they admit a L-Drawing, see
+ * {@link LDrawing#checkFeasibility}. Nothing is written, a file that admits one is reported as success.
+ */
+public class BatchApplication {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchApplication.class);
+
+    private static final String GRAPHML_SUFFIX = GraphFormatConverter.GRAPHML_SUFFIX;
+    private static final String BINARY_SUFFIX = GraphFormatConverter.BINARY_SUFFIX;
+    private static final String LAYOUT_SUFFIX = ".layout";
+    private static final String COORDINATES_SUFFIX = ".coordinates.txt";
+
+    private static final int EXIT_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private final int threads;
+    private final File outputDirectory;
+    private final boolean binaryOutput;
+    private final LayoutCache cache;
+    private final boolean feasibilityOnly;
+
+
+    public BatchApplication(int threads, File outputDirectory){
+        this(threads, outputDirectory, false);
+    }
+
+    /**
+     * @param binaryOutput whether the layouts are written in the binary format instead of GraphML and coordinates.
+     */
+    public BatchApplication(int threads, File outputDirectory, boolean binaryOutput){
+        this(threads, outputDirectory, binaryOutput, null);
+    }
+
+    /**
+     * @param cache cache of the layouts shared by all workers, or null.
+     */
+    public BatchApplication(int threads, File outputDirectory, boolean binaryOutput, LayoutCache cache){
+        this(threads, outputDirectory, binaryOutput, cache, false);
+    }
+
+    /**
+     * @param feasibilityOnly whether the files are only checked for a L-Drawing instead of laid out.
+     */
+    public BatchApplication(int threads, File outputDirectory, boolean binaryOutput, LayoutCache cache, boolean feasibilityOnly){
+        if(threads < 1)
+            throw new IllegalArgumentException("At least one worker thread is needed.");
+        this.threads = threads;
+        this.outputDirectory = outputDirectory;
+        this.binaryOutput = binaryOutput;
+        this.cache = cache;
+        this.feasibilityOnly = feasibilityOnly;
+    }
+
+
+    public static void main(String[] args) throws InterruptedException {
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        File outputDirectory = null;
+        boolean binaryOutput = false;
+        LayoutCache cache = null;
+        boolean feasibilityOnly = false;
+        List<File> inputs = new ArrayList<>();
+
+        for(int i = 0; i < args.length; i++){
+            switch (args[i]){
+                case "-t":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "-o":
+                    outputDirectory = new File(args[++i]);
+                    break;
+                case "-b":
+                    binaryOutput = true;
+                    break;
+                case "-c":
+                    cache = new LayoutCache(Integer.parseInt(args[++i]));
+                    break;
+                case "-f":
+                    feasibilityOnly = true;
+                    break;
+                default:
+                    inputs.addAll(collectInputFiles(new File(args[i])));
+            }
+        }
+
+        if(inputs.isEmpty()){
+            System.err.println("Usage: BatchApplication [-t threads] [-o outputDirectory] [-b] [-c cachedLayouts] [-f] (file.graphml | file.ldg | directory)...");
+            System.exit(EXIT_USAGE);
+        }
+        if(outputDirectory != null && !outputDirectory.isDirectory() && !outputDirectory.mkdirs()){
+            System.err.println("Could not create output directory " + outputDirectory);
+            System.exit(EXIT_USAGE);
+        }
+
+        List<Result> results = new BatchApplication(threads, outputDirectory, binaryOutput, cache, feasibilityOnly).run(inputs);
+        printSummary(results, feasibilityOnly);
+        if(cache != null)
+            System.out.println("Layout cache: " + cache);
+
+        boolean failed = results.stream().anyMatch(result -> result.getStatus() == Status.FAILED);
+        System.exit(failed ? EXIT_FAILED : 0);
+    }
+
+
+    /**
+     * Lays out or checks all given files and returns one result per file in the order of the input.
+     */
+    public List<Result> run(List<File> inputs) throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(inputs.size(), 1)));
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for(File input : inputs)
+                futures.add(executor.submit(() -> layout(input)));
+
+            List<Result> results = new ArrayList<>();
+            for(int i = 0; i < futures.size(); i++){
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException exception) {
+                    results.add(new Result(inputs.get(i), Status.FAILED, 0, String.valueOf(exception.getCause())));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private Result layout(File input){
+
+        long start = System.nanoTime();
+        try {
+            GraphReader reader = input.getName().endsWith(BINARY_SUFFIX) ? new BinaryGraphReader(input) : new GraphMLReader(input);
+            if(feasibilityOnly){
+                new LDrawing().checkFeasibility(reader.getGraph());
+                return new Result(input, Status.SUCCESS, elapsed(start), "");
+            }
+            LayoutContext context = new LDrawing(cache).lDrawing(reader);
+
+            if(binaryOutput){
+                new BinaryGraphWriter(reader, context).write(outputFile(input, LAYOUT_SUFFIX + BINARY_SUFFIX));
+            } else {
+                LayoutWriter writer = new LayoutWriter(reader, context);
+                writer.writeGraphML(outputFile(input, LAYOUT_SUFFIX + GRAPHML_SUFFIX));
+                writer.writeCoordinates(outputFile(input, COORDINATES_SUFFIX));
+            }
+
+            return new Result(input, Status.SUCCESS, elapsed(start), "");
+        } catch (GraphConditionsException | LDrawingNotPossibleException exception) {
+            return new Result(input, Status.REJECTED, elapsed(start), exception.getMessage());
+        } catch (Exception exception) {
+            LOGGER.error("Layout of " + input + " failed.", exception);
+            return new Result(input, Status.FAILED, elapsed(start), String.valueOf(exception));
+        }
+    }
+
+
+    private File outputFile(File input, String suffix){
+        String name = input.getName();
+        if(name.endsWith(GRAPHML_SUFFIX))
+            name = name.substring(0, name.length() - GRAPHML_SUFFIX.length());
+        else if(name.endsWith(BINARY_SUFFIX))
+            name = name.substring(0, name.length() - BINARY_SUFFIX.length());
+        File directory = outputDirectory != null ? outputDirectory : input.getAbsoluteFile().getParentFile();
+        return new File(directory, name + suffix);
+    }
+
+    private static List<File> collectInputFiles(File file){
+        if(!file.isDirectory())
+            return Collections.singletonList(file);
+
+        File[] files = file.listFiles((directory, name) -> (name.endsWith(GRAPHML_SUFFIX) || name.endsWith(BINARY_SUFFIX))
+                && !name.endsWith(LAYOUT_SUFFIX + GRAPHML_SUFFIX) && !name.endsWith(LAYOUT_SUFFIX + BINARY_SUFFIX));
+        if(files == null)
+            return Collections.emptyList();
+        Arrays.sort(files);
+        return Arrays.asList(files);
+    }
+
+    private static double elapsed(long start){
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private static void printSummary(List<Result> results, boolean feasibilityOnly){
+
+        int success = 0, rejected = 0, failed = 0;
+        double total = 0;
+        for(Result result : results){
+            System.out.println(String.format(Locale.ROOT, "%-9s %10.2f ms  %s  %s", result.getStatus(), result.getMillis(), result.getInput(), result.getMessage()));
+            total += result.getMillis();
+            switch (result.getStatus()){
+                case SUCCESS: success++; break;
+                case REJECTED: rejected++; break;
+                default: failed++;
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "%d files: %d %s, %d rejected, %d failed, %.2f ms summed %s time",
+                results.size(), success, feasibilityOnly ? "feasible" : "laid out", rejected, failed, total, feasibilityOnly ? "check" : "layout"));
+    }
+
+
+
+    public enum Status {
+        /** the graph was laid out, or admits a L-Drawing if only the feasibility is checked */
+        SUCCESS,
+        /** the graph does not fulfill the preconditions or does not admit a L-Drawing */
+        REJECTED,
+        /** reading, laying out or writing failed unexpectedly */
+        FAILED
+    }
+
+    public static class Result {
+
+        private final File input;
+        private final Status status;
+        private final double millis;
+        private final String message;
+
+        Result(File input, Status status, double millis, String message){
+            this.input = input;
+            this.status = status;
+            this.millis = millis;
+            this.message = message == null ? "" : message;
+        }
+
+        public File getInput() {
+            return input;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public double getMillis() {
+            return millis;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package main.java.application;
 
-import com.yworks.yfiles.geometry.PointD;
 import com.yworks.yfiles.graph.*;
 import com.yworks.yfiles.graph.styles.*;
 import com.yworks.yfiles.view.*;
@@ -12,22 +11,18 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Priority;
 import javafx.scene.paint.Color;
-import main.java.algorithm.LDrawing;
+import main.java.algorithm.IncrementalLDrawing;
+import main.java.algorithm.LayoutCache;
+import main.java.algorithm.LayoutContext;
 import main.java.algorithm.exception.GraphConditionsException;
 import main.java.algorithm.exception.LDrawingNotPossibleException;
-import main.java.algorithm.utils.GraphConverter;
 import main.java.algorithm.utils.PrintColors;
 import main.java.algorithm.utils.coordinates.AbstractCoordinates;
-import main.java.algorithm.utils.coordinates.XCoordinates;
-import main.java.algorithm.utils.coordinates.YCoordinates;
-import main.java.decomposition.graph.MultiDirectedGraph;
-import main.java.decomposition.hyperGraph.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Map;
 
 public class GUIController {
 
@@ -55,13 +50,15 @@ public class GUIController {
     private Slider slider_coordDiff;
 
     private IGraph graph;
+    // keeps the decomposition between the layouts of the edited graph and the layouts of earlier states, e.g. for undo
+    private final IncrementalLDrawing lDrawing = new IncrementalLDrawing(new LayoutCache(LAYOUT_CACHE_SIZE));
 
     private GridVisualCreator grid;
     private GraphSnapContext graphSnapContext;
     private LabelSnapContext labelSnapContext;
 
     private static int NODES = 0;
-    private static final int BEND_SIZE = 10;
+    private static final int LAYOUT_CACHE_SIZE = 16;
 
     private static Logger LOGGER = LoggerFactory.getLogger(GUIController.class);
 
@@ -183,9 +180,8 @@ public class GUIController {
     @FXML
     public void handleLDrawing(){
         try {
-            new LDrawing().lDrawing(graph);
-            replaceVertices();
-            addBends();
+            LayoutContext context = lDrawing.lDrawing(graph);
+            LayoutApplier.applyLayout(graph, context);
             handleCenterViewPort();
         }catch (GraphConditionsException exception){
             exception.printStackTrace();
@@ -204,40 +200,6 @@ public class GUIController {
 
 
 
-    private void replaceVertices(){
-
-        Map<Vertex, Integer> xCoordinates = XCoordinates.getXCoordinates().getCoordinates();
-        Map<Vertex, Integer> yCoordinates = YCoordinates.getYCoordinates().getCoordinates();
-        MultiDirectedGraph convertedGraph = GraphConverter.getGraphConverter().getConvertedGraph();
-        Map<Vertex, INode> vertex2INode = GraphConverter.getGraphConverter().getConvV2OrigV();
-
-        for(Vertex vertex : convertedGraph.getVertices()){
-            INode originalNode = vertex2INode.get(vertex);
-            double x = + xCoordinates.get(vertex);
-            double y = - yCoordinates.get(vertex);
-            graph.setNodeCenter(originalNode, new PointD(x, y));
-        }
-    }
-
-
-    private void addBends(){
-
-        for(IEdge edge : graph.getEdges()){
-            graph.clearBends(edge);
-            double sourceX = edge.getSourceNode().getLayout().getCenter().x;
-            double targetX = edge.getTargetNode().getLayout().getCenter().x;
-            double targetY = edge.getTargetNode().getLayout().getCenter().y;
-            graph.addBend(edge, new PointD(sourceX, targetY + BEND_SIZE));
-            if(sourceX < targetX) {
-                graph.addBend(edge, new PointD(sourceX + BEND_SIZE, targetY));
-            } else {
-                graph.addBend(edge, new PointD(sourceX - BEND_SIZE, targetY));
-            }
-        }
-    }
-
-
-
     private void showErrorDialog(String header, String message, Exception exception){
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle("Error");
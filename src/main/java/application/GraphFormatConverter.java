@@ -0,0 +1,58 @@
+package main.java.application;
+
+import main.java.algorithm.LayoutResult;
+import main.java.algorithm.io.BinaryGraphReader;
+import main.java.algorithm.io.BinaryGraphWriter;
+import main.java.algorithm.io.GraphMLReader;
+import main.java.algorithm.io.LayoutWriter;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Converts between GraphML and the binary graph format, the direction is given by the file extensions.
+ *
+ * Usage: GraphFormatConverter input.graphml output.ldg | input.ldg output.graphml
+ *
+ * GraphML is converted with its nodes, labels and edges only. A binary file with a layout is converted to GraphML with
+ * the node geometry and the edge bends.
+ */
+public class GraphFormatConverter {
+
+    public static final String GRAPHML_SUFFIX = ".graphml";
+    public static final String BINARY_SUFFIX = ".ldg";
+
+
+    private GraphFormatConverter(){}
+
+
+    public static void main(String[] args) throws IOException {
+
+        if(args.length != 2){
+            System.err.println("Usage: GraphFormatConverter input.graphml output" + BINARY_SUFFIX + " | input" + BINARY_SUFFIX + " output.graphml");
+            System.exit(2);
+        }
+        File input = new File(args[0]);
+        File output = new File(args[1]);
+
+        if(input.getName().endsWith(GRAPHML_SUFFIX) && output.getName().endsWith(BINARY_SUFFIX)){
+            toBinary(input, output);
+        } else if(input.getName().endsWith(BINARY_SUFFIX) && output.getName().endsWith(GRAPHML_SUFFIX)){
+            toGraphML(input, output);
+        } else {
+            System.err.println("Can only convert " + GRAPHML_SUFFIX + " to " + BINARY_SUFFIX + " and back.");
+            System.exit(2);
+        }
+    }
+
+
+    public static void toBinary(File graphML, File binary) throws IOException {
+        new BinaryGraphWriter(new GraphMLReader(graphML)).write(binary);
+    }
+
+    public static void toGraphML(File binary, File graphML) throws IOException {
+        BinaryGraphReader reader = new BinaryGraphReader(binary);
+        LayoutResult layoutResult = reader.hasLayout() ? reader.getLayoutResult() : null;
+        new LayoutWriter(reader.getVertices(), reader.getEdges(), layoutResult).writeGraphML(graphML);
+    }
+}
@@ -0,0 +1,63 @@
+package main.java.application;
+
+import com.yworks.yfiles.geometry.PointD;
+import com.yworks.yfiles.graph.IEdge;
+import com.yworks.yfiles.graph.IGraph;
+import com.yworks.yfiles.graph.INode;
+import main.java.algorithm.LayoutContext;
+import main.java.algorithm.LayoutResult;
+import main.java.algorithm.io.LayoutWriter;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.Map;
+
+/**
+ * Writes the result of a L-Drawing run back into the original yFiles graph. The bends follow the same rule as the
+ * streaming {@link LayoutWriter} of the batch mode.
+ */
+public class LayoutApplier {
+
+    public static final int BEND_SIZE = LayoutWriter.BEND_SIZE;
+
+
+    private LayoutApplier(){}
+
+
+    public static void applyLayout(IGraph graph, LayoutContext context){
+        replaceVertices(graph, context);
+        addBends(graph);
+    }
+
+
+    private static void replaceVertices(IGraph graph, LayoutContext context){
+
+        LayoutResult layoutResult = context.getLayoutResult();
+        Map<Vertex, INode> nodes = context.getGraphConverter().getConvV2OrigV();
+        for(int ordinal = 0; ordinal < layoutResult.getVertexCount(); ordinal++){
+            INode node = nodes.get(layoutResult.getVertex(ordinal));
+            // the augmented source is laid out as well, but has no node
+            if(node == null)
+                continue;
+            double x = + layoutResult.getX(ordinal);
+            double y = - layoutResult.getY(ordinal);
+            graph.setNodeCenter(node, new PointD(x, y));
+        }
+    }
+
+
+    private static void addBends(IGraph graph){
+
+        for(IEdge edge : graph.getEdges()){
+            graph.clearBends(edge);
+            double sourceX = edge.getSourceNode().getLayout().getCenter().x;
+            double targetX = edge.getTargetNode().getLayout().getCenter().x;
+            double targetY = edge.getTargetNode().getLayout().getCenter().y;
+            graph.addBend(edge, new PointD(sourceX, targetY + BEND_SIZE));
+            if(sourceX < targetX) {
+                graph.addBend(edge, new PointD(sourceX + BEND_SIZE, targetY));
+            } else {
+                graph.addBend(edge, new PointD(sourceX - BEND_SIZE, targetY));
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package main.java.decomposition.graph;
+
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable directed multi graph in compressed sparse row form. Vertices and edges are identified by dense indices,
+ * the outgoing and incoming edges of every vertex are stored as consecutive runs of edge indices, so traversals work
+ * on plain int arrays. An edge takes four ints instead of the hash sets and lists of {@link MultiDirectedGraph}.
+ *
+ * The graph is either built from int arrays or as a snapshot of vertices and edges; then the order of the adjacency
+ * runs is the order of the given incidence lists, e.g. of {@link MultiDirectedGraph#getEdgesWithSource} or of an
+ * embedding, and the indices can be mapped back to the objects.
+ */
+public class CSRGraph
+{
+	private final int vertexCount;
+	private final int edgeCount;
+
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final int[] outOffsets;
+	private final int[] outEdges;
+	private final int[] inOffsets;
+	private final int[] inEdges;
+
+	private final Vertex[] vertices;
+	private final DirectedEdge[] edges;
+	private final Map<Vertex,Integer> vertexIndices;
+
+	/**
+	 * Graph of the given edge arrays, the adjacency runs are in the order of the edge indices.
+	 */
+	public CSRGraph(int vertexCount, int[] edgeSources, int[] edgeTargets) {
+		if (edgeSources.length != edgeTargets.length)
+			throw new IllegalArgumentException("Every edge needs a source and a target.");
+
+		this.vertexCount = vertexCount;
+		this.edgeCount = edgeSources.length;
+		this.edgeSources = edgeSources;
+		this.edgeTargets = edgeTargets;
+		this.outOffsets = new int[vertexCount + 1];
+		this.outEdges = new int[edgeCount];
+		this.inOffsets = new int[vertexCount + 1];
+		this.inEdges = new int[edgeCount];
+		this.vertices = null;
+		this.edges = null;
+		this.vertexIndices = null;
+
+		for (int e = 0; e < edgeCount; e++) {
+			outOffsets[edgeSources[e] + 1]++;
+			inOffsets[edgeTargets[e] + 1]++;
+		}
+		for (int v = 0; v < vertexCount; v++) {
+			outOffsets[v + 1] += outOffsets[v];
+			inOffsets[v + 1] += inOffsets[v];
+		}
+		int[] outPosition = outOffsets.clone();
+		int[] inPosition = inOffsets.clone();
+		for (int e = 0; e < edgeCount; e++) {
+			outEdges[outPosition[edgeSources[e]]++] = e;
+			inEdges[inPosition[edgeTargets[e]]++] = e;
+		}
+	}
+
+	/**
+	 * Snapshot of the given vertices, numbered in the order of the collection. Edges are numbered in the order they
+	 * first appear in the outgoing lists; every edge has to appear once in the outgoing list of its source and once in
+	 * the incoming list of its target.
+	 *
+	 * @param outgoing the outgoing edges of a vertex in the order of its adjacency run.
+	 * @param incoming the incoming edges of a vertex in the order of its adjacency run.
+	 */
+	public CSRGraph(Collection<Vertex> vertices, Function<Vertex, ? extends Collection<DirectedEdge>> outgoing,
+			Function<Vertex, ? extends Collection<DirectedEdge>> incoming) {
+		this.vertexCount = vertices.size();
+		this.vertices = vertices.toArray(new Vertex[vertexCount]);
+		this.vertexIndices = new HashMap<Vertex,Integer>(2 * vertexCount);
+		for (int v = 0; v < vertexCount; v++)
+			vertexIndices.put(this.vertices[v], v);
+
+		Map<DirectedEdge,Integer> edgeIndices = new HashMap<DirectedEdge,Integer>();
+		this.outOffsets = new int[vertexCount + 1];
+		for (int v = 0; v < vertexCount; v++) {
+			Collection<DirectedEdge> out = outgoing.apply(this.vertices[v]);
+			for (DirectedEdge edge : out)
+				edgeIndices.put(edge, edgeIndices.size());
+			outOffsets[v + 1] = edgeIndices.size();
+		}
+
+		this.edgeCount = edgeIndices.size();
+		this.edges = new DirectedEdge[edgeCount];
+		this.edgeSources = new int[edgeCount];
+		this.edgeTargets = new int[edgeCount];
+		this.outEdges = new int[edgeCount];
+		for (Map.Entry<DirectedEdge,Integer> entry : edgeIndices.entrySet()) {
+			int e = entry.getValue();
+			edges[e] = entry.getKey();
+			edgeSources[e] = getIndex(entry.getKey().getSource());
+			edgeTargets[e] = getIndex(entry.getKey().getTarget());
+			if (edgeSources[e] < 0 || edgeTargets[e] < 0)
+				throw new IllegalArgumentException("The edge " + entry.getKey() + " connects a vertex that is not contained in the graph.");
+			outEdges[e] = e;
+		}
+
+		this.inOffsets = new int[vertexCount + 1];
+		this.inEdges = new int[edgeCount];
+		int position = 0;
+		for (int v = 0; v < vertexCount; v++) {
+			for (DirectedEdge edge : incoming.apply(this.vertices[v])) {
+				Integer e = edgeIndices.get(edge);
+				if (e == null || position == edgeCount)
+					throw new IllegalArgumentException("The incoming edge " + edge + " is no outgoing edge of the graph.");
+				inEdges[position++] = e;
+			}
+			inOffsets[v + 1] = position;
+		}
+		if (position != edgeCount)
+			throw new IllegalArgumentException("Not every outgoing edge is an incoming edge of the graph.");
+	}
+
+	/**
+	 * Snapshot of a graph with the adjacency runs in the order of {@link MultiDirectedGraph#getEdgesWithSource} and
+	 * {@link MultiDirectedGraph#getEdgesWithTarget}.
+	 */
+	public CSRGraph(MultiDirectedGraph graph) {
+		this(graph.getVertices(), graph::getOutgoingEdgeSet, graph::getIncomingEdgeSet);
+	}
+
+	public int getVertexCount() {
+		return vertexCount;
+	}
+
+	public int getEdgeCount() {
+		return edgeCount;
+	}
+
+	public int getSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int getTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	public int getOutDegree(int vertex) {
+		return outOffsets[vertex + 1] - outOffsets[vertex];
+	}
+
+	public int getInDegree(int vertex) {
+		return inOffsets[vertex + 1] - inOffsets[vertex];
+	}
+
+	/**
+	 * @return the index-th outgoing edge of the vertex
+	 */
+	public int getOutEdge(int vertex, int index) {
+		return outEdges[outOffsets[vertex] + index];
+	}
+
+	/**
+	 * @return the index-th incoming edge of the vertex
+	 */
+	public int getInEdge(int vertex, int index) {
+		return inEdges[inOffsets[vertex] + index];
+	}
+
+	/**
+	 * The outgoing edges of vertex v are getOutEdges()[getOutOffsets()[v]] to getOutEdges()[getOutOffsets()[v+1]-1].
+	 * The arrays are shared and must not be modified.
+	 */
+	public int[] getOutOffsets() {
+		return outOffsets;
+	}
+
+	public int[] getOutEdges() {
+		return outEdges;
+	}
+
+	/**
+	 * The incoming edges of vertex v are getInEdges()[getInOffsets()[v]] to getInEdges()[getInOffsets()[v+1]-1].
+	 * The arrays are shared and must not be modified.
+	 */
+	public int[] getInOffsets() {
+		return inOffsets;
+	}
+
+	public int[] getInEdges() {
+		return inEdges;
+	}
+
+	public int[] getEdgeSources() {
+		return edgeSources;
+	}
+
+	public int[] getEdgeTargets() {
+		return edgeTargets;
+	}
+
+	/**
+	 * @return the vertex of the index, or null if the graph was built from int arrays
+	 */
+	public Vertex getVertex(int vertex) {
+		return vertices == null ? null : vertices[vertex];
+	}
+
+	/**
+	 * @return the edge of the index, or null if the graph was built from int arrays
+	 */
+	public DirectedEdge getEdge(int edge) {
+		return edges == null ? null : edges[edge];
+	}
+
+	/**
+	 * @return the index of the vertex, or -1 if the vertex is not contained in the snapshot
+	 */
+	public int getIndex(Vertex vertex) {
+		if (vertexIndices == null) return -1;
+		Integer index = vertexIndices.get(vertex);
+		return index == null ? -1 : index;
+	}
+}
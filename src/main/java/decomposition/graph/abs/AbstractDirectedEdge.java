@@ -132,6 +132,23 @@ public class AbstractDirectedEdge<V extends IVertex> extends AbstractDirectedHyp
 		this.target = t;
 	}
 	
+	/*
+	 * (non-Javadoc)
+	 * @see de.hpi.bpt.graph.abs.IDirectedEdge#reverse()
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean reverse() {
+		if (this.graph == null) return false;
+		if (!this.graph.isMultiGraph() && !this.graph.getEdgesWithSourceAndTarget(this.target, this.source).isEmpty())
+			return false;
+		
+		super.reverseDirection();
+		V v = this.source;
+		this.source = this.target;
+		this.target = v;
+		return true;
+	}
+	
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) return true;
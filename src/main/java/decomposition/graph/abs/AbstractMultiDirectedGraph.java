@@ -66,6 +66,7 @@ public class AbstractMultiDirectedGraph<E extends IDirectedEdge<V>, V extends IV
 				this.removeEdge(i.next());
 			
 			this.vertices.remove(v);
+			this.modCount++;
 			return v;
 		}
 		
@@ -56,17 +56,24 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	 * @see de.hpi.bpt.hypergraph.abs.IDirectedHyperGraph#getEdgesWithSource(de.hpi.bpt.hypergraph.abs.IVertex)
 	 */
 	public Collection<E> getEdgesWithSource(V v) {
-		Collection<E> result = new ArrayList<E>();
-		
-		Collection<E> es = this.getEdges(v);
-		Iterator<E> i = es.iterator();
-		while (i.hasNext()) {
-			E e = i.next();
-			if (e.hasSource(v))
-				result.add(e);
-		}
-		
-		return result;
+		return new ArrayList<E>(this.getOutgoingEdgeSet(v));
+	}
+	
+	/**
+	 * Get edges with source vertex without copying
+	 * @param v Vertex
+	 * @return Read-only live view of the edges with source vertex 'v'
+	 */
+	public Set<E> getOutgoingEdgeSet(V v) {
+		return this.directedIndexView(this.outgoing, v);
+	}
+	
+	/**
+	 * @param v Vertex
+	 * @return Number of edges with source vertex 'v'
+	 */
+	public int getOutDegree(V v) {
+		return this.directedIndexSize(this.outgoing, v);
 	}
 
 	/*
@@ -76,8 +83,9 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	public Collection<E> getEdgesWithSourceAndTarget(V s, V t) {
 		Collection<E> result = new ArrayList<E>();
 		
-		Collection<E> es = this.getEdges(s);
-		Iterator<E> i = es.iterator();
+		Set<E> out = this.getOutgoingEdgeSet(s);
+		Set<E> in = this.getIncomingEdgeSet(t);
+		Iterator<E> i = (out.size() <= in.size()) ? out.iterator() : in.iterator();
 		while (i.hasNext()) {
 			E e = i.next();
 			if (e.hasSource(s) && e.hasTarget(t))
@@ -131,7 +139,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 		Collection<E> result = new ArrayList<E>();
 		if (vs==null || vs.size()==0) return result;
 		
-		Iterator<E> i = this.getEdges(vs.iterator().next()).iterator();
+		Iterator<E> i = this.getOutgoingEdgeSet(vs.iterator().next()).iterator();
 		while (i.hasNext()) {
 			E e = i.next();
 			if (e.hasSources(vs))
@@ -146,16 +154,24 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	 * @see de.hpi.bpt.hypergraph.abs.IDirectedHyperGraph#getEdgesWithTarget(de.hpi.bpt.hypergraph.abs.IVertex)
 	 */
 	public Collection<E> getEdgesWithTarget(V v) {
-		Collection<E> result = new ArrayList<E>();
-		
-		Iterator<E> i = this.getEdges(v).iterator();
-		while (i.hasNext()) {
-			E e = i.next();
-			if (e.hasTarget(v))
-				result.add(e);
-		}
-		
-		return result;
+		return new ArrayList<E>(this.getIncomingEdgeSet(v));
+	}
+	
+	/**
+	 * Get edges with target vertex without copying
+	 * @param v Vertex
+	 * @return Read-only live view of the edges with target vertex 'v'
+	 */
+	public Set<E> getIncomingEdgeSet(V v) {
+		return this.directedIndexView(this.incoming, v);
+	}
+	
+	/**
+	 * @param v Vertex
+	 * @return Number of edges with target vertex 'v'
+	 */
+	public int getInDegree(V v) {
+		return this.directedIndexSize(this.incoming, v);
 	}
 
 	/*
@@ -166,7 +182,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 		if (vs==null || vs.size()==0) return null;
 		Collection<E> result = new ArrayList<E>();
 		
-		Iterator<E> i = this.getEdges(vs.iterator().next()).iterator();
+		Iterator<E> i = this.getIncomingEdgeSet(vs.iterator().next()).iterator();
 		while (i.hasNext()) {
 			E e = i.next();
 			if (e.hasTargets(vs))
@@ -189,7 +205,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	 * @see de.hpi.bpt.hypergraph.abs.IDirectedHyperGraph#getFirstIncomingEdge(de.hpi.bpt.hypergraph.abs.IVertex)
 	 */
 	public E getFirstIncomingEdge(V v) {
-		Collection<E> es = this.getIncomingEdges(v);
+		Collection<E> es = this.getIncomingEdgeSet(v);
 		if (es.size() == 0) return null;
 		return es.iterator().next();
 	}
@@ -207,7 +223,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	 * @see de.hpi.bpt.hypergraph.abs.IDirectedHyperGraph#getFirstOutgoingEdge(de.hpi.bpt.hypergraph.abs.IVertex)
 	 */
 	public E getFirstOutgoingEdge(V v) {
-		Collection<E> es = this.getOutgoingEdges(v);
+		Collection<E> es = this.getOutgoingEdgeSet(v);
 		if (es.size() == 0) return null;
 		return es.iterator().next();
 	}
@@ -216,7 +232,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	public Collection<V> getDirectPredecessors(V v) {
 		Set<V> result = new HashSet<V>();
 		
-		Collection<E> es = this.getIncomingEdges(v);
+		Collection<E> es = this.getIncomingEdgeSet(v);
 		Iterator<E> i = es.iterator();
 		while (i.hasNext())
 			result.addAll(i.next().getSourceVertices());
@@ -254,7 +270,7 @@ public class AbstractMultiDirectedHyperGraph <E extends IDirectedHyperEdge<V>,V
 	public Collection<V> getDirectSuccessors(V v) {
 		Set<V> result = new HashSet<V>();
 		
-		Collection<E> es = this.getOutgoingEdges(v);
+		Collection<E> es = this.getOutgoingEdgeSet(v);
 		Iterator<E> i = es.iterator();
 		while (i.hasNext())
 			result.addAll(i.next().getTargetVertices());
@@ -44,4 +44,10 @@ public interface IDirectedEdge <V extends IVertex> extends IDirectedHyperEdge<V>
 	 * @param target Target vertex.
 	 */
 	public void setVertices(V source, V target);
+	
+	/**
+	 * Reverse the direction of the abs in place, the source becomes the target and vice versa.
+	 * @return <code>true</code> on success, <code>false</code> if the graph has no room for the reversed abs
+	 */
+	public boolean reverse();
 }
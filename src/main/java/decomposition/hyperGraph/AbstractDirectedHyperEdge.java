@@ -48,7 +48,7 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		
 		super.addVertex(v);
 		result = this.source.add(v);
-		this.graph.addIndex(this, v);
+		this.index(v);
 		
 		return result ? v : null;
 	}
@@ -71,7 +71,7 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		
 		super.addVertices(vs);
 		result = this.source.addAll(vs);
-		this.graph.addIndex(this, vs);
+		this.index(vs);
 		
 		return result ? vs : null;
 	}
@@ -94,7 +94,7 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		
 		super.addVertex(v);
 		result = this.target.add(v);
-		this.graph.addIndex(this, v);
+		this.index(v);
 		
 		return result ? v : null;
 	}
@@ -117,7 +117,7 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		
 		super.addVertices(vs);
 		result = this.target.addAll(vs);
-		this.graph.addIndex(this, vs);
+		this.index(vs);
 		
 		return result ? vs : null;
 	}
@@ -148,14 +148,14 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		if (ss!=null && ss.size()!=0) {
 			super.addVertices(ss);
 			result = this.source.addAll(ss);
-			this.graph.addIndex(this, ss);
+			this.index(ss);
 			vresult.addAll(ss);
 		}
 		
 		if (ts!=null && ts.size()!=0) {
 			super.addVertices(ts);
 			result = this.target.addAll(ts);
-			this.graph.addIndex(this, ts);
+			this.index(ts);
 			vresult.addAll(ts);
 		}
 		
@@ -481,6 +481,32 @@ public class AbstractDirectedHyperEdge<V extends IVertex> extends AbstractHyperE
 		throw new UnsupportedOperationException();
 	}
 	
+	/**
+	 * Index the vertex in the graph together with its direction in this edge
+	 */
+	@SuppressWarnings("unchecked")
+	private void index(V v) {
+		this.graph.addIndex(this, v, this.source.contains(v), this.target.contains(v));
+	}
+	
+	private void index(Collection<V> vs) {
+		Iterator<V> i = vs.iterator();
+		while (i.hasNext())
+			this.index(i.next());
+	}
+	
+	/**
+	 * Swap the sources and the targets of this abs, the abs stays incident with the same vertices
+	 */
+	@SuppressWarnings("unchecked")
+	protected void reverseDirection() {
+		if (this.graph == null) return;
+		Collection<V> ss = this.source;
+		this.source = this.target;
+		this.target = ss;
+		this.graph.reverseIndex(this, this.target, this.source);
+	}
+	
 	@SuppressWarnings("unchecked")
 	protected boolean checkEdge(Collection<V> ss, Collection<V> ts) {
 		Collection<IDirectedHyperEdge<V>> es = this.graph.getEdgesWithSourcesAndTargets(ss, ts);
@@ -1,15 +1,21 @@
 package main.java.decomposition.hyperGraph;
 
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Hashtable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Notification mechanism of abs updates to graph
  * 
+ * Besides the incidence of vertices and edges, the index keeps the outgoing and incoming edges of every vertex for
+ * directed edges, so the edges of a vertex can be looked up by direction without filtering its incidence set.
+ * The index is not synchronized and iterates in insertion order.
+ * 
  * @author Artem Polyvyanyy
  *
  * @param <E> Edge type employed in the graph
@@ -17,8 +23,22 @@ import java.util.Set;
  */
 public abstract class AbstractGraphNotifier<E extends IHyperEdge<V>, V extends IVertex> extends GObject {
 
-	protected Map<V,Set<E>> vertices = new Hashtable<V, Set<E>>();
-	protected Map<E,Set<V>> edges = new Hashtable<E, Set<V>>();
+	protected Map<V,Set<E>> vertices = new LinkedHashMap<V, Set<E>>();
+	protected Map<E,Set<V>> edges = new LinkedHashMap<E, Set<V>>();
+	protected Map<V,Set<E>> outgoing = new LinkedHashMap<V, Set<E>>();
+	protected Map<V,Set<E>> incoming = new LinkedHashMap<V, Set<E>>();
+	// number of structural changes, lets derived indexes detect that they are stale
+	protected int modCount = 0;
+	// sequence the edges and new vertices of the graph are numbered from
+	private final IdSequence idSequence = new IdSequence();
+	
+	/**
+	 * Get the sequence of the graph
+	 * @return Sequence the edges and new vertices of the graph are numbered from
+	 */
+	public IdSequence getIdSequence() {
+		return this.idSequence;
+	}
 	
 	/**
 	 * Index vertex in the abs
@@ -27,15 +47,40 @@ public abstract class AbstractGraphNotifier<E extends IHyperEdge<V>, V extends I
 	 */
 	protected void addIndex(E e, V v) {
 		if (e == null || v == null) return;
-		if (!this.edges.containsKey(e))
-			this.edges.put((E) e,new HashSet<V>());
+		this.modCount++;
+		Set<V> vs = this.edges.get(e);
+		if (vs == null)
+			this.edges.put(e, vs = new LinkedHashSet<V>());
 			
-		this.edges.get(e).add(v);
+		vs.add(v);
 		
-		if (!this.vertices.containsKey(v))
-			this.vertices.put(v,new HashSet<E>());
+		Set<E> es = this.vertices.get(v);
+		if (es == null)
+			this.vertices.put(v, es = new LinkedHashSet<E>());
 			
-		this.vertices.get(v).add((E) e);
+		es.add(e);
+	}
+	
+	/**
+	 * Index vertex in the abs and in the outgoing and incoming edges of the vertex
+	 * @param e Directed edge
+	 * @param v Vertex
+	 * @param source <code>true</code> if v is a source of e
+	 * @param target <code>true</code> if v is a target of e
+	 */
+	protected void addIndex(E e, V v, boolean source, boolean target) {
+		if (e == null || v == null) return;
+		this.addIndex(e, v);
+		if (source) addDirectedIndex(this.outgoing, e, v);
+		if (target) addDirectedIndex(this.incoming, e, v);
+	}
+	
+	private void addDirectedIndex(Map<V,Set<E>> index, E e, V v) {
+		Set<E> es = index.get(v);
+		if (es == null)
+			index.put(v, es = new LinkedHashSet<E>());
+		
+		es.add(e);
 	}
 	
 	/**
@@ -58,21 +103,33 @@ public abstract class AbstractGraphNotifier<E extends IHyperEdge<V>, V extends I
 	 */
 	protected void removeIndex(E e, V v) {
 		if (e == null || v == null) return;
-		if (this.edges.containsKey(e))
+		this.modCount++;
+		Set<V> vs = this.edges.get(e);
+		if (vs != null)
 		{
-			this.edges.get(e).remove(v);
+			vs.remove(v);
 			
-			if (this.edges.get(e).size() == 0)
+			if (vs.size() == 0)
 				this.edges.remove(e);
 		}
 		
-		if (this.vertices.containsKey(v))
+		Set<E> es = this.vertices.get(v);
+		if (es != null)
 		{
-			this.vertices.get(v).remove(e);
+			es.remove(e);
 			
-			if (this.vertices.get(v).size() == 0)
+			if (es.size() == 0)
 				this.vertices.remove(v);
 		}
+		
+		removeDirectedIndex(this.outgoing, e, v);
+		removeDirectedIndex(this.incoming, e, v);
+	}
+	
+	private void removeDirectedIndex(Map<V,Set<E>> index, E e, V v) {
+		Set<E> es = index.get(v);
+		if (es != null && es.remove(e) && es.size() == 0)
+			index.remove(v);
 	}
 	
 	/**
@@ -88,12 +145,85 @@ public abstract class AbstractGraphNotifier<E extends IHyperEdge<V>, V extends I
 		}
 	}
 	
+	/**
+	 * Update the outgoing and incoming index of a directed abs whose sources and targets were swapped
+	 * @param e Directed abs
+	 * @param ss Sources of the abs before the swap
+	 * @param ts Targets of the abs before the swap
+	 */
+	protected void reverseIndex(E e, Collection<V> ss, Collection<V> ts) {
+		if (e == null) return;
+		this.modCount++;
+		for (V v : ss) removeDirectedIndex(this.outgoing, e, v);
+		for (V v : ts) removeDirectedIndex(this.incoming, e, v);
+		for (V v : ss) addDirectedIndex(this.incoming, e, v);
+		for (V v : ts) addDirectedIndex(this.outgoing, e, v);
+	}
+	
+	/**
+	 * Read-only view of the indexed edges of a vertex in one direction. The view looks the vertex up on every access,
+	 * so it follows edges that are added after the vertex had none and after the vertex was removed and added again.
+	 * @param index Outgoing or incoming index
+	 * @param v Vertex
+	 * @return Live view of the edges
+	 */
+	protected Set<E> directedIndexView(Map<V,Set<E>> index, V v) {
+		return new DirectedIndexView(index, v);
+	}
+	
+	/**
+	 * Number of indexed edges of a vertex in one direction
+	 * @param index Outgoing or incoming index
+	 * @param v Vertex
+	 * @return Number of edges
+	 */
+	protected int directedIndexSize(Map<V,Set<E>> index, V v) {
+		Set<E> es = (v == null) ? null : index.get(v);
+		return (es == null) ? 0 : es.size();
+	}
+	
 	/**
 	 * Reset private and protected members. Needed for clone routines.
 	 */
 	protected void clearMembers() {
-		this.vertices = new Hashtable<V, Set<E>>();
-		this.edges = new Hashtable<E, Set<V>>();
+		this.modCount++;
+		this.vertices = new LinkedHashMap<V, Set<E>>();
+		this.edges = new LinkedHashMap<E, Set<V>>();
+		this.outgoing = new LinkedHashMap<V, Set<E>>();
+		this.incoming = new LinkedHashMap<V, Set<E>>();
 	}
 	
+	
+	/**
+	 * Live view of the edges of a vertex in an outgoing or incoming index
+	 */
+	private class DirectedIndexView extends AbstractSet<E> {
+		private final Map<V,Set<E>> index;
+		private final V v;
+		
+		private DirectedIndexView(Map<V,Set<E>> index, V v) {
+			this.index = index;
+			this.v = v;
+		}
+		
+		private Set<E> edges() {
+			Set<E> es = (this.v == null) ? null : this.index.get(this.v);
+			return (es == null) ? Collections.<E>emptySet() : es;
+		}
+		
+		@Override
+		public Iterator<E> iterator() {
+			return Collections.unmodifiableSet(this.edges()).iterator();
+		}
+		
+		@Override
+		public int size() {
+			return this.edges().size();
+		}
+		
+		@Override
+		public boolean contains(Object o) {
+			return this.edges().contains(o);
+		}
+	}
 }
@@ -21,7 +21,7 @@ public class AbstractHyperEdge<V extends IVertex> extends GObject implements IHy
 	
 	@SuppressWarnings("rawtypes")
 	protected AbstractHyperEdge(AbstractMultiHyperGraph g) {
-		super();
+		super(g == null ? IdSequence.current() : g.getIdSequence());
 		this.vertices = new ArrayList<V>();
 		this.graph = g;
 	}
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -81,8 +82,11 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 	 */
 	public V addVertex(V v) {
 		if (v == null) return null;
+		if (v instanceof GObject)
+			((GObject) v).numberFrom(this.getIdSequence());
 		if (this.contains(v)) return null;
-		this.vertices.put(v, new HashSet<E>());
+		this.vertices.put(v, new LinkedHashSet<E>());
+		this.modCount++;
 		
 		return v;
 	}
@@ -120,6 +124,7 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 				i.next().removeVertex(v);
 			
 			this.vertices.remove(v);
+			this.modCount++;
 			return v;
 		}
 		
@@ -150,9 +155,11 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 		return (result==null) ? (Collections.<V>emptyList()) : (new ArrayList<V>(result));
 	}
 
+	/**
+	 * @return Read-only live view of the vertices
+	 */
 	public Set<V> vertexSet() {
-		Collection<V> result = this.vertices.keySet();
-		return new HashSet<>(result);
+		return Collections.unmodifiableSet(this.vertices.keySet());
 	}
 
 	/*
@@ -160,8 +167,7 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 	 * @see de.hpi.bpt.hypergraph.abs.IHyperGraph#getEdges()
 	 */
 	public Collection<E> getEdges() {
-		Collection<E> result = this.edges.keySet();
-		return (result==null) ? (Collections.<E>emptyList()) : (new ArrayList<E>(result));
+		return Collections.unmodifiableSet(this.edges.keySet());
 	}
 	
 	/*
@@ -184,8 +190,13 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 		if (vs == null || vs.size() == 0) return Collections.<E>emptyList();
 		
 		Collection<E> result = new ArrayList<E>();
-		V v = vs.iterator().next();
-		Collection<E> es = this.getEdges(v);
+		// only the edges of the vertex with the fewest edges can connect all vertices
+		Collection<E> es = null;
+		for (V v : vs) {
+			Collection<E> ves = this.vertices.get(v);
+			if (ves == null) return result;
+			if (es == null || ves.size() < es.size()) es = ves;
+		}
 		Iterator<E> i = es.iterator();
 		while (i.hasNext()) {
 			E e = i.next();
@@ -221,7 +232,7 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 	 * @see de.hpi.bpt.hypergraph.abs.IHyperGraph#contains(de.hpi.bpt.hypergraph.abs.IHyperEdge)
 	 */
 	public boolean contains(E e) {
-		return this.getEdges().contains(e);
+		return e != null && this.edges.containsKey(e);
 	}
 
 	/*
@@ -229,7 +240,7 @@ public class AbstractMultiHyperGraph <E extends IHyperEdge<V>,V extends IVertex>
 	 * @see de.hpi.bpt.hypergraph.abs.IHyperGraph#contains(de.hpi.bpt.hypergraph.abs.IVertex)
 	 */
 	public boolean contains(V v) {
-		return this.getVertices().contains(v);
+		return v != null && this.vertices.containsKey(v);
 	}
 
 	/*
@@ -1,14 +1,21 @@
 package main.java.decomposition.hyperGraph;
 
-import java.util.UUID;
-
 /**
  * Graph object implementation
  * 
+ * A graph object gets a number from an {@link IdSequence}, which is its hash code and, within the sequence, its
+ * order. Edges are numbered from their graph when they are created, other objects from the first graph they are
+ * added to, or from the current sequence if they are hashed or compared before. The number never changes afterwards.
+ * Objects are only equal to themselves. The string identifier is only created when it is requested, e.g. by the DOT
+ * export.
+ * 
  * @author Artem Polyvyanyy
  */
 public abstract class GObject implements IGObject {
-	private String id = "";
+	private static final long UNNUMBERED = -1;
+	
+	private volatile long number = UNNUMBERED;
+	private String id = null;
 	private String name = "";
 	private String desc = "";
 	private Object tag = null;
@@ -17,7 +24,13 @@ public abstract class GObject implements IGObject {
 	 * Empty constructor
 	 */
 	public GObject() {
-		this.id = UUID.randomUUID().toString();
+	}
+	
+	/**
+	 * Constructor with the sequence the number is drawn from
+	 */
+	protected GObject(IdSequence sequence) {
+		this.number = sequence.next();
 	}
 	
 	/**
@@ -37,15 +50,17 @@ public abstract class GObject implements IGObject {
 	}
 	
 	/**
-	 * Get unique identifier
+	 * Get identifier, created from the identity number on first request unless it was set
 	 * @return
 	 */
 	public String getId() {
+		if (this.id == null)
+			this.id = Long.toString(number());
 		return this.id;
 	}
 
 	/**
-	 * Set unique identifier
+	 * Set unique identifier. The identifier is only used for output, the identity of the object does not change.
 	 * @param id Unique identifier
 	 */
 	public void setId(String id) {
@@ -107,7 +122,7 @@ public abstract class GObject implements IGObject {
 	 */
 	@Override
 	public String toString() {
-		return (getName()==null || getName().equals("")) ? this.id : this.name;
+		return (getName()==null || getName().equals("")) ? this.getId() : this.name;
 	}
 	
 	/*
@@ -116,10 +131,7 @@ public abstract class GObject implements IGObject {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		if (this == obj) return true;
-		if (!(obj instanceof GObject)) return false;
-		
-		return this.id.equals(((GObject)obj).id);
+		return this == obj;
 	}
 
 	/*
@@ -128,7 +140,7 @@ public abstract class GObject implements IGObject {
 	 */
 	@Override
 	public int hashCode() {
-		return this.id.hashCode();
+		return Long.hashCode(number());
 	}
 
 	/*
@@ -136,7 +148,9 @@ public abstract class GObject implements IGObject {
 	 * @see java.lang.Comparable#compareTo(java.lang.Object)
 	 */
 	public int compareTo(IGObject o) {
-		return this.id.compareTo(o.getId());
+		if (o instanceof GObject)
+			return Long.compare(number(), ((GObject) o).number());
+		return this.getId().compareTo(o.getId());
 	}
 	
 	@Override
@@ -148,7 +162,8 @@ public abstract class GObject implements IGObject {
 			e.printStackTrace();
 		}
 		
-		clone.setId(UUID.randomUUID().toString());
+		clone.number = UNNUMBERED;
+		clone.id = null;
 		
 		if (this.getName() != null)
 			clone.setName(new String(this.getName()));
@@ -158,6 +173,22 @@ public abstract class GObject implements IGObject {
 		return clone;
 	}
 	
+	/**
+	 * Number the object from the given sequence unless it already has a number
+	 * @param sequence Sequence to draw the number from
+	 * @return Number of the object
+	 */
+	synchronized long numberFrom(IdSequence sequence) {
+		if (this.number == UNNUMBERED)
+			this.number = sequence.next();
+		return this.number;
+	}
+	
+	private long number() {
+		long number = this.number;
+		return number == UNNUMBERED ? numberFrom(IdSequence.current()) : number;
+	}
+	
 	@Override
 	public String getLabel() {
 		return this.name;
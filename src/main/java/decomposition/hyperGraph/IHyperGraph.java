@@ -78,7 +78,7 @@ public interface IHyperGraph <E extends IHyperEdge<V>,V extends IVertex> extends
 	
 	/**
 	 * Get graph edges
-	 * @return Graph edges 
+	 * @return Read-only view of the graph edges
 	 */
 	public Collection<E> getEdges();
 	
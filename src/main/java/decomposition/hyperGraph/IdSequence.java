@@ -0,0 +1,63 @@
+package main.java.decomposition.hyperGraph;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequence the identity numbers of graph objects are drawn from, starting at 0
+ *
+ * Every graph has its own sequence. It numbers its edges and every vertex that is added to it before the vertex got a
+ * number elsewhere. An object that is hashed or compared before it is added to a graph is numbered from the sequence
+ * the thread entered last, or from a sequence shared by the process if the thread entered none. A run of the layout
+ * enters the sequence of its graph, so the numbers of a graph and of everything derived from it do not depend on
+ * what ran before in the process or on other threads.
+ *
+ * Numbers are only unique within a sequence, objects of different sequences are told apart by their reference.
+ */
+public class IdSequence {
+	private static final IdSequence SHARED = new IdSequence();
+	private static final ThreadLocal<IdSequence> CURRENT = new ThreadLocal<IdSequence>();
+
+	private final AtomicLong next = new AtomicLong();
+
+	/**
+	 * Get the sequence new objects of the calling thread are numbered from
+	 * @return Sequence entered last by the thread or the shared sequence
+	 */
+	public static IdSequence current() {
+		IdSequence sequence = CURRENT.get();
+		return sequence == null ? SHARED : sequence;
+	}
+
+	/**
+	 * Number new objects of the calling thread from this sequence until the returned scope is closed
+	 * @return Scope that restores the sequence entered before
+	 */
+	public Scope enter() {
+		Scope scope = new Scope(CURRENT.get());
+		CURRENT.set(this);
+		return scope;
+	}
+
+	long next() {
+		return this.next.getAndIncrement();
+	}
+
+	/**
+	 * Scope of an entered sequence, to be closed by the thread that entered it
+	 */
+	public static class Scope implements AutoCloseable {
+		private final IdSequence previous;
+
+		private Scope(IdSequence previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (this.previous == null)
+				CURRENT.remove();
+			else
+				CURRENT.set(this.previous);
+		}
+	}
+}
@@ -11,9 +11,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 
 /**
@@ -28,6 +26,9 @@ import java.util.concurrent.ConcurrentLinkedQueue;
  */
 public class AbstractTree<V extends IVertex> extends AbstractDirectedGraph<IDirectedEdge<V>,V> implements ITree<V> {
 	protected V root = null;
+	// index of the structure of the tree and the number of changes of the graph it reflects
+	private TreeIndex<V> treeIndex = null;
+	private int treeIndexModCount = 0;
 	
 	/**
 	 * Empty constructor - for technical purposes.
@@ -47,31 +48,69 @@ public class AbstractTree<V extends IVertex> extends AbstractDirectedGraph<IDire
 		return this.root;
 	}
 
+	/**
+	 * Get the index of the parents, children and ancestors of this tree. The index is built on the first call
+	 * and rebuilt on the next call after the structure or the root of the tree changed.
+	 * 
+	 * @return Index of the tree.
+	 */
+	public TreeIndex<V> getTreeIndex() {
+		if (this.treeIndex == null || this.treeIndexModCount != this.modCount || this.treeIndex.getRoot() != this.root) {
+			this.treeIndex = new TreeIndex<V>(this);
+			this.treeIndexModCount = this.modCount;
+		}
+		return this.treeIndex;
+	}
+
+	/**
+	 * Makes the vertex the root of the tree and orients all edges away from it. The edges are
+	 * reversed in place, every vertex and edge of the tree is visited once. The tree is checked
+	 * before any edge is reversed, it is left unchanged if it contains a cycle or an edge cannot
+	 * be reversed.
+	 * 
+	 * @throws IllegalStateException if the graph is not a tree or an edge cannot be reversed.
+	 */
 	@Override
 	public V reRoot(V v) {
-		if (v == null || !this.getVertices().contains(v)) return this.root;
-		if (v.equals(this.root)) return this.root;		
-		this.root = v;
+		if (v == null || !this.contains(v)) return this.root;
+		if (v.equals(this.root)) return this.root;
 		
-		Queue<V> queue = new ConcurrentLinkedQueue<V>();
-		queue.add(this.root);
+		// breadth first search, the edge to the parent of the vertex at position i of queue is at position i of parentEdges
+		List<V> queue = new ArrayList<V>();
+		List<IDirectedEdge<V>> parentEdges = new ArrayList<IDirectedEdge<V>>();
 		Set<V> visited = new HashSet<V>();
-		visited.add(this.root);
-		
-		while (!queue.isEmpty()) {
-			V c = queue.poll();
-			Collection<V> adjVs = this.getAdjacent(c);
-			adjVs.removeAll(visited);
+		List<IDirectedEdge<V>> reversed = new ArrayList<IDirectedEdge<V>>();
+		queue.add(v);
+		parentEdges.add(null);
+		visited.add(v);
+		
+		for (int i = 0; i < queue.size(); i++) {
+			V c = queue.get(i);
+			Set<IDirectedEdge<V>> es = this.vertices.get(c);
+			if (es == null) continue;
 			
-			for (V a : adjVs) {
-				super.removeEdges(super.getEdges(c,a));
-				super.removeEdges(super.getEdges(a,c));
+			for (IDirectedEdge<V> e : es) {
+				if (e == parentEdges.get(i)) continue;
+				V a = e.getOtherVertex(c);
+				if (!visited.add(a))
+					throw new IllegalStateException("The graph contains a cycle and is not a tree.");
 				
-				super.addEdge(c,a);
-				visited.add(a);
+				if (e.getSource() != c)
+					reversed.add(e);
 				queue.add(a);
+				parentEdges.add(e);
+			}
+		}
+		
+		for (int i = 0; i < reversed.size(); i++) {
+			if (!reversed.get(i).reverse()) {
+				// roll back, so the tree keeps its former orientation
+				for (int j = i - 1; j >= 0; j--)
+					reversed.get(j).reverse();
+				throw new IllegalStateException("The edge " + reversed.get(i) + " cannot be reversed.");
 			}
 		}
+		this.root = v;
 		
 		return this.root;
 	}
@@ -97,7 +136,7 @@ public class AbstractTree<V extends IVertex> extends AbstractDirectedGraph<IDire
 
 	@Override
 	public V addChild(V p, V c) {
-		if (!super.getVertices().contains(p)) return null;
+		if (!super.contains(p)) return null;
 		IDirectedEdge<V> e = super.addEdge(p,c);
 		
 		return (e==null) ? null : c;
@@ -117,49 +156,25 @@ public class AbstractTree<V extends IVertex> extends AbstractDirectedGraph<IDire
 	@Override
 	public V getLCA(V v1, V v2) {
 		if (v1==null || v2==null) return null;
-		if (!this.getVertices().contains(v1) || 
-				!this.getVertices().contains(v2)) return null;
+		if (!this.contains(v1) || !this.contains(v2)) return null;
 		
 		if (v1.equals(v2)) return v1;
 		
-		List<V> path1 = this.getDownwardPath(this.getRoot(),v1);
-		List<V> path2 = this.getDownwardPath(this.getRoot(),v2);
-		
-		V result = null;
-		for (int i=0; i<path1.size(); i++) {
-			if (i>=path2.size()) break;
-			if (path1.get(i).equals(path2.get(i))) result = path1.get(i);
-			else break;
-		}
-		
-		return result;
+		return this.getTreeIndex().getLCA(v1,v2);
 	}
 	
 	@Override
 	public V getLCA(Collection<V> vertices) {
 		if (vertices.isEmpty()) return null;
-		if (!this.getVertices().containsAll(vertices)) return null;
 		
-		Set<List<V>> paths = new HashSet<List<V>>();
-		int shortest = Integer.MAX_VALUE;
+		TreeIndex<V> index = this.getTreeIndex();
+		int result = -1;
 		for (V v : vertices) {
-			List<V> path = this.getDownwardPath(this.getRoot(),v);
-			paths.add(path);
-			shortest = Math.min(shortest, path.size());
+			int i = index.indexOf(v);
+			if (i < 0) return null;
+			result = (result < 0) ? i : index.getLCA(result,i);
 		}
-		
-		V result = this.getRoot();
-		for (int i=0; i<shortest; i++) {
-			Set<V> currentLevel = new HashSet<V>();
-			for (List<V> path : paths) 
-				currentLevel.add(path.get(i));
-				
-			if (currentLevel.size() <= 1)
-				result = paths.iterator().next().get(i);
-			else
-				break;
-		}
-		return result;
+		return index.getNode(result);
 	}
 
 
@@ -188,21 +203,19 @@ public class AbstractTree<V extends IVertex> extends AbstractDirectedGraph<IDire
 	@Override
 	public boolean isDescendant(V v1, V v2) {
 		if (v1==null || v2==null) return false;
-		if (!this.getVertices().contains(v1) || 
-				!this.getVertices().contains(v2)) return false;
+		if (!this.contains(v1) || !this.contains(v2)) return false;
 		
 		if (v1.equals(v2)) return false;
-		return this.getDownwardPath(this.getRoot(),v1).contains(v2);
+		return this.getTreeIndex().isAncestor(v2,v1);
 	}
 
 	@Override
 	public boolean isAncestor(V v1, V v2) {
 		if (v1==null || v2==null) return false;
-		if (!this.getVertices().contains(v1) || 
-				!this.getVertices().contains(v2)) return false;
+		if (!this.contains(v1) || !this.contains(v2)) return false;
 		
 		if (v1.equals(v2)) return false;
-		return this.getDownwardPath(this.getRoot(),v2).contains(v1);
+		return this.getTreeIndex().isAncestor(v1,v2);
 	}
 
 	@Override
@@ -6,6 +6,7 @@ import main.java.decomposition.spqrTree.dfs.AbstractDFS;
 import main.java.decomposition.spqrTree.dfs.LowAndDescDFS;
 import main.java.decomposition.spqrTree.dfs.NumberDFS;
 import main.java.decomposition.spqrTree.dfs.SplitCompDFS;
+import main.java.decomposition.graph.abs.IDirectedEdge;
 import main.java.decomposition.graph.abs.IEdge;
 import main.java.decomposition.graph.abs.IGraph;
 import main.java.decomposition.utils.BiconnectivityCheck;
@@ -15,6 +16,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
@@ -52,6 +55,10 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	protected E backEdge = null;
 	// Maps internal edges used for technical purpose to original graph edges
 	private Map<E,E> internalEdges2originalEdges = new HashMap<E,E>();
+	// Maps original edges to their trivial components
+	private Map<E,TCTreeNode<E,V>> originalEdges2trivials = new HashMap<E,TCTreeNode<E,V>>();
+	// Maps vertices to the components other than trivial ones whose skeletons contain them, built by the first update
+	private Map<V,Set<TCTreeNode<E,V>>> vertices2components = null;
 
 	/**
 	 * Constructor.
@@ -92,7 +99,7 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 		
 		EdgeMap<E,V> virtualEdgeMap = this.createEdgeMap(this.graph);
 		virtualEdgeMap.initialiseWithFalse();
-		virtualEdgeMap.put(backEdge,true);
+		virtualEdgeMap.setBool(backEdge,true);
 		EdgeMap<E,V> assignedVirtEdgeMap = this.createEdgeMap(this.graph);
 		EdgeMap<E,V> isHiddenMap = this.createEdgeMap(this.graph);
 		isHiddenMap.initialiseWithFalse();
@@ -113,7 +120,7 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 			TCTreeNode<E,V> node = new TCTreeNode<E,V>();
 			for (E edge : el) {
 				if (virtualEdgeMap.getBool(edge))
-					node.skeleton.addVirtualEdge(edge.getV1(),edge.getV2(),edge.getId());
+					node.skeleton.addVirtualEdge(edge.getV1(),edge.getV2(),edge);
 				else
 					node.skeleton.addEdge(edge.getV1(),edge.getV2(),this.internalEdges2originalEdges.get(edge));
 			}
@@ -171,49 +178,102 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	}
 	
 	/**
-	 * Merge polygons and bonds that share virtual edges. 
+	 * Merge polygons and bonds that share virtual edges.
+	 * The components to merge are grouped with a union-find first, so the skeleton of every group is built once
+	 * and the index is updated in a single pass.
 	 * @param ve2nodes Index.
 	 */
 	private void mergePolygonsAndBonds(Map<Object,Set<TCTreeNode<E,V>>> ve2nodes) {
-		Set<Object> toRemove = new HashSet<Object>(); 
+		Map<TCTreeNode<E,V>,TCTreeNode<E,V>> parents = new HashMap<TCTreeNode<E,V>,TCTreeNode<E,V>>();
+		Map<TCTreeNode<E,V>,Integer> sizes = new HashMap<TCTreeNode<E,V>,Integer>();
+		// tags of the virtual edges between merged components
+		Set<Object> merged = new HashSet<Object>();
 		
-		for (Map.Entry<Object,Set<TCTreeNode<E,V>>> entryA : ve2nodes.entrySet()) {
-			Iterator<TCTreeNode<E,V>> i = entryA.getValue().iterator();
+		for (Map.Entry<Object,Set<TCTreeNode<E,V>>> entry : ve2nodes.entrySet()) {
+			Iterator<TCTreeNode<E,V>> i = entry.getValue().iterator();
 			TCTreeNode<E,V> v1 = i.next();
 			TCTreeNode<E,V> v2 = i.next();
 			
 			if (v1.getType()!=v2.getType()) continue;
 			if (v1.getType()== TCTreeNodeType.TYPE_R) continue;
 			
-			for (E e : v2.skeleton.getEdges()) {
-				if (v2.skeleton.isVirtual(e)) {
-					if (!e.getTag().equals(entryA.getKey()))
-						v1.skeleton.addVirtualEdge(e.getV1(),e.getV2(),e.getTag());
+			merged.add(entry.getKey());
+			this.union(parents,sizes,v1,v2);
+		}
+		if (merged.isEmpty()) return;
+		
+		// move the edges of every group into the representative of the group
+		for (TCTreeNode<E,V> node : parents.keySet()) {
+			TCTreeNode<E,V> root = this.find(parents,node);
+			if (node==root) {
+				for (E ve : new ArrayList<E>(node.skeleton.getVirtualEdges())) {
+					if (merged.contains(ve.getTag()))
+						node.skeleton.removeEdge(ve);
 				}
-				else
-					v1.skeleton.addEdge(e.getV1(),e.getV2(),v2.skeleton.getOriginalEdge(e));
+				continue;
 			}
 			
-			Set<E> ves = new HashSet<E>(v1.skeleton.getVirtualEdges());
-			for(E ve : ves) {
-				if (ve.getTag().equals(entryA.getKey())) 
-					v1.skeleton.removeEdge(ve);
-			}
-						
-			for (Map.Entry<Object,Set<TCTreeNode<E,V>>> entryB : ve2nodes.entrySet()) {
-				if (entryB.getValue().contains(v2)) {
-					entryB.getValue().remove(v2);
-					entryB.getValue().add(v1);
-					if (entryB.getValue().size()==1)
-						toRemove.add(entryB.getKey());
+			for (E e : node.skeleton.getEdges()) {
+				if (node.skeleton.isVirtual(e)) {
+					if (!merged.contains(e.getTag()))
+						root.skeleton.addVirtualEdge(e.getV1(),e.getV2(),e.getTag());
 				}
+				else
+					root.skeleton.addEdge(e.getV1(),e.getV2(),node.skeleton.getOriginalEdge(e));
 			}
 			
-			this.removeVertex(v2);
+			this.removeVertex(node);
 		}
 		
-		for (Object ve : toRemove)
-			ve2nodes.remove(ve);
+		// drop the merged virtual edges from the index and let the others refer to the representatives
+		Iterator<Map.Entry<Object,Set<TCTreeNode<E,V>>>> entries = ve2nodes.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<Object,Set<TCTreeNode<E,V>>> entry = entries.next();
+			if (merged.contains(entry.getKey())) {
+				entries.remove();
+				continue;
+			}
+			
+			Set<TCTreeNode<E,V>> nodes = new HashSet<TCTreeNode<E,V>>();
+			for (TCTreeNode<E,V> node : entry.getValue())
+				nodes.add(this.find(parents,node));
+			entry.setValue(nodes);
+		}
+	}
+	
+	private void union(Map<TCTreeNode<E,V>,TCTreeNode<E,V>> parents, Map<TCTreeNode<E,V>,Integer> sizes,
+			TCTreeNode<E,V> v1, TCTreeNode<E,V> v2) {
+		TCTreeNode<E,V> r1 = this.find(parents,v1);
+		TCTreeNode<E,V> r2 = this.find(parents,v2);
+		parents.put(r1,r1);
+		parents.put(r2,r2);
+		if (r1==r2) return;
+		
+		int s1 = sizes.containsKey(r1) ? sizes.get(r1) : 1;
+		int s2 = sizes.containsKey(r2) ? sizes.get(r2) : 1;
+		// attach the smaller group
+		if (s1<s2) {
+			TCTreeNode<E,V> r = r1; r1 = r2; r2 = r;
+		}
+		parents.put(r2,r1);
+		sizes.put(r1,s1+s2);
+	}
+	
+	/**
+	 * @return the representative of the group of the component, the component itself if it is not merged.
+	 */
+	private TCTreeNode<E,V> find(Map<TCTreeNode<E,V>,TCTreeNode<E,V>> parents, TCTreeNode<E,V> node) {
+		TCTreeNode<E,V> root = node;
+		TCTreeNode<E,V> parent;
+		while ((parent = parents.get(root))!=null && parent!=root)
+			root = parent;
+		// compress the path
+		while (node!=root) {
+			TCTreeNode<E,V> next = parents.get(node);
+			parents.put(node,root);
+			node = next;
+		}
+		return root;
 	}
 	
 	/**
@@ -246,16 +306,264 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 		
 		// construct trivial fragments
 		for (TCTreeNode<E,V> node : this.getVertices()) {
-			for (E edge : node.getSkeleton().getOriginalEdges()) {
-				TCTreeNode<E,V> trivial = new TCTreeNode<E,V>();
-				trivial.type = TCTreeNodeType.TYPE_Q;
-				trivial.skeleton.addEdge(edge.getV1(), edge.getV2(), edge);
-				trivial.setName(edge.toString());
-				this.addEdge(node,trivial);
-			}
+			for (E edge : node.getSkeleton().getOriginalEdges())
+				this.addTrivial(node,edge);
 		}
 		
 		this.reRoot(tobeRoot);
+		this.getTreeIndex();
+	}
+
+	/**
+	 * Adds the trivial component of an original abs as child of the component whose skeleton contains the abs.
+	 */
+	private TCTreeNode<E,V> addTrivial(TCTreeNode<E,V> node, E edge) {
+		TCTreeNode<E,V> trivial = new TCTreeNode<E,V>();
+		trivial.type = TCTreeNodeType.TYPE_Q;
+		trivial.skeleton.addEdge(edge.getV1(), edge.getV2(), edge);
+		trivial.setName(edge.toString());
+		this.addEdge(node,trivial);
+		this.originalEdges2trivials.put(edge,trivial);
+		return trivial;
+	}
+
+	/**
+	 * Updates the tree after the abs was added to the graph, without decomposing the graph again. This covers the
+	 * insertions that change a single component: an abs between the poles of a bond, an abs parallel to an abs of a
+	 * polygon or rigid, which becomes a new bond, and an abs between two vertices of a rigid. Insertions that split
+	 * a polygon or join several components are not covered, then the tree is left unchanged.
+	 * 
+	 * The components are found by an index of the vertices of their skeletons, which is built by the first update.
+	 * The graph must stay biconnected, this is not checked. Neither is planarity: an abs between two vertices of a
+	 * rigid may make its skeleton non-planar, the caller has to check the skeleton of a returned rigid.
+	 * 
+	 * @param edge Edge that was added to the graph.
+	 * @return The component whose skeleton got the abs, or <tt>null</tt> if the tree has to be constructed again.
+	 */
+	public TCTreeNode<E,V> insertGraphEdge(E edge) {
+		V v1 = edge.getV1();
+		V v2 = edge.getV2();
+		if (v1==null || v2==null || v1.equals(v2)) return null;
+		
+		List<TCTreeNode<E,V>> components = this.getComponents(v1,v2);
+		
+		for (TCTreeNode<E,V> node : components) {
+			if (node.type==TCTreeNodeType.TYPE_P) {
+				node.skeleton.addEdge(v1,v2,edge);
+				this.addTrivial(node,edge);
+				return node;
+			}
+		}
+		
+		for (TCTreeNode<E,V> node : components) {
+			Collection<E> es = node.skeleton.getEdges(v1,v2);
+			if (!es.isEmpty())
+				return this.insertBond(node,es.iterator().next(),edge);
+		}
+		
+		// two vertices of a rigid that are no separation pair
+		if (components.size()==1 && components.get(0).type==TCTreeNodeType.TYPE_R) {
+			TCTreeNode<E,V> rigid = components.get(0);
+			rigid.skeleton.addEdge(v1,v2,edge);
+			this.addTrivial(rigid,edge);
+			return rigid;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Replaces the abs of the skeleton of a polygon or rigid by a new bond that contains the abs and the new abs.
+	 */
+	private TCTreeNode<E,V> insertBond(TCTreeNode<E,V> node, E e, E edge) {
+		V v1 = e.getV1();
+		V v2 = e.getV2();
+		TCTreeNode<E,V> bond = new TCTreeNode<E,V>();
+		bond.type = TCTreeNodeType.TYPE_P;
+		Object tag = new Object();
+		
+		if (node.skeleton.isVirtual(e)) {
+			TCTreeNode<E,V> other = this.getNeighbor(node,e.getTag());
+			if (other==null) return null;
+			
+			this.addVertex(bond);
+			bond.skeleton.addVirtualEdge(v1,v2,e.getTag());
+			bond.skeleton.addVirtualEdge(v1,v2,tag);
+			e.setTag(tag);
+			if (this.getParent(other)==node) {
+				this.removeEdge(this.getDirectedEdge(node,other));
+				this.addEdge(node,bond);
+				this.addEdge(bond,other);
+			}
+			else {
+				this.removeEdge(this.getDirectedEdge(other,node));
+				this.addEdge(other,bond);
+				this.addEdge(bond,node);
+			}
+		}
+		else {
+			E original = node.skeleton.getOriginalEdge(e);
+			TCTreeNode<E,V> trivial = this.getTrivial(node,original);
+			// the bond would become the root
+			if (original==this.backEdge || trivial==null) return null;
+			
+			this.addVertex(bond);
+			node.skeleton.removeEdge(e);
+			node.skeleton.addVirtualEdge(v1,v2,tag);
+			bond.skeleton.addEdge(v1,v2,original);
+			bond.skeleton.addVirtualEdge(v1,v2,tag);
+			this.addEdge(node,bond);
+			this.removeEdge(this.getDirectedEdge(node,trivial));
+			this.addEdge(bond,trivial);
+		}
+		
+		bond.skeleton.addEdge(v1,v2,edge);
+		bond.setName("B"+bond.getId());
+		this.addTrivial(bond,edge);
+		this.indexComponent(bond);
+		return bond;
+	}
+	
+	/**
+	 * Updates the tree before the abs is removed from the graph, without decomposing the graph again. This covers
+	 * the removal of an abs of a bond. If the bond keeps only two other elements, it is dissolved and they are
+	 * joined directly, unless both are polygons, which would have to be merged.
+	 * 
+	 * @param edge Edge that will be removed from the graph.
+	 * @return The component whose skeleton lost the abs or took the elements of the dissolved bond, or <tt>null</tt>
+	 * if the tree has to be constructed again.
+	 */
+	public TCTreeNode<E,V> removeGraphEdge(E edge) {
+		if (edge==this.backEdge) return null;
+		
+		TCTreeNode<E,V> trivial = this.originalEdges2trivials.get(edge);
+		if (trivial==null) return null;
+		TCTreeNode<E,V> bond = this.getParent(trivial);
+		if (bond==null || bond.type!=TCTreeNodeType.TYPE_P) return null;
+		
+		if (bond.skeleton.countEdges()>3) {
+			bond.skeleton.removeOriginalEdge(edge);
+			this.removeTrivial(trivial,edge);
+			return bond;
+		}
+		if (bond.skeleton.countEdges()<3 || this.isRoot(bond)) return null;
+		
+		// the two other elements of the bond, the virtual abs to the parent first
+		TCTreeNode<E,V> parent = this.getParent(bond);
+		E toParent = null, other = null;
+		for (E e : bond.skeleton.getEdges()) {
+			if (bond.skeleton.getOriginalEdge(e)==edge) continue;
+			if (toParent==null && bond.skeleton.isVirtual(e) && this.getNeighbor(bond,e.getTag())==parent)
+				toParent = e;
+			else
+				other = e;
+		}
+		if (toParent==null || other==null) return null;
+		E parentEdge = this.getVirtualEdge(parent,toParent.getTag());
+		if (parentEdge==null) return null;
+		
+		if (bond.skeleton.isVirtual(other)) {
+			TCTreeNode<E,V> child = this.getNeighbor(bond,other.getTag());
+			if (child==null) return null;
+			if (parent.type==TCTreeNodeType.TYPE_S && child.type==TCTreeNodeType.TYPE_S) return null;
+			
+			parentEdge.setTag(other.getTag());
+			this.removeComponent(bond);
+			this.addEdge(parent,child);
+		}
+		else {
+			E original = bond.skeleton.getOriginalEdge(other);
+			TCTreeNode<E,V> otherTrivial = this.getTrivial(bond,original);
+			if (otherTrivial==null) return null;
+			
+			parent.skeleton.removeEdge(parentEdge);
+			parent.skeleton.addEdge(parentEdge.getV1(),parentEdge.getV2(),original);
+			this.removeComponent(bond);
+			this.addEdge(parent,otherTrivial);
+		}
+		this.removeTrivial(trivial,edge);
+		return parent;
+	}
+	
+	/**
+	 * @return The components other than trivial ones whose skeletons contain both vertices, in the order of the
+	 * vertices of the tree.
+	 */
+	private List<TCTreeNode<E,V>> getComponents(V v1, V v2) {
+		if (this.vertices2components==null) {
+			this.vertices2components = new HashMap<V,Set<TCTreeNode<E,V>>>();
+			for (TCTreeNode<E,V> node : this.getVertices())
+				this.indexComponent(node);
+		}
+		
+		List<TCTreeNode<E,V>> components = new ArrayList<TCTreeNode<E,V>>();
+		Set<TCTreeNode<E,V>> c1 = this.vertices2components.get(v1);
+		Set<TCTreeNode<E,V>> c2 = this.vertices2components.get(v2);
+		if (c1==null || c2==null) return components;
+		if (c1.size()>c2.size()) {
+			Set<TCTreeNode<E,V>> c = c1; c1 = c2; c2 = c;
+		}
+		for (TCTreeNode<E,V> node : c1)
+			if (c2.contains(node))
+				components.add(node);
+		return components;
+	}
+	
+	/**
+	 * Adds the component to the index of the vertices of its skeleton, if the index is built.
+	 */
+	private void indexComponent(TCTreeNode<E,V> node) {
+		if (this.vertices2components==null || node.type==TCTreeNodeType.TYPE_Q) return;
+		for (V v : node.skeleton.getVertices()) {
+			Set<TCTreeNode<E,V>> components = this.vertices2components.get(v);
+			if (components==null) {
+				components = new LinkedHashSet<TCTreeNode<E,V>>();
+				this.vertices2components.put(v,components);
+			}
+			components.add(node);
+		}
+	}
+	
+	private void removeComponent(TCTreeNode<E,V> node) {
+		if (this.vertices2components!=null)
+			for (V v : node.skeleton.getVertices())
+				this.vertices2components.get(v).remove(node);
+		this.removeVertex(node);
+	}
+	
+	private void removeTrivial(TCTreeNode<E,V> trivial, E original) {
+		this.originalEdges2trivials.remove(original);
+		this.removeVertex(trivial);
+	}
+	
+	/**
+	 * @return The trivial child of the component for the original abs, or <tt>null</tt>.
+	 */
+	private TCTreeNode<E,V> getTrivial(TCTreeNode<E,V> node, E original) {
+		TCTreeNode<E,V> trivial = this.originalEdges2trivials.get(original);
+		return trivial!=null && this.getParent(trivial)==node ? trivial : null;
+	}
+	
+	/**
+	 * @return The parent or child of the component that shares the virtual abs with the given tag, or <tt>null</tt>.
+	 */
+	private TCTreeNode<E,V> getNeighbor(TCTreeNode<E,V> node, Object tag) {
+		TCTreeNode<E,V> parent = this.getParent(node);
+		if (parent!=null && this.getVirtualEdge(parent,tag)!=null)
+			return parent;
+		for (IDirectedEdge<TCTreeNode<E,V>> e : this.getOutgoingEdgeSet(node)) {
+			TCTreeNode<E,V> child = e.getTarget();
+			if (child.type!=TCTreeNodeType.TYPE_Q && this.getVirtualEdge(child,tag)!=null)
+				return child;
+		}
+		return null;
+	}
+	
+	private E getVirtualEdge(TCTreeNode<E,V> node, Object tag) {
+		for (E e : node.skeleton.getVirtualEdges())
+			if (tag.equals(e.getTag()))
+				return e;
+		return null;
 	}
 
 	/**
@@ -318,9 +626,9 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 		// order adjacency lists according to low-point values
 		NodeMap<V> orderedAdjMap = orderAdjLists(graph, meta);
 		
-		NodeMap<V> copiedOrderedAdjMap = new NodeMap<V>();
-		for (V node:orderedAdjMap.keySet()) {
-			copiedOrderedAdjMap.put(node, ((EdgeList<E,V>) orderedAdjMap.get(node)).clone());
+		NodeMap<V> copiedOrderedAdjMap = new NodeMap<V>(orderedAdjMap.getIndex());
+		for (V node:graph.getVertices()) {
+			copiedOrderedAdjMap.put(node, new EdgeList<E,V>((AdjacencyList<E,V>) orderedAdjMap.get(node)));
 		}
 		// second DFS -- renumber the vertices
 		NumberDFS<E,V> dfs2 = new NumberDFS<E,V>(graph, meta, copiedOrderedAdjMap);
@@ -329,9 +637,9 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 		// workaround to circumvent a problem in the JBPT framework
 		// which leads to not properly removed virtual edges in the TCTreeSkeleton
 		// therefore this count is used to store the current state during dfs3
-		NodeMap<V> edgeCount = new NodeMap<V>();
+		NodeMap<V> edgeCount = new NodeMap<V>(adjMap.getIndex());
 		for (V node:graph.getVertices()) {
-			edgeCount.put(node, graph.getEdges(node).size());
+			edgeCount.setInt(node, graph.getEdges(node).size());
 		}
 		meta.setMetaInfo(MetaInfo.DFS_EDGE_COUNT, edgeCount);
 		// third DFS -- find the actual split components
@@ -345,50 +653,61 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	@SuppressWarnings("unchecked")
 	private NodeMap<V> orderAdjLists(IGraph<E,V> graph, MetaInfoContainer meta) {
 		Collection<E> edges = graph.getEdges();
-		ArrayList<EdgeList<E,V>> bucket = new ArrayList<EdgeList<E,V>>();
 		int bucketSize = 3 * (graph.countVertices()) + 2;
-		for (int i=0; i< bucketSize; i++){
-			bucket.add(new EdgeList<E,V>());
-		}
+		// bucket sort as counting sort: the phi of each abs and the start of each bucket
+		int[] phis = new int[edges.size()];
+		int[] bucketStart = new int[bucketSize + 1];
+		EdgeMap<E,V> edgeType = (EdgeMap<E,V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_TYPE);
+		NodeMap<V> dfsNum = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM);
+		NodeMap<V> lowpt1Num = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_NUM);
+		NodeMap<V> lowpt2Num = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_NUM);
 		int phi;
+		int k = 0;
 		for (E e:edges) {
 
 			phi = -1;
 			// assign each abs its potential phi
-			if (((EdgeMap<E,V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_TYPE)).getInt(e) == AbstractDFS.TREE_EDGE){
+			if (edgeType.getInt(e) == AbstractDFS.TREE_EDGE){
 				// e is tree abs
-				if (((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_NUM)).getInt(e.getV2()) 
-						< ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM)).getInt(e.getV1())){
+				if (lowpt2Num.getInt(e.getV2()) < dfsNum.getInt(e.getV1())){
 					// low2(w) < v
-					phi = 3 * ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_NUM)).getInt(e.getV2());
+					phi = 3 * lowpt1Num.getInt(e.getV2());
 				} else {
 					// low2(w) >= v
-					phi = 3 * ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_NUM)).getInt(e.getV2()) + 2;
+					phi = 3 * lowpt1Num.getInt(e.getV2()) + 2;
 				}
 			} else {
 				// e is back abs
-				phi = 3 * ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM)).getInt(e.getV2()) + 1;
+				phi = 3 * dfsNum.getInt(e.getV2()) + 1;
 			}
 			
-			// put abs into bucket according to phi
+			// count abs for bucket according to phi
 			// ! bucket's index start with 0
-			(bucket.get(phi-1)).add(e);
+			phis[k++] = phi;
+			bucketStart[phi]++;
+		}
+		for (int i = 1; i <= bucketSize; i++) {
+			bucketStart[i] += bucketStart[i - 1];
+		}
+		Object[] sortedEdges = new Object[edges.size()];
+		k = 0;
+		for (E e:edges) {
+			sortedEdges[bucketStart[phis[k++] - 1]++] = e;
 		}
 		
 		// create a new node map for the ordered adj list
 		NodeMap<V> orderedAdjMap = this.createNodeMap(graph);
+		EdgeMap<E,V> adjPositions = this.createEdgeMap(graph);
 		for (V node:graph.getVertices()) {
-			EdgeList<E,V> adj = new EdgeList<E,V>();
+			AdjacencyList<E,V> adj = new AdjacencyList<E,V>(adjPositions);
 			orderedAdjMap.put(node, adj);
 		}
 		meta.setMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS, orderedAdjMap);
 		
 		// put edges into adj list according to order in buckets
-		for (EdgeList<E,V> el : bucket){
-			while (!el.isEmpty()){
-				E e = el.pop();
-				((EdgeList<E ,V>) orderedAdjMap.get(e.getV1())).add(e);
-			}
+		for (Object o : sortedEdges){
+			E e = (E) o;
+			((AdjacencyList<E ,V>) orderedAdjMap.get(e.getV1())).add(e);
 		}
 		return orderedAdjMap;
 	}
@@ -400,20 +719,20 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	 */
 	@SuppressWarnings("unchecked") 
 	private EdgeList<E,V> sortConsecutiveMultipleEdges(IGraph<E,V> g){
-		NodeMap<V> indices = new NodeMap<V>();
+		NodeMap<V> indices = new NodeMap<V>(new ElementIndex<V>(g.countVertices()));
 		int count = 0;
 		for (V vertex:g.getVertices()) {
-			indices.put(vertex, count++);
+			indices.setInt(vertex, count++);
 		}
 		// bucketSort edges such that multiple edges come after each other
-		ArrayList<E> edges = (ArrayList<E>) g.getEdges();
+		ArrayList<E> edges = new ArrayList<E>(g.getEdges());
 		ArrayList<EdgeList<E,V>> bucket = new ArrayList<EdgeList<E,V>>();
 		// place edges into buckets according to vertex with smaller index
-		for (int i = 0; i < g.getVertices().size(); i++) {//edges.size(); i++) {
+		for (int i = 0; i < count; i++) {
 			bucket.add(new EdgeList<E,V>());
 		}
 		for (E e:edges) {
-			int i = Math.min((Integer) indices.get( e.getV1()), (Integer) indices.get(e.getV2()));
+			int i = Math.min(indices.getInt(e.getV1()), indices.getInt(e.getV2()));
 			bucket.get(i).add(e);
 		}
 		
@@ -423,7 +742,7 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 			HashMap<Integer, EdgeList<E,V>> map = new HashMap<Integer, EdgeList<E,V>>();
 			for (Object e : l){
 				// add up indices of enDP_NAMESoints
-				Integer i = (Integer) indices.get(((E)e).getV1()) + (Integer) indices.get(((E)e).getV2());
+				Integer i = indices.getInt(((E)e).getV1()) + indices.getInt(((E)e).getV2());
 				// take this as key for the map
 				EdgeList<E,V> el = map.get(i);
 				// and add the abs to the corresponding abs list
@@ -517,12 +836,12 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 		// remove edges from graph
 		for (E e : tempComp) {
 			skeleton.removeEdge(e);
-			isHiddenMap.put(e, true);
+			isHiddenMap.setBool(e, true);
 		}
 		
 		// create virtual abs and add edges to component
 		E virtualEdge = skeleton.addVirtualEdge(v1,v2);
-		virtEdgeMap.put(virtualEdge, true);
+		virtEdgeMap.setBool(virtualEdge, true);
 		tempComp.add(0, virtualEdge);
 		// assign virtual abs
 		
@@ -538,9 +857,9 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	 * @param g Graph.
 	 */
 	private EdgeMap<E,V> createEdgeMap(IGraph<E,V> g) {
-		EdgeMap<E,V> map = new EdgeMap<E,V>();
+		EdgeMap<E,V> map = new EdgeMap<E,V>(new ElementIndex<E>(g.getEdges().size()));
 		for (E e:g.getEdges()) {
-			map.put(e, null);
+			map.register(e);
 		}
 		return map;
 	}
@@ -551,9 +870,9 @@ public class TCTree<E extends IEdge<V>, V extends IVertex> extends AbstractTree<
 	 * @return NodeMap.
 	 */
 	private NodeMap<V> createNodeMap(IGraph<E,V> g) {
-		NodeMap<V> map = new NodeMap<V>();
+		NodeMap<V> map = new NodeMap<V>(new ElementIndex<V>(g.countVertices()));
 		for (V v:g.getVertices()) {
-			map.put(v, null);
+			map.register(v);
 		}
 		return map;
 	}
@@ -0,0 +1,309 @@
+package main.java.decomposition.spqrTree;
+
+import main.java.decomposition.graph.abs.IDirectedEdge;
+import main.java.decomposition.hyperGraph.IVertex;
+import main.java.decomposition.spqrTree.container.ElementIndex;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Frozen index of the structure of an {@link AbstractTree}: parents, children and the post order of the nodes in
+ * int arrays. The nodes are numbered in breadth first order from the root, so the children of every node have
+ * consecutive numbers and are given by a range.
+ *
+ * Ancestor tests and lowest common ancestors are answered in constant time from the Euler tour of the tree and a
+ * sparse table of its shallowest nodes, which are built on the first such query.
+ *
+ * The index is a snapshot, it does not follow later changes of the tree. It is not synchronized.
+ *
+ * @param <V> Vertex template.
+ */
+public class TreeIndex<V extends IVertex> {
+
+	private static final int NO_NODE = -1;
+
+	private final ElementIndex<V> nodes;
+	private final int[] parents;
+	// the children of node i are the nodes childrenStart[i], ..., childrenStart[i+1]-1
+	private final int[] childrenStart;
+	private final int[] postOrder;
+
+	// depth of every node and its first and last position in the Euler tour
+	private int[] depths = null;
+	private int[] firstVisits;
+	private int[] lastVisits;
+	// shallowest[k][i] is the shallowest node at the positions i, ..., i+2^k-1 of the Euler tour
+	private int[][] shallowest;
+
+	/**
+	 * Indexes the nodes reachable from the root of the tree, the children of a node are kept in the order
+	 * of the outgoing edges of the node.
+	 */
+	public TreeIndex(AbstractTree<V> tree) {
+		V root = tree.getRoot();
+		int capacity = root == null ? 0 : tree.countVertices();
+		this.nodes = new ElementIndex<V>(capacity);
+		int[] parents = new int[capacity];
+		int[] childrenStart = new int[capacity + 1];
+
+		if (root != null) {
+			nodes.add(root);
+			parents[0] = NO_NODE;
+		}
+		for (int i = 0; i < nodes.size(); i++) {
+			childrenStart[i] = nodes.size();
+			for (IDirectedEdge<V> edge : tree.getOutgoingEdgeSet(nodes.get(i))) {
+				V child = edge.getTarget();
+				if (nodes.indexOf(child) != NO_NODE)
+					throw new IllegalStateException("The node " + child + " is reached twice, the graph is not a tree.");
+				parents[nodes.add(child)] = i;
+			}
+		}
+
+		int size = nodes.size();
+		childrenStart[size] = size;
+		this.parents = Arrays.copyOf(parents, size);
+		this.childrenStart = Arrays.copyOf(childrenStart, size + 1);
+		this.postOrder = this.computePostOrder();
+	}
+
+	private int[] computePostOrder() {
+		int size = nodes.size();
+		int[] order = new int[size];
+		if (size == 0)
+			return order;
+
+		// next child to visit for every node on the stack
+		int[] nextChild = Arrays.copyOf(childrenStart, size);
+		int[] stack = new int[size];
+		int top = 0, position = 0;
+		stack[0] = 0;
+		while (top >= 0) {
+			int node = stack[top];
+			if (nextChild[node] < childrenStart[node + 1])
+				stack[++top] = nextChild[node]++;
+			else {
+				order[position++] = node;
+				top--;
+			}
+		}
+		return order;
+	}
+
+	private void indexAncestors() {
+		int size = nodes.size();
+		int[] depths = new int[size];
+		for (int node = 1; node < size; node++)
+			depths[node] = depths[parents[node]] + 1;
+
+		// the tour lists a node when it is entered and after each of its children
+		int length = Math.max(2 * size - 1, 0);
+		int[] tour = new int[length];
+		firstVisits = new int[size];
+		lastVisits = new int[size];
+		if (size > 0) {
+			int[] nextChild = Arrays.copyOf(childrenStart, size);
+			int[] stack = new int[size];
+			int top = 0, position = 0;
+			stack[0] = 0;
+			firstVisits[0] = 0;
+			tour[position++] = 0;
+			while (top >= 0) {
+				int node = stack[top];
+				if (nextChild[node] < childrenStart[node + 1]) {
+					int child = nextChild[node]++;
+					stack[++top] = child;
+					firstVisits[child] = position;
+					tour[position++] = child;
+				} else {
+					lastVisits[node] = position - 1;
+					if (--top >= 0)
+						tour[position++] = stack[top];
+				}
+			}
+		}
+
+		int levels = 1;
+		while ((1 << levels) <= length)
+			levels++;
+		shallowest = new int[levels][];
+		shallowest[0] = tour;
+		for (int k = 1; k < levels; k++) {
+			int[] previous = shallowest[k - 1];
+			int half = 1 << (k - 1);
+			int[] level = new int[length - (1 << k) + 1];
+			for (int i = 0; i < level.length; i++) {
+				int a = previous[i], b = previous[i + half];
+				level[i] = depths[a] <= depths[b] ? a : b;
+			}
+			shallowest[k] = level;
+		}
+		this.depths = depths;
+	}
+
+	/**
+	 * @return the number of edges between the root and the node.
+	 */
+	public int getDepth(int index) {
+		if (depths == null)
+			this.indexAncestors();
+		return depths[index];
+	}
+
+	/**
+	 * @return <code>true</code> if the first node is a proper ancestor of the second one.
+	 */
+	public boolean isAncestor(int ancestor, int node) {
+		if (depths == null)
+			this.indexAncestors();
+		return ancestor != node && firstVisits[ancestor] <= firstVisits[node] && lastVisits[node] <= lastVisits[ancestor];
+	}
+
+	/**
+	 * @return <code>true</code> if the first node is a proper ancestor of the second one, <code>false</code> if one
+	 * of them is not in the tree.
+	 */
+	public boolean isAncestor(V ancestor, V node) {
+		int a = nodes.indexOf(ancestor), b = nodes.indexOf(node);
+		return a != NO_NODE && b != NO_NODE && this.isAncestor(a, b);
+	}
+
+	/**
+	 * @return the number of the lowest common ancestor of the nodes.
+	 */
+	public int getLCA(int node1, int node2) {
+		if (depths == null)
+			this.indexAncestors();
+		int from = Math.min(firstVisits[node1], firstVisits[node2]);
+		int to = Math.max(firstVisits[node1], firstVisits[node2]);
+		int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+		int a = shallowest[k][from], b = shallowest[k][to - (1 << k) + 1];
+		return depths[a] <= depths[b] ? a : b;
+	}
+
+	/**
+	 * @return the lowest common ancestor of the nodes or null if one of them is not in the tree.
+	 */
+	public V getLCA(V node1, V node2) {
+		int a = nodes.indexOf(node1), b = nodes.indexOf(node2);
+		if (a == NO_NODE || b == NO_NODE)
+			return null;
+		return nodes.get(this.getLCA(a, b));
+	}
+
+	/**
+	 * @return the number of nodes in the tree.
+	 */
+	public int size() {
+		return nodes.size();
+	}
+
+	/**
+	 * @return the number of the node or -1 if it is not in the tree.
+	 */
+	public int indexOf(V node) {
+		return nodes.indexOf(node);
+	}
+
+	public V getNode(int index) {
+		return nodes.get(index);
+	}
+
+	public V getRoot() {
+		return nodes.size() == 0 ? null : nodes.get(0);
+	}
+
+	/**
+	 * @return the number of the parent of the node or -1 for the root.
+	 */
+	public int getParent(int index) {
+		return parents[index];
+	}
+
+	/**
+	 * @return the parent of the node or null for the root and nodes that are not in the tree.
+	 */
+	public V getParent(V node) {
+		int index = nodes.indexOf(node);
+		if (index == NO_NODE || parents[index] == NO_NODE)
+			return null;
+		return nodes.get(parents[index]);
+	}
+
+	/**
+	 * @return the number of the first child of the node.
+	 */
+	public int getChildrenStart(int index) {
+		return childrenStart[index];
+	}
+
+	/**
+	 * @return the number after the last child of the node.
+	 */
+	public int getChildrenEnd(int index) {
+		return childrenStart[index + 1];
+	}
+
+	/**
+	 * @return read-only list of the children of the node, empty for nodes that are not in the tree.
+	 */
+	public List<V> getChildren(V node) {
+		int index = nodes.indexOf(node);
+		if (index == NO_NODE)
+			return new NodeList(0, 0);
+		return new NodeList(childrenStart[index], childrenStart[index + 1]);
+	}
+
+	/**
+	 * @return the number of the node at the given position of the post order.
+	 */
+	public int getPostOrder(int position) {
+		return postOrder[position];
+	}
+
+	/**
+	 * @return read-only list of the nodes in post order, the children of a node in their order.
+	 */
+	public List<V> getPostOrder() {
+		return new AbstractList<V>() {
+			@Override
+			public V get(int position) {
+				return nodes.get(postOrder[position]);
+			}
+
+			@Override
+			public int size() {
+				return postOrder.length;
+			}
+		};
+	}
+
+	/**
+	 * The nodes with the numbers from start to end.
+	 */
+	private class NodeList extends AbstractList<V> {
+
+		private final int start;
+		private final int end;
+
+		private NodeList(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public V get(int i) {
+			if (i < 0 || i >= end - start)
+				throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + (end - start));
+			return nodes.get(start + i);
+		}
+
+		@Override
+		public int size() {
+			return end - start;
+		}
+	}
+}
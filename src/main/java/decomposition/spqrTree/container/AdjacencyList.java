@@ -0,0 +1,141 @@
+package main.java.decomposition.spqrTree.container;
+
+import main.java.decomposition.graph.abs.IEdge;
+import main.java.decomposition.hyperGraph.IVertex;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An adjacency list of edges with constant time removal. The edges are appended to an array,
+ * removed edges leave an empty slot behind which is skipped.
+ *
+ * The lists of one graph share an {@link EdgeMap} which stores for each edge the list it was
+ * added to first and its position there. An edge which is added to a second list or twice to
+ * the same list is found by scanning that list, this only happens for some virtual edges.
+ *
+ * @param <E> Edge class
+ * @param <V> Vertex class
+ */
+public class AdjacencyList<E extends IEdge<V>, V extends IVertex> extends AbstractCollection<E> {
+
+	private final EdgeMap<E, V> positions;
+	private Object[] items = new Object[4];
+	// position of the first edge which may not be removed
+	private int first = 0;
+	// position after the last edge
+	private int end = 0;
+	private int size = 0;
+	// true if this list contains edges which are not registered in positions
+	private boolean unregistered = false;
+
+	/**
+	 * @param positions	the map shared by all adjacency lists of the graph
+	 */
+	public AdjacencyList(EdgeMap<E, V> positions) {
+		this.positions = positions;
+	}
+
+	@Override
+	public boolean add(E edge) {
+		if (edge == null)
+			throw new IllegalArgumentException("The edge must not be null.");
+		if (end == items.length)
+			items = Arrays.copyOf(items, 2 * items.length);
+		if (positions.get(edge) == null) {
+			positions.put(edge, this);
+			positions.setInt(edge, end);
+		} else {
+			unregistered = true;
+		}
+		items[end++] = edge;
+		size++;
+		return true;
+	}
+
+	/**
+	 * Removes the first occurrence of the edge.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean remove(Object o) {
+		E edge = (E) o;
+		int position;
+		boolean registered = positions.get(edge) == this;
+		if (unregistered) {
+			// an unregistered occurrence may precede the registered one
+			position = this.find(edge, first);
+		} else if (registered) {
+			position = positions.getInt(edge);
+		} else {
+			return false;
+		}
+		if (position < 0)
+			return false;
+
+		items[position] = null;
+		size--;
+		if (registered && positions.getInt(edge) == position) {
+			// register the next occurrence in this list, if any
+			int next = unregistered ? this.find(edge, position + 1) : -1;
+			if (next < 0)
+				positions.put(edge, null);
+			else
+				positions.setInt(edge, next);
+		}
+		return true;
+	}
+
+	/**
+	 * @return the first edge of the list or null if it is empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public E peek() {
+		while (first < end && items[first] == null)
+			first++;
+		return first < end ? (E) items[first] : null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int next = AdjacencyList.this.skip(first);
+
+			@Override
+			public boolean hasNext() {
+				return next < end;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public E next() {
+				if (next >= end)
+					throw new NoSuchElementException();
+				E edge = (E) items[next];
+				next = AdjacencyList.this.skip(next + 1);
+				return edge;
+			}
+		};
+	}
+
+	private int find(E edge, int from) {
+		for (int i = from; i < end; i++) {
+			if (items[i] != null && items[i].equals(edge))
+				return i;
+		}
+		return -1;
+	}
+
+	private int skip(int position) {
+		while (position < end && items[position] == null)
+			position++;
+		return position;
+	}
+}
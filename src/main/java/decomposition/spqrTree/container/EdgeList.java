@@ -3,36 +3,154 @@ package main.java.decomposition.spqrTree.container;
 import main.java.decomposition.graph.abs.IEdge;
 import main.java.decomposition.hyperGraph.IVertex;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 /**
  * This EdgeList is an abstraction of the underlying list type, which stores edges.
- * 
+ * The edges are kept in a growable circular array, so the list is also used as
+ * stack ({@link #push}, {@link #pop}, {@link #peek}) at its front.
+ *
  * @author Christian Wiggert
  * @author Artem Polyvyanyy
  *
  * @param <E> Edge class
  * @param <V> Vertex class
  */
-public class EdgeList<E extends IEdge<V>, V extends IVertex> extends LinkedList<E> {
-	
-	private static final long serialVersionUID = 2649534465829537370L;
+public class EdgeList<E extends IEdge<V>, V extends IVertex> extends AbstractList<E> implements RandomAccess {
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private Object[] items = EMPTY;
+	// position of the first edge in items
+	private int head = 0;
+	private int size = 0;
 
-	public EdgeList(EdgeList<E,V> list) {
-		super(list);
+	public EdgeList(Collection<? extends E> edges) {
+		super();
+		this.ensureCapacity(edges.size());
+		for (E edge : edges) {
+			items[size++] = edge;
+		}
 	}
-	
+
 	public EdgeList(E edge) {
 		super();
 		this.add(edge);
 	}
-	
+
 	public EdgeList() {
 		super();
 	}
-	
+
+	/**
+	 * Adds the edge at the front of the list.
+	 */
+	public void push(E edge) {
+		this.add(0, edge);
+	}
+
+	/**
+	 * Removes the first edge of the list.
+	 */
+	public E pop() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return this.remove(0);
+	}
+
+	/**
+	 * @return the first edge of the list or null if it is empty.
+	 */
+	public E peek() {
+		return size == 0 ? null : this.get(0);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		this.checkIndex(index, size);
+		return (E) items[this.slot(index)];
+	}
+
+	@Override
+	public E set(int index, E edge) {
+		E old = this.get(index);
+		items[this.slot(index)] = edge;
+		return old;
+	}
+
+	@Override
+	public void add(int index, E edge) {
+		this.checkIndex(index, size + 1);
+		this.ensureCapacity(size + 1);
+		if (index == 0) {
+			head = (head - 1) & (items.length - 1);
+		} else {
+			for (int i = size; i > index; i--)
+				items[this.slot(i)] = items[this.slot(i - 1)];
+		}
+		items[this.slot(index)] = edge;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public E remove(int index) {
+		E edge = this.get(index);
+		if (index == 0) {
+			items[head] = null;
+			head = (head + 1) & (items.length - 1);
+		} else {
+			for (int i = index; i < size - 1; i++)
+				items[this.slot(i)] = items[this.slot(i + 1)];
+			items[this.slot(size - 1)] = null;
+		}
+		size--;
+		modCount++;
+		return edge;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(items, null);
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
 	@Override
 	public EdgeList<E,V> clone() {
 		return new EdgeList<E,V>(this);
 	}
+
+	private int slot(int index) {
+		return (head + index) & (items.length - 1);
+	}
+
+	private void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= items.length)
+			return;
+		int length = Math.max(8, items.length);
+		while (length < capacity)
+			length <<= 1;
+		Object[] grown = new Object[length];
+		for (int i = 0; i < size; i++)
+			grown[i] = items[this.slot(i)];
+		items = grown;
+		head = 0;
+	}
 }
@@ -3,43 +3,30 @@ package main.java.decomposition.spqrTree.container;
 import main.java.decomposition.graph.abs.IEdge;
 import main.java.decomposition.hyperGraph.IVertex;
 
-import java.util.HashMap;
-
 
 /**
  * This map is a convenient solution to store values for edges.
- * 
+ * The values are kept in arrays, see {@link ElementMap}.
+ *
  * @author Christian Wiggert
  *
  */
-public class EdgeMap<E extends IEdge<V>, V extends IVertex> extends HashMap<E, Object> {
+public class EdgeMap<E extends IEdge<V>, V extends IVertex> extends ElementMap<E> {
+
+	public EdgeMap() {
+		this(new ElementIndex<E>());
+	}
 
 	/**
-	 * 
+	 * Creates a map which shares the positions of the edges with the other maps of the given index.
 	 */
-	private static final long serialVersionUID = -3122883772335954023L;
-	
-	public int getInt(E edge) {
-		return (Integer) this.get(edge);
+	public EdgeMap(ElementIndex<E> index) {
+		super(index);
 	}
-	
-	public void setInt(E edge, int i) {
-		this.put(edge, i);
-	}
-	
-	public boolean getBool(E edge) {
-		if (this.get(edge) == null)
-			return false;
-		return (Boolean) this.get(edge);
-	}
-	
-	public void setBool(E edge, boolean flag) {
-		this.put(edge, flag);
-	}
-	
+
 	public void initialiseWithFalse() {
-		for (E edge : this.keySet()) {
-			this.put(edge, false);
+		for (int i = 0; i < this.getIndex().size(); i++) {
+			this.setBool(this.getIndex().get(i), false);
 		}
 	}
 }
@@ -0,0 +1,110 @@
+package main.java.decomposition.spqrTree.container;
+
+import java.util.Arrays;
+
+
+/**
+ * Assigns dense indices 0, 1, 2, ... to graph elements in the order in which they are added.
+ * Elements that are added again keep their index. The index grows as elements are added,
+ * so elements created during a DFS, e.g. virtual edges, can be added at any time.
+ * Elements are matched like keys of a {@link java.util.HashMap}: by hash code first, then by equals.
+ * This keeps parallel edges apart, which are equal but have different hash codes.
+ *
+ * Several {@link ElementMap}s may share one index, then an element has the same position in all of them.
+ *
+ * @param <T> element class
+ */
+public class ElementIndex<T> {
+
+	private static final int NO_ELEMENT = -1;
+
+	private Object[] elements;
+	private int[] hashes;
+	// hash chains as in HashMap: the first element of each bucket and the next element of each element
+	private int[] buckets;
+	private int[] next;
+	private int size = 0;
+
+	public ElementIndex() {
+		this(16);
+	}
+
+	public ElementIndex(int expectedSize) {
+		int capacity = 16;
+		while (capacity < expectedSize)
+			capacity <<= 1;
+		elements = new Object[capacity];
+		hashes = new int[capacity];
+		next = new int[capacity];
+		buckets = new int[capacity];
+		Arrays.fill(buckets, NO_ELEMENT);
+	}
+
+	/**
+	 * @return the index of the element or -1 if the element has not been added.
+	 */
+	public int indexOf(Object element) {
+		if (element == null)
+			return NO_ELEMENT;
+		int hash = hash(element);
+		for (int i = buckets[hash & (buckets.length - 1)]; i != NO_ELEMENT; i = next[i]) {
+			if (hashes[i] == hash && (elements[i] == element || element.equals(elements[i])))
+				return i;
+		}
+		return NO_ELEMENT;
+	}
+
+	/**
+	 * Adds the element if it has not been added yet.
+	 *
+	 * @return the index of the element.
+	 */
+	public int add(T element) {
+		if (element == null)
+			throw new IllegalArgumentException("Null can not be indexed.");
+		int index = this.indexOf(element);
+		if (index != NO_ELEMENT)
+			return index;
+		if (size == elements.length)
+			this.grow();
+		index = size++;
+		int hash = hash(element);
+		int bucket = hash & (buckets.length - 1);
+		elements[index] = element;
+		hashes[index] = hash;
+		next[index] = buckets[bucket];
+		buckets[bucket] = index;
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("No element with index " + index + ".");
+		return (T) elements[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private static int hash(Object element) {
+		// the graph objects have sequential hash codes, which need no further spreading than that of HashMap
+		int h = element.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private void grow() {
+		int capacity = 2 * elements.length;
+		elements = Arrays.copyOf(elements, capacity);
+		hashes = Arrays.copyOf(hashes, capacity);
+		next = new int[capacity];
+		buckets = new int[capacity];
+		Arrays.fill(buckets, NO_ELEMENT);
+		for (int index = 0; index < size; index++) {
+			int bucket = hashes[index] & (capacity - 1);
+			next[index] = buckets[bucket];
+			buckets[bucket] = index;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package main.java.decomposition.spqrTree.container;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores values for graph elements in arrays at the position of the element in an {@link ElementIndex}.
+ * Integers, flags and objects are kept in separate typed columns, so {@link #getInt} and {@link #getBool}
+ * neither box nor unbox. A column is allocated when it is written first.
+ *
+ * Elements that are not in the index read as null, 0 or false and are added to the index when a value is set.
+ *
+ * @param <K> element class
+ */
+public abstract class ElementMap<K> {
+
+	private final ElementIndex<K> index;
+	private Object[] objects = null;
+	private int[] ints = null;
+	private boolean[] bools = null;
+
+	protected ElementMap(ElementIndex<K> index) {
+		this.index = index;
+	}
+
+	/**
+	 * @return the index which assigns the positions of the elements in this map.
+	 */
+	public ElementIndex<K> getIndex() {
+		return index;
+	}
+
+	/**
+	 * Adds the element to the index without setting a value.
+	 */
+	public void register(K element) {
+		index.add(element);
+	}
+
+	public Object get(K element) {
+		int i = index.indexOf(element);
+		if (i < 0 || objects == null || i >= objects.length)
+			return null;
+		return objects[i];
+	}
+
+	public void put(K element, Object value) {
+		int i = index.add(element);
+		if (objects == null || i >= objects.length)
+			objects = Arrays.copyOf(objects == null ? new Object[0] : objects, this.capacity(i));
+		objects[i] = value;
+	}
+
+	public int getInt(K element) {
+		int i = index.indexOf(element);
+		if (i < 0 || ints == null || i >= ints.length)
+			return 0;
+		return ints[i];
+	}
+
+	public void setInt(K element, int value) {
+		int i = index.add(element);
+		if (ints == null || i >= ints.length)
+			ints = Arrays.copyOf(ints == null ? new int[0] : ints, this.capacity(i));
+		ints[i] = value;
+	}
+
+	public boolean getBool(K element) {
+		int i = index.indexOf(element);
+		if (i < 0 || bools == null || i >= bools.length)
+			return false;
+		return bools[i];
+	}
+
+	public void setBool(K element, boolean flag) {
+		int i = index.add(element);
+		if (bools == null || i >= bools.length)
+			bools = Arrays.copyOf(bools == null ? new boolean[0] : bools, this.capacity(i));
+		bools[i] = flag;
+	}
+
+	private int capacity(int i) {
+		return Math.max(i + 1, Math.max(index.size(), 16) + (index.size() >> 1));
+	}
+}
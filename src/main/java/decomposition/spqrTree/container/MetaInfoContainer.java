@@ -1,29 +1,25 @@
 package main.java.decomposition.spqrTree.container;
 
-import java.util.HashMap;
-
 /**
- * This container stores additional meta information. 
- * The elements of {@link MetaInfo} are used as keys.
- * 
+ * This container stores additional meta information.
+ * The elements of {@link MetaInfo} are used as keys, each of them has a fixed slot.
+ *
  * @author Christian Wiggert
  *
  */
 public class MetaInfoContainer {
-	
-	private HashMap<MetaInfo, Object> map;
-	
+
+	private Object[] slots;
+
 	public MetaInfoContainer() {
-		map = new HashMap<MetaInfo, Object>();
+		slots = new Object[MetaInfo.values().length];
 	}
-	
+
 	public Object getMetaInfo(MetaInfo name) {
-		if (map.containsKey(name))
-			return map.get(name);
-		return null;
+		return slots[name.ordinal()];
 	}
-	
+
 	public void setMetaInfo(MetaInfo name, Object content) {
-		map.put(name, content);
+		slots[name.ordinal()] = content;
 	}
 }
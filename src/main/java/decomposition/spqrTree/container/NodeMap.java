@@ -2,35 +2,24 @@ package main.java.decomposition.spqrTree.container;
 
 import main.java.decomposition.hyperGraph.IVertex;
 
-import java.util.HashMap;
-
 
 /**
- * This map is a convenient solution to store values for edges.
- * 
+ * This map is a convenient solution to store values for vertices.
+ * The values are kept in arrays, see {@link ElementMap}.
+ *
  * @author Christian Wiggert
  *
  */
-public class NodeMap<V extends IVertex> extends HashMap<V, Object> {
+public class NodeMap<V extends IVertex> extends ElementMap<V> {
+
+	public NodeMap() {
+		this(new ElementIndex<V>());
+	}
 
 	/**
-	 * 
+	 * Creates a map which shares the positions of the vertices with the other maps of the given index.
 	 */
-	private static final long serialVersionUID = -474286340181229387L;
-	
-	public int getInt(V node) {
-		return (Integer) this.get(node);
-	}
-	
-	public void setInt(V node, int i) {
-		this.put(node, i);
-	}
-	
-	public boolean getBool(V node) {
-		return (Boolean) this.get(node);
-	}
-	
-	public void setBool(V node, boolean flag) {
-		this.put(node, flag);
+	public NodeMap(ElementIndex<V> index) {
+		super(index);
 	}
 }
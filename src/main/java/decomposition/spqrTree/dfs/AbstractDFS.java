@@ -5,6 +5,10 @@ import main.java.decomposition.graph.abs.IEdge;
 import main.java.decomposition.graph.abs.IGraph;
 import main.java.decomposition.hyperGraph.IVertex;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
 /**
  * A standard Depth-first-search (DFS) implementation. 
  * It implements the same dummy-methods as the DFS algorithm in {@link y.algo.Dfs}, 
@@ -42,6 +46,8 @@ public class AbstractDFS<E extends IEdge<V>, V extends IVertex> {
 	protected NodeMap<V> nodeStateMap;
 	// EdgeMap storing current abs type: EDGE_NOT_VISITED, TREE_EDGE or BACK_EDGE
 	protected EdgeMap<E, V> edgeTypeMap;
+	// positions of the edges in the EdgeMaps created by this DFS
+	private ElementIndex<E> edgeIndex;
 	private int dfsNum = 0;
 	private int complNum = 0;
 	
@@ -59,17 +65,18 @@ public class AbstractDFS<E extends IEdge<V>, V extends IVertex> {
 		g = graph;
 		adj = adjMap;
 		meta = container;
+		edgeIndex = new ElementIndex<E>(g.getEdges().size());
 		nodeStateMap = this.createNodeMap(g);
 		dfsNumMap = this.createNodeMap(g);
 		complNumMap = this.createNodeMap(g);
 		for (V node:g.getVertices()){
-			nodeStateMap.put(node, WHITE);
-			dfsNumMap.put(node, -1);
-			complNumMap.put(node, -1);
+			nodeStateMap.setInt(node, WHITE);
+			dfsNumMap.setInt(node, -1);
+			complNumMap.setInt(node, -1);
 		}
 		edgeTypeMap = this.createEdgeMap(g);
 		for (E edge:g.getEdges()){
-			edgeTypeMap.put(edge, EDGE_NOT_VISITED);
+			edgeTypeMap.setInt(edge, EDGE_NOT_VISITED);
 		}
 		// add data provider
 		meta.setMetaInfo(MetaInfo.DFS_NUM, dfsNumMap);
@@ -89,53 +96,77 @@ public class AbstractDFS<E extends IEdge<V>, V extends IVertex> {
 		dfs(root);
 	}
 	
-	@SuppressWarnings("unchecked")
+	/**
+	 * Runs the DFS from v with an explicit stack of frames instead of recursion, so the depth of the DFS tree is not
+	 * limited by the thread stack. The hooks are called in the same order as by a recursive DFS.
+	 */
 	protected void dfs(V v){
-		dfsNum++;
-		dfsNumMap.put(v, dfsNum);
-		nodeStateMap.put(v, GRAY);
-		EdgeList<E, V> adjV = (EdgeList<E, V>) adj.get(v);
-		
-		//System.out.println(v + ": " + adjV);
-		preVisit(v, (Integer) dfsNumMap.get(v));
+		Deque<Frame<E, V>> stack = new ArrayDeque<Frame<E, V>>();
+		stack.push(this.visit(v));
 		
-		for (E e:adjV){
-			// traverse only not yet visited edges
-			//System.out.println("Visit: " + e);
-			if ((Integer) edgeTypeMap.get(e) == EDGE_NOT_VISITED) {
-				
-				V w = e.getOtherVertex(v);
-				// re-orient abs
-				e.setVertices(v,w);
-				
-				if ((Integer) nodeStateMap.get(w) == WHITE) {
-					// tree abs found -> traverse abs
-					edgeTypeMap.put(e, TREE_EDGE);
-
-					preTraverse(e, w, true);
-
-					dfs(w);
-
-					postTraverse(e, w);
-
-				} else {
-					// back abs found
-					edgeTypeMap.put(e, BACK_EDGE);
-
-					preTraverse(e, w, false);
+		while (!stack.isEmpty()) {
+			Frame<E, V> frame = stack.peek();
+			if (frame.treeEdge != null) {
+				// returned from the subtree of the tree abs
+				postTraverse(frame.treeEdge, frame.child);
+				frame.treeEdge = null;
+				frame.child = null;
+			}
+			
+			while (frame.treeEdge == null && frame.edges.hasNext()) {
+				E e = frame.edges.next();
+				// traverse only not yet visited edges
+				if (edgeTypeMap.getInt(e) == EDGE_NOT_VISITED) {
+					
+					V w = e.getOtherVertex(frame.vertex);
+					// re-orient abs
+					e.setVertices(frame.vertex,w);
+					
+					if (nodeStateMap.getInt(w) == WHITE) {
+						// tree abs found -> traverse abs
+						edgeTypeMap.setInt(e, TREE_EDGE);
+						
+						preTraverse(e, w, true);
+						
+						frame.treeEdge = e;
+						frame.child = w;
+					} else {
+						// back abs found
+						edgeTypeMap.setInt(e, BACK_EDGE);
+						
+						preTraverse(e, w, false);
+					}
 				}
 			}
 			
+			if (frame.treeEdge != null) {
+				stack.push(this.visit(frame.child));
+			} else {
+				stack.pop();
+				this.finish(frame.vertex);
+			}
 		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Frame<E, V> visit(V v) {
+		dfsNum++;
+		dfsNumMap.setInt(v, dfsNum);
+		nodeStateMap.setInt(v, GRAY);
+		EdgeList<E, V> adjV = (EdgeList<E, V>) adj.get(v);
+		
+		preVisit(v, dfsNum);
 		
+		return new Frame<E, V>(v, adjV.iterator());
+	}
+	
+	private void finish(V v) {
 		// backtrack
-		nodeStateMap.put(v, BLACK);
+		nodeStateMap.setInt(v, BLACK);
 		complNum++;
-		complNumMap.put(v, complNum);
-		
-		postVisit(v, (Integer) dfsNumMap.get(v), (Integer) complNumMap.get(v));
-		
+		complNumMap.setInt(v, complNum);
 		
+		postVisit(v, dfsNumMap.getInt(v), complNum);
 	}
 	
 	protected void preVisit(V v, int dfsNumber) {}
@@ -150,18 +181,40 @@ public class AbstractDFS<E extends IEdge<V>, V extends IVertex> {
 		return edgeTypeMap;
 	}
 	
+	/**
+	 * A vertex on the DFS stack with the position in its adjacency list and the tree abs that is currently traversed
+	 */
+	private static final class Frame<E extends IEdge<V>, V extends IVertex> {
+		private final V vertex;
+		private final Iterator<E> edges;
+		private E treeEdge;
+		private V child;
+		
+		private Frame(V vertex, Iterator<E> edges) {
+			this.vertex = vertex;
+			this.edges = edges;
+		}
+	}
+	
+	/**
+	 * Creates an EdgeMap for the edges of the given graph, all EdgeMaps of this DFS share the positions of the edges.
+	 */
 	protected EdgeMap<E, V> createEdgeMap(IGraph<E,V> g) {
-		EdgeMap<E, V> map = new EdgeMap<E, V>();
+		EdgeMap<E, V> map = new EdgeMap<E, V>(edgeIndex);
 		for (E e:g.getEdges()) {
-			map.put(e, null);
+			map.register(e);
 		}
 		return map;
 	}
 	
+	/**
+	 * Creates a NodeMap for the vertices of the given graph, which shares the positions of the vertices with the
+	 * adjacency map.
+	 */
 	protected NodeMap<V> createNodeMap(IGraph<E, V> g) {
-		NodeMap<V> map = new NodeMap<V>();
+		NodeMap<V> map = new NodeMap<V>(adj.getIndex());
 		for (V v:g.getVertices()) {
-			map.put(v, null);
+			map.register(v);
 		}
 		return map;
 	}
@@ -55,11 +55,11 @@ public class LowAndDescDFS<E extends IEdge<V>, V extends IVertex> extends Parent
 		
 		
 		for (V node:g.getVertices()){
-			lowpt1NumMap.put(node, -1);
-			lowpt2NumMap.put(node, -1);
+			lowpt1NumMap.setInt(node, -1);
+			lowpt2NumMap.setInt(node, -1);
 			lowpt1VertexMap.put(node, INVALID_NODE);
 			lowpt2VertexMap.put(node, INVALID_NODE);
-			numDescMap.put(node, -1);
+			numDescMap.setInt(node, -1);
 		}
 		
 		// add data provider
@@ -77,12 +77,12 @@ public class LowAndDescDFS<E extends IEdge<V>, V extends IVertex> extends Parent
 	protected void preVisit(V v, int dfsNumber) {
 		super.preVisit(v, dfsNumber);
 		// initialize low-point numbers with dfs number
-		lowpt1NumMap.put(v, dfsNumber);
-		lowpt2NumMap.put(v, dfsNumber);
+		lowpt1NumMap.setInt(v, dfsNumber);
+		lowpt2NumMap.setInt(v, dfsNumber);
 		lowpt1VertexMap.put(v, v);
 		lowpt2VertexMap.put(v, v);
 		// initialize number of descendants
-		numDescMap.put(v, 1);
+		numDescMap.setInt(v, 1);
 	}
 
 
@@ -94,19 +94,19 @@ public class LowAndDescDFS<E extends IEdge<V>, V extends IVertex> extends Parent
 		V v = e.getOtherVertex(w);
 		if (!treeEdge){
 			// update low-point numbers for v
-			if ((Integer) dfsNumMap.get(w) < (Integer) lowpt1NumMap.get(v)){
+			if (dfsNumMap.getInt(w) < lowpt1NumMap.getInt(v)){
 				// the found back abs reaches lower than current low1(v)
 				// -> low2(v) gets low1(v)
-				lowpt2NumMap.put(v, (Integer) lowpt1NumMap.get(v));
+				lowpt2NumMap.setInt(v, lowpt1NumMap.getInt(v));
 				lowpt2VertexMap.put(v, lowpt1VertexMap.get(v));
 				// -> low1(v) gets target of found back abs
-				lowpt1NumMap.put(v, (Integer) dfsNumMap.get(w));
+				lowpt1NumMap.setInt(v, dfsNumMap.getInt(w));
 				lowpt1VertexMap.put(v,w);
-			}else if ((Integer) dfsNumMap.get(w) > (Integer) lowpt1NumMap.get(v)) {
+			}else if (dfsNumMap.getInt(w) > lowpt1NumMap.getInt(v)) {
 				// low1(v) needs not to be changed
 				// low2(v) possibly gets the target of the found back abs
-				if ((Integer) dfsNumMap.get(w) < (Integer) lowpt2NumMap.get(v)){
-					lowpt2NumMap.put(v, (Integer) dfsNumMap.get(w));
+				if (dfsNumMap.getInt(w) < lowpt2NumMap.getInt(v)){
+					lowpt2NumMap.setInt(v, dfsNumMap.getInt(w));
 					lowpt2VertexMap.put(v,w);
 				}
 			}
@@ -120,36 +120,36 @@ public class LowAndDescDFS<E extends IEdge<V>, V extends IVertex> extends Parent
 		
 		V v = e.getOtherVertex(w);
 		// update low-point numbers for v
-		if ((Integer) lowpt1NumMap.get(w) < (Integer) lowpt1NumMap.get(v)) {
+		if (lowpt1NumMap.getInt(w) < lowpt1NumMap.getInt(v)) {
 			// low1(v) gets low1(w)
 			// low2(v) either gets low1(v) or low2(w)
-			int min = Math.min((Integer) lowpt1NumMap.get(v), (Integer) lowpt2NumMap.get(w));
-			lowpt2NumMap.put(v, min);
-			if (min == (Integer) lowpt1NumMap.get(v)) {
+			int min = Math.min(lowpt1NumMap.getInt(v), lowpt2NumMap.getInt(w));
+			lowpt2NumMap.setInt(v, min);
+			if (min == lowpt1NumMap.getInt(v)) {
 				lowpt2VertexMap.put(v, lowpt1VertexMap.get(v));
 			} else {
 				lowpt2VertexMap.put(v, lowpt2VertexMap.get(w));
 			}
-			lowpt1NumMap.put(v, (Integer) lowpt1NumMap.get(w));
+			lowpt1NumMap.setInt(v, lowpt1NumMap.getInt(w));
 			lowpt1VertexMap.put(v, lowpt1VertexMap.get(w));
-		} else if ((Integer) lowpt1NumMap.get(w) == (Integer) lowpt1NumMap.get(v)) {
+		} else if (lowpt1NumMap.getInt(w) == lowpt1NumMap.getInt(v)) {
 			// low1(v) needs not to be changed
 			// low2(v) possibly gets low2(w)
-			if ((Integer) lowpt2NumMap.get(w) < (Integer) lowpt2NumMap.get(v)) {
-				lowpt2NumMap.put(v, (Integer) lowpt2NumMap.get(w));
+			if (lowpt2NumMap.getInt(w) < lowpt2NumMap.getInt(v)) {
+				lowpt2NumMap.setInt(v, lowpt2NumMap.getInt(w));
 				lowpt2VertexMap.put(v, lowpt2VertexMap.get(w));
 			}
 		} else {
 			// low1(v) is lower than low1(w)
 			// -> low1(v) needs not to be changed
 			// low2(v) gets low1(w) if low1(w) is lower
-			if ((Integer) lowpt1NumMap.get(w) < (Integer) lowpt2NumMap.get(v)) {
-				lowpt2NumMap.put(v, (Integer) lowpt1NumMap.get(w));
+			if (lowpt1NumMap.getInt(w) < lowpt2NumMap.getInt(v)) {
+				lowpt2NumMap.setInt(v, lowpt1NumMap.getInt(w));
 				lowpt2VertexMap.put(v, lowpt1VertexMap.get(w));
 			}
 		}
 		// update number of descendants
-		numDescMap.put(v, (Integer) numDescMap.get(v) + (Integer) numDescMap.get(w));
+		numDescMap.setInt(v, numDescMap.getInt(v) + numDescMap.getInt(w));
 	}
 
 	
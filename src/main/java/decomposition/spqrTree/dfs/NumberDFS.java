@@ -53,6 +53,10 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 	 * according to the inverse post-order numbering
 	 */
 	protected NodeMap<V> lowpt2NumMap;
+	// results of the first DFS, resolved once from the MetaInfoContainer
+	private NodeMap<V> numDescMap;
+	private NodeMap<V> lowpt1VertexMap;
+	private NodeMap<V> lowpt2VertexMap;
 	private int m = -1;
 	
 	/**
@@ -66,6 +70,7 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 	 * 					of adjacent neighbors. DFS traverses edges 
 	 * 					the according order.				
 	 */
+	@SuppressWarnings("unchecked")
 	public NumberDFS(IGraph<E, V> graph, MetaInfoContainer container, NodeMap<V> adjMap) {
 		super(graph, container, adjMap);
 		
@@ -77,12 +82,14 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 		
 		for (V node:g.getVertices()){
 			highptMap.put(node, new NodeList<V>());
-			numVMap.put(node, -1);
-			numTreeEdgesMap.put(node, -1);
+			numVMap.setInt(node, -1);
+			numTreeEdgesMap.setInt(node, -1);
 		}
 		
 		m = g.countVertices();
-		
+		numDescMap = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_DESC);
+		lowpt1VertexMap = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX);
+		lowpt2VertexMap = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_VERTEX);
 		
 		// add data provider
 		meta.setMetaInfo(MetaInfo.DFS_HIGHPT_LISTS, highptMap);
@@ -92,12 +99,11 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 		meta.setMetaInfo(MetaInfo.DFS_NUM_TREE_EDGES, numTreeEdgesMap);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	protected void preVisit(V v, int dfsNumber) {
 		super.preVisit(v, dfsNumber);
-		numVMap.put(v, m - ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_DESC)).getInt(v) + 1);
-		numTreeEdgesMap.put(v, 0);
+		numVMap.setInt(v, m - numDescMap.getInt(v) + 1);
+		numTreeEdgesMap.setInt(v, 0);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -115,7 +121,7 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 		super.postTraverse(e, w);
 		V v = e.getOtherVertex(w);
 		m--;
-		numTreeEdgesMap.put(v, (Integer) numTreeEdgesMap.get(v) + 1);
+		numTreeEdgesMap.setInt(v, numTreeEdgesMap.getInt(v) + 1);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -123,8 +129,8 @@ public class NumberDFS<E extends IEdge<V>, V extends IVertex> extends ParentAndP
 	protected void postVisit(V v, int dfsNumber, int complNumber) {
 		super.postVisit(v, dfsNumber, complNumber);
 		// adjust low point numbers to new numbering
-		lowpt1NumMap.put(v, (Integer) numVMap.get(((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX)).get(v)));
-		lowpt2NumMap.put(v, (Integer) numVMap.get(((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_VERTEX)).get(v)));	
+		lowpt1NumMap.setInt(v, numVMap.getInt((V) lowpt1VertexMap.get(v)));
+		lowpt2NumMap.setInt(v, numVMap.getInt((V) lowpt2VertexMap.get(v)));	
 	}
 
 	public NodeMap<V> getHighptMap() {
@@ -59,8 +59,8 @@ public class ParentAndPathDFS<E extends IEdge<V>, V extends IVertex> extends Abs
 			treeArcMap.put(node, INVALID_EDGE);
 		}
 		for (E edge:g.getEdges()){
-			pathNumMap.put(edge, -1);
-			startsNewPathMap.put(edge, false);
+			pathNumMap.setInt(edge, -1);
+			startsNewPathMap.setBool(edge, false);
 		}
 		
 		// add data provider
@@ -80,16 +80,16 @@ public class ParentAndPathDFS<E extends IEdge<V>, V extends IVertex> extends Abs
 			// set tree arc leading to w
 			treeArcMap.put(w, e);
 			// update path information
-			pathNumMap.put(e, pathNumber);
+			pathNumMap.setInt(e, pathNumber);
 			if (isNewPath) {
-				startsNewPathMap.put(e, true);
+				startsNewPathMap.setBool(e, true);
 				isNewPath = false;
 			}
 		} else {
 			// update path information
-			pathNumMap.put(e, pathNumber);
+			pathNumMap.setInt(e, pathNumber);
 			if (isNewPath) {
-				startsNewPathMap.put(e, true);
+				startsNewPathMap.setBool(e, true);
 			}
 			pathNumber++;
 			isNewPath = true;
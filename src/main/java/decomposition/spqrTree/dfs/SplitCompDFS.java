@@ -6,8 +6,7 @@ import main.java.decomposition.graph.abs.IGraph;
 import main.java.decomposition.hyperGraph.IVertex;
 import main.java.decomposition.spqrTree.TCSkeleton;
 
-import java.util.Stack;
-import java.util.UUID;
+import java.util.Arrays;
 import java.util.Vector;
 
 
@@ -33,10 +32,9 @@ import java.util.Vector;
 public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends AbstractDFS<E, V> {
 	
 	private boolean showDebugInformation = false;
-	private final TSItem EOS = new TSItem();
 	private V dfsRoot = null;
 	private EdgeList<E, V> eStack = new EdgeList<E, V>();
-	private Stack<TSItem> tStack = new Stack<TSItem>();
+	private TripleStack<V> tStack = new TripleStack<V>();
 	private Vector<EdgeList<E, V>> comp;
 	// boolean: true if abs is virtual abs
 	private EdgeMap<E, V> virtEdge;
@@ -49,6 +47,15 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	private NodeMap<V> treeArc;
 	private NodeMap<V> highpt;
 	private NodeMap<V> numNotVisitedTreeEdges;
+	// maps of the preceding passes, resolved once from the MetaInfoContainer
+	private EdgeMap<E, V> startsNewPath;
+	private NodeMap<V> orderedAdj;
+	private NodeMap<V> edgeCount;
+	private NodeMap<V> numV;
+	private NodeMap<V> lowpt1Num;
+	private NodeMap<V> lowpt2Num;
+	private NodeMap<V> lowpt1Vertex;
+	private NodeMap<V> numDesc;
 
 	/**
 	 * Constructor for SplitCompDFS.
@@ -82,13 +89,24 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		isHidden = isHiddenMap;
 		assignedVirtEdge = assignedVirtualEdgeMap;
 		
+		startsNewPath = (EdgeMap<E, V>) meta.getMetaInfo(MetaInfo.DFS_STARTS_NEW_PATH);
+		orderedAdj = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS);
+		edgeCount = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_COUNT);
+		numV = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_V);
+		lowpt1Num = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_NUM);
+		lowpt2Num = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_NUM);
+		lowpt1Vertex = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX);
+		numDesc = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_DESC);
+		
 		numNotVisitedTreeEdges = this.createNodeMap(g);
+		NodeMap<V> numTreeEdges = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_TREE_EDGES);
+		NodeMap<V> parentOfDFS = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_PARENT);
+		NodeMap<V> adjLists = (NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ADJ_LISTS);
 		
 		for (V node:g.getVertices()) {
-			numNotVisitedTreeEdges.put(node, 
-					 ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_TREE_EDGES)).getInt(node));
-			parent.put(node, ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_PARENT)).get(node));
-			((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ADJ_LISTS)).get(node)).retainAll((EdgeList<E, V>) adjMap.get(node));
+			numNotVisitedTreeEdges.setInt(node, numTreeEdges.getInt(node));
+			parent.put(node, parentOfDFS.get(node));
+			((EdgeList<E, V>) adjLists.get(node)).retainAll((EdgeList<E, V>) adjMap.get(node));
 		}
 		
 		
@@ -109,7 +127,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	@Override
 	public void start(V root) {
 		dfsRoot = root;
-		tStack.push(EOS);
+		tStack.pushEOS();
 		super.start(root);
 		
 		if (showDebugInformation) System.out.println("Splitting off last component...");
@@ -122,13 +140,13 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	@Override
 	protected void preTraverse(E e, V w, boolean treeEdge) {
 		super.preTraverse(e, w, treeEdge);
-		if (showDebugInformation) System.out.println("preTraverse: " + e + " is tree abs: " + treeEdge + " startsPath: " + ((EdgeMap<E, V>) meta.getMetaInfo(MetaInfo.DFS_STARTS_NEW_PATH)).getBool(e));
+		if (showDebugInformation) System.out.println("preTraverse: " + e + " is tree abs: " + treeEdge + " startsPath: " + startsNewPath.getBool(e));
 		V v = e.getOtherVertex(w);
 		// decrease number of not yet visited tree edges counter
-		numNotVisitedTreeEdges.put(v, numNotVisitedTreeEdges.getInt(v)-1);
+		numNotVisitedTreeEdges.setInt(v, numNotVisitedTreeEdges.getInt(v)-1);
 		
 		// if abs starts a new path update TSTACK
-		if (((EdgeMap<E, V>) meta.getMetaInfo(MetaInfo.DFS_STARTS_NEW_PATH)).getBool(e)){
+		if (startsNewPath.getBool(e)){
 			if (showDebugInformation) System.out.println("Traversing first abs "+e+". Tree abs: "+treeEdge);
 			updateTStack(v, w, treeEdge);
 		}
@@ -183,12 +201,11 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		
 		// if abs starts a path remove all triples on TSTACK
 		// down to an including EOS
-		if (((EdgeMap<E, V>) meta.getMetaInfo(MetaInfo.DFS_STARTS_NEW_PATH)).getBool(e)) {
-			while ((!tStack.isEmpty()) && (EOS != tStack.peek())) {
-				TSItem removedItem = (TSItem)tStack.pop();
-				if (showDebugInformation) System.out.println("removed item ("+removedItem.numH+
-						","+removedItem.numA+","+removedItem.numB+
-						") from TSTACK (segment finished)");
+		if (startsNewPath.getBool(e)) {
+			while ((!tStack.isEmpty()) && !tStack.isEOS(tStack.top())) {
+				int removedItem = tStack.pop();
+				if (showDebugInformation) System.out.println("removed item "+tStack.toString(removedItem)+
+						" from TSTACK (segment finished)");
 			}
 			if (!tStack.isEmpty()) {
 				// remove EOS
@@ -200,13 +217,13 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		
 		if (!tStack.isEmpty()) {
 			// check high point condition
-			TSItem i = (TSItem) tStack.peek();
+			int i = tStack.top();
 			int highV = getHNum(v);
-			while ((i != EOS) && (i.a != v) && (i.b != v) && (highV > i.numH)) {
-				if (showDebugInformation) System.out.println("removed item ("+i.numH+
-						","+i.numA+","+i.numB+") from TSTACK (high-point condition at "+getNum(v)+")");
+			while ((!tStack.isEOS(i)) && (tStack.a(i) != v) && (tStack.b(i) != v) && (highV > tStack.h(i))) {
+				if (showDebugInformation) System.out.println("removed item "+tStack.toString(i)+
+						" from TSTACK (high-point condition at "+getNum(v)+")");
 				tStack.pop();
-				i = (TSItem) tStack.peek();
+				i = tStack.top();
 			}
 		}
 	}
@@ -224,57 +241,51 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @param isTreeEdge	true if the currently traversed abs is a tree abs, false otherwise
 	 */
 	protected void updateTStack(V v, V w, boolean isTreeEdge) {
-		TSItem lastRemoved = null;
-		TSItem itemToPush;
+		int lastRemoved = TripleStack.NONE;
+		int itemToPush;
 		int y = -1;
 		// tree abs
 		if (isTreeEdge) {
-			while ((!tStack.isEmpty()) && (tStack.peek() != EOS) &&
-					(((TSItem) tStack.peek()).numA > getL1Num(w))
+			while ((!tStack.isEmpty()) && !tStack.isEOS(tStack.top()) &&
+					(tStack.numA(tStack.top()) > getL1Num(w))
 			) {
-				lastRemoved = (TSItem) tStack.pop();
-				if (showDebugInformation) System.out.println("removed item ("+lastRemoved.numH+
-						","+lastRemoved.numA+","+lastRemoved.numB+") from TSTACK");
-				if (lastRemoved.numH > y) {
-					y = lastRemoved.numH;
+				lastRemoved = tStack.pop();
+				if (showDebugInformation) System.out.println("removed item "+tStack.toString(lastRemoved)+" from TSTACK");
+				if (tStack.h(lastRemoved) > y) {
+					y = tStack.h(lastRemoved);
 				}
 			}
-			if (lastRemoved == null) {
-				itemToPush = new TSItem(
+			if (lastRemoved == TripleStack.NONE) {
+				itemToPush = this.pushTriple(
 						getNum(w)+ getNumDesc(w)-1,
-						(V) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX)).get(w),
+						(V) lowpt1Vertex.get(w),
 						v);
 			} else {
-				itemToPush = new TSItem(
+				itemToPush = this.pushTriple(
 						Math.max(y, getNum(w) + getNumDesc(w)-1),
-								(V) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX)).get(w),
-								lastRemoved.b);
+								(V) lowpt1Vertex.get(w),
+								tStack.b(lastRemoved));
 			}
-			tStack.push(itemToPush);
-			if (showDebugInformation) System.out.println("pushed item ("+itemToPush.numH+
-					","+itemToPush.numA+","+itemToPush.numB+") on TSTACK");
-			tStack.push(EOS);
+			if (showDebugInformation) System.out.println("pushed item "+tStack.toString(itemToPush)+" on TSTACK");
+			tStack.pushEOS();
 			if (showDebugInformation) System.out.println("pushed EOS on TSTACK");
 		// back abs
 		} else {
-			while ((!tStack.isEmpty()) && (tStack.peek() != EOS) &&
-					(((TSItem) tStack.peek()).numA > getNum(w))
+			while ((!tStack.isEmpty()) && !tStack.isEOS(tStack.top()) &&
+					(tStack.numA(tStack.top()) > getNum(w))
 			) {
-				lastRemoved = (TSItem) tStack.pop();
-				if (showDebugInformation) System.out.println("removed item ("+lastRemoved.numH+
-						","+lastRemoved.numA+","+lastRemoved.numB+") from TSTACK");
-				if (lastRemoved.numH > y) {
-					y = lastRemoved.numH;
+				lastRemoved = tStack.pop();
+				if (showDebugInformation) System.out.println("removed item "+tStack.toString(lastRemoved)+" from TSTACK");
+				if (tStack.h(lastRemoved) > y) {
+					y = tStack.h(lastRemoved);
 				}
 			}
-			if (lastRemoved == null) {
-				itemToPush = new TSItem(getNum(v),w,v);
+			if (lastRemoved == TripleStack.NONE) {
+				itemToPush = this.pushTriple(getNum(v),w,v);
 			} else {
-				itemToPush = new TSItem(y,w,lastRemoved.b);
+				itemToPush = this.pushTriple(y,w,tStack.b(lastRemoved));
 			}
-			tStack.push(itemToPush);
-			if (showDebugInformation) System.out.println("pushed item ("+itemToPush.numH+
-					","+itemToPush.numA+","+itemToPush.numB+") on TSTACK");
+			if (showDebugInformation) System.out.println("pushed item "+tStack.toString(itemToPush)+" on TSTACK");
 		}
 	}
 	
@@ -302,7 +313,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 				|| (numNotVisitedTreeEdges.getInt(v) > 0))
 		) {
 			// (v,lowpt1(w)) is a type-1 separation pair
-			V lowpt1W = (V) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_VERTEX)).get(w);
+			V lowpt1W = (V) lowpt1Vertex.get(w);
 			if (showDebugInformation) System.out.println("backtracking over abs "+eBacktrack+
 					", found type-1 separation pair: ("+v+","+lowpt1W+") ");
 			
@@ -384,7 +395,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 				treeArc.put(v, virtualEdge);
 			}
 			
-			((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(v)).add(virtualEdge);//DFS_ADJ_LISTS
+			((AdjacencyList<E, V>) orderedAdj.get(v)).add(virtualEdge);//DFS_ADJ_LISTS
 			makeTreeEdge(virtualEdge, lowpt1W, v);
 			if (showDebugInformation) printEStack();
 		}
@@ -403,27 +414,27 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @param w				the target vertex of eBacktrack
 	 */
 	protected void checkType2(E eBacktrack, V v, V w){
-		TSItem topTriple = null;
+		int topTriple = TripleStack.NONE;
 		if (!tStack.isEmpty()) {
-			topTriple = (TSItem) tStack.peek();
+			topTriple = tStack.top();
 		}
-		EdgeList<E, V> adjOfW = ((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(w));//DFS_ADJ_LISTS
+		AdjacencyList<E, V> adjOfW = ((AdjacencyList<E, V>) orderedAdj.get(w));//DFS_ADJ_LISTS
 		V firstChildOfW = null;
 		if (!adjOfW.isEmpty()) {
 			firstChildOfW = (V) ((E) adjOfW.peek()).getOtherVertex(w);
 		}
-		int edgeCountOfW = ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_COUNT)).getInt(w);
+		int edgeCountOfW = edgeCount.getInt(w);
 		if (showDebugInformation) {
 			System.out.println("checkType2 " + eBacktrack + ": " + v + ", " + w);
 			System.out.println("firstChildOfW: " + firstChildOfW);
-			System.out.println("top triple: " + topTriple);
+			System.out.println("top triple: " + tStack.toString(topTriple));
 			System.out.println("edges of " + w + ": " + edgeCountOfW);//g.getEdges(w).size());
 			//System.out.println("edges of " + w + ": " + g.getEdges(w));
-			System.out.println("meta adj: " + ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(w).toString());//DFS_ADJ_LISTS
+			System.out.println("meta adj: " + orderedAdj.get(w).toString());//DFS_ADJ_LISTS
 		}
 		while ((v != dfsRoot) &&
 				(
-						((topTriple != null) && (topTriple.a == v))
+						((topTriple != TripleStack.NONE) && (tStack.a(topTriple) == v))
 						||
 						((edgeCountOfW == 2) && (firstChildOfW != null)//g.getEdges(w).size()
 								&& (getNum(firstChildOfW) > getNum(w)))				
@@ -433,15 +444,15 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 			
 			EdgeList<E, V> eAB = new EdgeList<E, V>();
 			
-			if ((topTriple.a == v) 
-					&& parent.get(topTriple.b) == topTriple.a) {
+			if ((tStack.a(topTriple) == v) 
+					&& parent.get(tStack.b(topTriple)) == tStack.a(topTriple)) {
 				// (a,b) is no type 2 pair <- no inner vertex !!
-				if (showDebugInformation) System.out.println("("+topTriple.a+","+topTriple.b+") has no inner vertices");
+				if (showDebugInformation) System.out.println("("+tStack.a(topTriple)+","+tStack.b(topTriple)+") has no inner vertices");
 				tStack.pop();
 				if (!tStack.isEmpty()) {
-					topTriple = (TSItem) tStack.peek();
+					topTriple = tStack.top();
 				} else {
-					topTriple = null;
+					topTriple = TripleStack.NONE;
 				}
 			} else {
 				EdgeList<E, V> C = newComponent(new EdgeList<E, V>());
@@ -468,12 +479,12 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 						e = (E) eStack.peek();
 						// added for special case of nested p, in some cases multiple edges were stored on the stack -->
 						/*V b = null;
-						if (topTriple.b != INVALID_NODE)
-							b = topTriple.b;
+						if (tStack.b(topTriple) != INVALID_NODE)
+							b = tStack.b(topTriple);
 						else
 							b = firstChildOfW;*/
 						// <--
-						if (isSameEdge(e, v, topTriple.b) || isSameEdge(e, v, firstChildOfW)) {//topTriple.b
+						if (isSameEdge(e, v, tStack.b(topTriple)) || isSameEdge(e, v, firstChildOfW)) {//tStack.b(topTriple)
 							eAB.add((E) eStack.pop());
 						}
 					}
@@ -481,22 +492,22 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 				} else {
 					// complex case, (h,a,b) represents type 2 pair
 					if (showDebugInformation) System.out.println("backtracking over abs "+eBacktrack+
-							", found type-2 separation pair: ("+v+","+topTriple.b+")");
-					topTriple = (TSItem)tStack.pop();
+							", found type-2 separation pair: ("+v+","+tStack.b(topTriple)+")");
+					topTriple = tStack.pop();
 					E e = null;
 					if (!eStack.isEmpty()) {
 						e = (E) eStack.peek();
 					}
 					if (showDebugInformation) System.out.println("removing edges with endpoints between "
-					+topTriple.numA+" and "+topTriple.numH);
+					+tStack.numA(topTriple)+" and "+tStack.h(topTriple));
 					while ((e != null) && 
-							(topTriple.numA <= getNum(e.getV1())) 
-							&& (topTriple.numA <= getNum(e.getV2()))
-							&& (getNum(e.getV1()) <= topTriple.numH)
-							&& (getNum(e.getV2()) <= topTriple.numH)) {
+							(tStack.numA(topTriple) <= getNum(e.getV1())) 
+							&& (tStack.numA(topTriple) <= getNum(e.getV2()))
+							&& (getNum(e.getV1()) <= tStack.h(topTriple))
+							&& (getNum(e.getV2()) <= tStack.h(topTriple))) {
 						
 						e = (E) eStack.pop();
-						if (isSameEdge(e, topTriple.a, topTriple.b)) {
+						if (isSameEdge(e, tStack.a(topTriple), tStack.b(topTriple))) {
 							eAB.add(e);
 						} else {
 							C = addToComponent(new EdgeList<E, V>(e), C);
@@ -509,7 +520,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 						}
 					}
 					if (showDebugInformation) System.out.println("...Split component removed");
-					virtEdge = newVirtualEdge(C, topTriple.a, topTriple.b);
+					virtEdge = newVirtualEdge(C, tStack.a(topTriple), tStack.b(topTriple));
 					// assign virtual abs
 					for(E edge:C) {
 						assignedVirtEdge.put(edge, virtEdge);
@@ -522,11 +533,11 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 					C = newComponent(eAB);
 					V b = null;
 					// additional workaround, because in some cases multiple edges were stored on the stack
-					if (topTriple.b == INVALID_NODE || (firstChildOfW != null && isSameEdge(eAB.peek(), v, firstChildOfW)))
+					if (tStack.b(topTriple) == INVALID_NODE || (firstChildOfW != null && isSameEdge(eAB.peek(), v, firstChildOfW)))
 						b = firstChildOfW;
 					else
-						b = topTriple.b;
-					virtEdge = newVirtualEdge(C, v, b);//topTriple.b
+						b = tStack.b(topTriple);
+					virtEdge = newVirtualEdge(C, v, b);//tStack.b(topTriple)
 					if (showDebugInformation) System.out.println("multiple edges found at "+virtEdge);
 					// assign virtual abs
 					for(E edge:C) {
@@ -541,15 +552,15 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 				if (showDebugInformation) System.out.println("continuing checking ("+v+","+w+")");
 				
 				if (!tStack.isEmpty()) {
-					topTriple = (TSItem) tStack.peek();
+					topTriple = tStack.top();
 				} else {
-					topTriple = null;
+					topTriple = TripleStack.NONE;
 				}
-				adjOfW = ((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(w));//DFS_ADJ_LISTS
+				adjOfW = ((AdjacencyList<E, V>) orderedAdj.get(w));//DFS_ADJ_LISTS
 				if (!adjOfW.isEmpty()) {
 					firstChildOfW = (V) ((E) adjOfW.peek()).getOtherVertex(w);
 				}
-				edgeCountOfW = ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_COUNT)).getInt(w);
+				edgeCountOfW = edgeCount.getInt(w);
 			}
 			
 			
@@ -596,7 +607,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		for (E e : edges){
 			// remove abs from adjacency list
 			// should be last element by imposed ordering
-			EdgeList<E, V> adj = ((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(((E) e).getV1()));//DFS_ADJ_LISTS
+			AdjacencyList<E, V> adj = ((AdjacencyList<E, V>) orderedAdj.get(((E) e).getV1()));//DFS_ADJ_LISTS
 			if (!adj.isEmpty()) {
 				if (showDebugInformation) System.out.println("Remove abs adjList of " + e.getV1() +": " + adj);
 				boolean e2 = adj.remove(e);//adj.remove(adj.size() - 1); //popLast();
@@ -606,7 +617,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 				g.removeEdge((E) e);
 				updateEdgeCount(e.getV1(), -1);
 				updateEdgeCount(e.getV2(), -1);
-				isHidden.put(e, true);
+				isHidden.setBool(e, true);
 			} catch (Exception ex) {
 				ex.printStackTrace();
 			}
@@ -627,16 +638,15 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		E virtualEdge = (E) ((TCSkeleton<E,V>) g).addVirtualEdge(v, w);
 		updateEdgeCount(v, 1);
 		updateEdgeCount(w, 1);
-		virtualEdge.setId(UUID.randomUUID().toString());
 		if (showDebugInformation) System.out.println("newVirtualEdge " + v + "; " + w + ": " + virtualEdge);
-		virtEdge.put(virtualEdge, true);
+		virtEdge.setBool(virtualEdge, true);
 		component.add(0, virtualEdge);  
 		// update adjacency list
-		if (showDebugInformation) System.out.println(((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(v)));//DFS_ADJ_LISTS
-		((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(v)).add(virtualEdge);//DFS_ADJ_LISTS
+		if (showDebugInformation) System.out.println(((AdjacencyList<E, V>) orderedAdj.get(v)));//DFS_ADJ_LISTS
+		((AdjacencyList<E, V>) orderedAdj.get(v)).add(virtualEdge);//DFS_ADJ_LISTS
 		if (showDebugInformation) {
-			System.out.println(((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(v)));//DFS_ADJ_LISTS
-			System.out.println(((EdgeList<E, V>) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_ORDERED_ADJ_LISTS)).get(v)).peek());//DFS_ADJ_LISTS
+			System.out.println(((AdjacencyList<E, V>) orderedAdj.get(v)));//DFS_ADJ_LISTS
+			System.out.println(((AdjacencyList<E, V>) orderedAdj.get(v)).peek());//DFS_ADJ_LISTS
 		}
 		
 		return virtualEdge;
@@ -653,12 +663,11 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	protected void makeTreeEdge(E e, V v, V w){
 		if (showDebugInformation) System.out.println("makeTreeEdge: " + e + "; " + v + "; " + w);
 		e.setVertices(v, w);
-		edgeType.put(e, TREE_EDGE);
+		edgeType.setInt(e, TREE_EDGE);
 	}
 	
 	private void updateEdgeCount(V node, int i) {
-		((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_COUNT)).put(node, 
-				((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_EDGE_COUNT)).getInt(node) + i);
+		edgeCount.setInt(node, edgeCount.getInt(node) + i);
 	}
 	
 	/**
@@ -667,7 +676,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @return
 	 */
 	private int getNum(V node){
-		return ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_V)).getInt(node);
+		return numV.getInt(node);
 	}
 	
 	/**
@@ -676,7 +685,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @return
 	 */
 	private int getL1Num(V node){
-		return (Integer) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT1_NUM)).get(node);
+		return lowpt1Num.getInt(node);
 	}
 	
 	/**
@@ -685,7 +694,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @return
 	 */
 	private int getL2Num(V node){
-		return (Integer) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_LOWPT2_NUM)).get(node);
+		return lowpt2Num.getInt(node);
 	}
 	
 	/**
@@ -694,7 +703,7 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	 * @return
 	 */
 	private int getNumDesc(V node){
-		return (Integer) ((NodeMap<V>) meta.getMetaInfo(MetaInfo.DFS_NUM_DESC)).get(node);
+		return numDesc.getInt(node);
 	}
 	
 	/**
@@ -729,15 +738,21 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 		return false;
 	}
 	
+	/**
+	 * pushes the triple (h,a,b) on TSTACK
+	 * @return the position of the triple
+	 */
+	private int pushTriple(int numH, V a, V b){
+		return tStack.push(numH, a, getNum(a), b, getNum(b));
+	}
+	
 	/**
 	 * prints the content of TSTACK
 	 */
 	private void printTStack() {
 		System.out.print("TStack contains: ");
-		TSItem t = null;
-		for(Object o : tStack) {
-			t = (TSItem) o;
-			System.out.print(t+" ");
+		for(int i = 0; i <= tStack.top(); i++) {
+			System.out.print(tStack.toString(i)+" ");
 		}
 		System.out.print("\n");
 	}
@@ -757,40 +772,93 @@ public class SplitCompDFS<E extends IEdge<V>, V extends IVertex> extends Abstrac
 	
 	
 	/**
-	 * Inner class implementing the items to be pushed on the TSTACK 
-	 * data structure. A TSITEM contains the two vertices of a possible 
+	 * The TSTACK data structure. An item contains the two vertices of a possible 
 	 * type-2 pair, their numbers, and the highest number occurring in 
-	 * the corresponding split component.
-	 * 
-	 * @author Martin Mader
-	 *
+	 * the corresponding split component. The items are kept in parallel arrays
+	 * and addressed by their position, EOS items are flagged.
+	 * The values of a popped item stay readable until the next push.
 	 */
-	protected class TSItem{
-		private V a = (V) INVALID_NODE;
-		private V b = (V) INVALID_NODE;
-		private int numH = -1;
-		private int numA = -1;
-		private int numB = -1;
+	private static final class TripleStack<V> {
+		private static final int NONE = -1;
 		
-		private TSItem(){
-			
+		private int[] numH = new int[16];
+		private int[] numA = new int[16];
+		private int[] numB = new int[16];
+		private Object[] a = new Object[16];
+		private Object[] b = new Object[16];
+		private boolean[] eos = new boolean[16];
+		private int size = 0;
+		
+		private int push(int h, V va, int na, V vb, int nb) {
+			if (size == eos.length) {
+				int capacity = 2 * size;
+				numH = Arrays.copyOf(numH, capacity);
+				numA = Arrays.copyOf(numA, capacity);
+				numB = Arrays.copyOf(numB, capacity);
+				a = Arrays.copyOf(a, capacity);
+				b = Arrays.copyOf(b, capacity);
+				eos = Arrays.copyOf(eos, capacity);
+			}
+			numH[size] = h;
+			numA[size] = na;
+			numB[size] = nb;
+			a[size] = va;
+			b[size] = vb;
+			eos[size] = false;
+			return size++;
+		}
+		
+		private void pushEOS() {
+			int i = this.push(-1, null, -1, null, -1);
+			eos[i] = true;
+		}
+		
+		/**
+		 * @return the position of the removed item.
+		 */
+		private int pop() {
+			if (size == 0)
+				throw new IllegalStateException("TSTACK is empty.");
+			return --size;
+		}
+		
+		/**
+		 * @return the position of the topmost item or NONE if TSTACK is empty.
+		 */
+		private int top() {
+			return size - 1;
 		}
 		
-		private TSItem(int numH, V a, V b){
-			this.a = a;
-			this.b = b;
-			this.numH = numH;
-			numA = getNum(a);
-			numB = getNum(b);
+		private boolean isEmpty() {
+			return size == 0;
 		}
 		
-		public String toString(){
-			if(this == EOS) return "EOS";
-			else return "("+numH+","+numA+","+numB+")";
+		private boolean isEOS(int i) {
+			return eos[i];
+		}
+		
+		private int h(int i) {
+			return numH[i];
+		}
+		
+		private int numA(int i) {
+			return numA[i];
+		}
+		
+		@SuppressWarnings("unchecked")
+		private V a(int i) {
+			return (V) a[i];
+		}
+		
+		@SuppressWarnings("unchecked")
+		private V b(int i) {
+			return (V) b[i];
+		}
+		
+		private String toString(int i) {
+			if (i == NONE) return "null";
+			if (eos[i]) return "EOS";
+			return "("+numH[i]+","+numA[i]+","+numB[i]+")";
 		}
 	}
-	
-	
-
 }
-
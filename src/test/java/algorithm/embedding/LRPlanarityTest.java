@@ -0,0 +1,158 @@
+package main.java.algorithm.embedding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LRPlanarityTest {
+
+    @Test
+    public void completeGraphOnFourVerticesIsPlanar() {
+        assertPlanarEmbedding(4, complete(4));
+    }
+
+    @Test
+    public void completeGraphOnFiveVerticesIsNotPlanar() {
+        assertNotPlanar(5, complete(5));
+    }
+
+    @Test
+    public void completeGraphOnFiveVerticesWithoutOneEdgeIsPlanar() {
+        int[][] edges = complete(5);
+        assertPlanarEmbedding(5, new int[][]{Arrays.copyOf(edges[0], edges[0].length - 1),
+                Arrays.copyOf(edges[1], edges[1].length - 1)});
+    }
+
+    @Test
+    public void completeBipartiteGraphOnThreeAndThreeVerticesIsNotPlanar() {
+        List<int[]> edges = new ArrayList<>();
+        for(int u = 0; u < 3; u++)
+            for(int v = 3; v < 6; v++)
+                edges.add(new int[]{u, v});
+        assertNotPlanar(6, toArrays(edges));
+    }
+
+    @Test
+    public void petersenGraphIsNotPlanar() {
+        List<int[]> edges = new ArrayList<>();
+        for(int i = 0; i < 5; i++){
+            edges.add(new int[]{i, (i + 1) % 5});
+            edges.add(new int[]{i, i + 5});
+            edges.add(new int[]{i + 5, (i + 2) % 5 + 5});
+        }
+        assertNotPlanar(10, toArrays(edges));
+    }
+
+    @Test
+    public void triangulatedGridIsPlanar() {
+        int side = 30;
+        List<int[]> edges = new ArrayList<>();
+        for(int x = 0; x < side; x++){
+            for(int y = 0; y < side; y++){
+                if(x + 1 < side)
+                    edges.add(new int[]{x * side + y, (x + 1) * side + y});
+                if(y + 1 < side)
+                    edges.add(new int[]{x * side + y, x * side + y + 1});
+                if(x + 1 < side && y + 1 < side)
+                    edges.add(new int[]{x * side + y, (x + 1) * side + y + 1});
+            }
+        }
+        assertPlanarEmbedding(side * side, toArrays(edges));
+    }
+
+    @Test
+    public void parallelEdgesAndSelfLoopsDoNotChangePlanarity() {
+        int[][] k4 = complete(4);
+        List<int[]> edges = new ArrayList<>();
+        for(int i = 0; i < k4[0].length; i++)
+            edges.add(new int[]{k4[0][i], k4[1][i]});
+        edges.add(new int[]{1, 0});
+        edges.add(new int[]{0, 1});
+        edges.add(new int[]{2, 2});
+        assertPlanarEmbedding(4, toArrays(edges));
+
+        int[][] k5 = complete(5);
+        edges.clear();
+        for(int i = 0; i < k5[0].length; i++)
+            edges.add(new int[]{k5[0][i], k5[1][i]});
+        edges.add(new int[]{3, 4});
+        edges.add(new int[]{0, 0});
+        assertNotPlanar(5, toArrays(edges));
+    }
+
+    @Test
+    public void longPathDoesNotOverflowTheStack() {
+        int vertexCount = 200_000;
+        int[] sources = new int[vertexCount];
+        int[] targets = new int[vertexCount];
+        for(int i = 0; i < vertexCount; i++){
+            sources[i] = i;
+            targets[i] = (i + 1) % vertexCount;
+        }
+        LRPlanarity planarity = new LRPlanarity(vertexCount, sources, targets, true);
+        assertTrue(planarity.isPlanar());
+        assertEquals(2, planarity.getFaces().size());
+    }
+
+
+    private static void assertNotPlanar(int vertexCount, int[][] edges) {
+        LRPlanarity planarity = new LRPlanarity(vertexCount, edges[0], edges[1], true);
+        assertFalse(planarity.isPlanar());
+        assertFalse(planarity.isEmbedded());
+    }
+
+    /**
+     * Checks the embedding of a connected planar graph: every dart leaves its vertex in the rotation of that vertex and
+     * lies on exactly one face, consecutive darts of a face meet and the faces satisfy the Euler formula.
+     */
+    private static void assertPlanarEmbedding(int vertexCount, int[][] edges) {
+        LRPlanarity planarity = new LRPlanarity(vertexCount, edges[0], edges[1], true);
+        assertTrue(planarity.isPlanar());
+        assertTrue(planarity.isEmbedded());
+
+        int edgeCount = edges[0].length;
+        int[] rotationCount = new int[2 * edgeCount];
+        for(int vertex = 0; vertex < vertexCount; vertex++)
+            for(int dart : planarity.getRotation(vertex)){
+                assertEquals(vertex, planarity.getDartSource(dart));
+                rotationCount[dart]++;
+            }
+
+        int[] faceCount = new int[2 * edgeCount];
+        List<int[]> faces = planarity.getFaces();
+        for(int[] face : faces){
+            for(int i = 0; i < face.length; i++){
+                faceCount[face[i]]++;
+                assertEquals(planarity.getDartTarget(face[i]), planarity.getDartSource(face[(i + 1) % face.length]));
+            }
+        }
+        for(int dart = 0; dart < 2 * edgeCount; dart++){
+            assertEquals(1, rotationCount[dart]);
+            assertEquals(1, faceCount[dart]);
+        }
+        assertEquals(edgeCount - vertexCount + 2, faces.size());
+    }
+
+    private static int[][] complete(int vertexCount) {
+        List<int[]> edges = new ArrayList<>();
+        for(int u = 0; u < vertexCount; u++)
+            for(int v = u + 1; v < vertexCount; v++)
+                edges.add(new int[]{u, v});
+        return toArrays(edges);
+    }
+
+    private static int[][] toArrays(List<int[]> edges) {
+        int[][] arrays = new int[2][edges.size()];
+        for(int i = 0; i < edges.size(); i++){
+            arrays[0][i] = edges.get(i)[0];
+            arrays[1][i] = edges.get(i)[1];
+        }
+        return arrays;
+    }
+}
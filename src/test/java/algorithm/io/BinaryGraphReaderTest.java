@@ -0,0 +1,94 @@
+package main.java.algorithm.io;
+
+import main.java.algorithm.LayoutResult;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BinaryGraphReaderTest {
+
+    // the graph has three vertices and two edges, so the label offsets start after the header and the two edge arrays
+    private static final int LABEL_OFFSETS = BinaryGraphFormat.HEADER_BYTES + 2 * 2 * Integer.BYTES;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+
+    @Before
+    public void writeGraph() throws IOException {
+        MultiDirectedGraph graph = new MultiDirectedGraph();
+        List<Vertex> vertices = new ArrayList<>();
+        for(String label : new String[]{"s", "ab", "t"})
+            vertices.add(graph.addVertex(new Vertex(label)));
+        List<DirectedEdge> edges = new ArrayList<>();
+        edges.add(graph.addEdge(vertices.get(0), vertices.get(1)));
+        edges.add(graph.addEdge(vertices.get(1), vertices.get(2)));
+
+        file = folder.newFile("graph.ldg");
+        new BinaryGraphWriter(vertices, edges, (LayoutResult) null).write(file);
+    }
+
+    @Test
+    public void readsLabelsAndEdges() throws IOException {
+        BinaryGraphReader reader = new BinaryGraphReader(file);
+        assertEquals(3, reader.getVertexCount());
+        assertEquals(2, reader.getEdgeCount());
+        assertEquals("ab", reader.getLabel(1));
+        assertEquals("ab", reader.getVertices().get(1).getName());
+        assertEquals(reader.getVertices().get(2), reader.getEdges().get(1).getTarget());
+        assertFalse(reader.hasLayout());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsNegativeLabelOffset() throws IOException {
+        writeInt(LABEL_OFFSETS + Integer.BYTES, -5);
+        new BinaryGraphReader(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsDecreasingLabelOffsets() throws IOException {
+        writeInt(LABEL_OFFSETS + 2 * Integer.BYTES, 0);
+        new BinaryGraphReader(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsLabelsBeyondTheFile() throws IOException {
+        writeInt(LABEL_OFFSETS + 3 * Integer.BYTES, Integer.MAX_VALUE);
+        new BinaryGraphReader(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsEdgeToMissingVertex() throws IOException {
+        writeInt(BinaryGraphFormat.HEADER_BYTES, 3);
+        new BinaryGraphReader(file);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void layoutOfFileWithoutLayoutIsIllegal() throws IOException {
+        new BinaryGraphReader(file).getXCoordinates();
+    }
+
+
+    private void writeInt(int position, int value) throws IOException {
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.seek(position);
+            // the format is little endian
+            access.writeInt(Integer.reverseBytes(value));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package main.java.algorithm.utils;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class GraphFingerprintTest {
+
+    /**
+     * A graph given by its vertex labels and edges in a fixed order.
+     */
+    private static class Fixture {
+
+        private final List<Vertex> vertices = new ArrayList<>();
+        private final List<DirectedEdge> edges = new ArrayList<>();
+        private final MultiDirectedGraph graph = new MultiDirectedGraph();
+
+        private Fixture(String... labels){
+            for(String label : labels)
+                vertices.add(graph.addVertex(new Vertex(label)));
+        }
+
+        private Fixture edge(int source, int target){
+            edges.add(graph.addEdge(vertices.get(source), vertices.get(target)));
+            return this;
+        }
+
+        private GraphFingerprint fingerprint(){
+            return GraphFingerprint.of(vertices, edges);
+        }
+    }
+
+    @Test
+    public void sameStructureAndLabelsGiveEqualFingerprints() {
+        GraphFingerprint first = new Fixture("s", "a", "t").edge(0, 1).edge(1, 2).edge(0, 2).fingerprint();
+        GraphFingerprint second = new Fixture("s", "a", "t").edge(0, 1).edge(1, 2).edge(0, 2).fingerprint();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first.toString(), second.toString());
+        assertEquals(3, first.getVertexCount());
+        assertEquals(3, first.getEdgeCount());
+    }
+
+    @Test
+    public void differentLabelsGiveDifferentFingerprints() {
+        GraphFingerprint first = new Fixture("s", "a", "t").edge(0, 1).edge(1, 2).fingerprint();
+        assertNotEquals(first, new Fixture("s", "b", "t").edge(0, 1).edge(1, 2).fingerprint());
+        // the label boundaries are part of the fingerprint
+        assertNotEquals(new Fixture("ab", "c").edge(0, 1).fingerprint(), new Fixture("a", "bc").edge(0, 1).fingerprint());
+        assertNotEquals(new Fixture((String) null).fingerprint(), new Fixture("").fingerprint());
+    }
+
+    @Test
+    public void differentDirectionOrOrderGiveDifferentFingerprints() {
+        GraphFingerprint first = new Fixture("s", "a", "t").edge(0, 1).edge(1, 2).fingerprint();
+        assertNotEquals(first, new Fixture("s", "a", "t").edge(1, 0).edge(1, 2).fingerprint());
+        assertNotEquals(first, new Fixture("s", "a", "t").edge(1, 2).edge(0, 1).fingerprint());
+
+        Fixture reordered = new Fixture("s", "a", "t").edge(0, 1).edge(1, 2);
+        Collections.reverse(reordered.vertices);
+        assertNotEquals(first, reordered.fingerprint());
+    }
+
+    @Test
+    public void parallelEdgesCount() {
+        assertNotEquals(new Fixture("s", "t").edge(0, 1).fingerprint(), new Fixture("s", "t").edge(0, 1).edge(0, 1).fingerprint());
+    }
+
+    @Test
+    public void longLabelsSpanSeveralBuffers() {
+        char[] label = new char[20_000];
+        Arrays.fill(label, 'x');
+        GraphFingerprint first = new Fixture(new String(label), "t").edge(0, 1).fingerprint();
+        label[19_999] = 'y';
+        assertNotEquals(first, new Fixture(new String(label), "t").edge(0, 1).fingerprint());
+        label[19_999] = 'x';
+        assertEquals(first, new Fixture(new String(label), "t").edge(0, 1).fingerprint());
+    }
+}
@@ -0,0 +1,116 @@
+package main.java.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Warm-up and measurement shared by the benchmarks. A task is run for warm-up first and then measured, the times are
+ * returned in ascending order, so the median and the minimum can be read directly.
+ */
+public class Benchmark {
+
+    public interface Task {
+        Object run() throws Exception;
+    }
+
+    // results of the tasks, so their work cannot be dropped as dead code
+    private static volatile Object sink;
+
+    private final int warmUpIterations;
+    private final int measuredIterations;
+
+
+    public Benchmark(int warmUpIterations, int measuredIterations){
+        if(warmUpIterations < 0 || measuredIterations < 1)
+            throw new IllegalArgumentException("The benchmark needs at least one measured iteration and a non-negative number of warm-up iterations.");
+        this.warmUpIterations = warmUpIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+
+    /**
+     * @return the measured times of the task in milliseconds in ascending order.
+     */
+    public double[] measure(Task task) throws Exception {
+
+        for(int i = 0; i < warmUpIterations; i++)
+            sink = task.run();
+
+        double[] samples = new double[measuredIterations];
+        for(int i = 0; i < measuredIterations; i++){
+            long start = System.nanoTime();
+            sink = task.run();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    public static double median(double[] samples){
+        return samples[samples.length / 2];
+    }
+
+
+
+    /**
+     * Command line of a benchmark: {@code -w warmUpIterations}, {@code -n measuredIterations}, further options that
+     * take one value each and the remaining positional arguments.
+     */
+    public static class Arguments {
+
+        private final Map<String, String> options = new HashMap<>();
+        private final List<String> positional = new ArrayList<>();
+
+        /**
+         * @param optionNames the options the benchmark takes besides -w and -n.
+         */
+        public Arguments(String[] args, String... optionNames){
+            List<String> names = new ArrayList<>(Arrays.asList(optionNames));
+            names.add("-w");
+            names.add("-n");
+            for(int i = 0; i < args.length; i++){
+                if(names.contains(args[i])){
+                    if(i + 1 == args.length)
+                        throw new IllegalArgumentException("The option " + args[i] + " needs a value.");
+                    options.put(args[i], args[++i]);
+                } else {
+                    positional.add(args[i]);
+                }
+            }
+        }
+
+        public Benchmark benchmark(int defaultWarmUpIterations, int defaultMeasuredIterations){
+            return new Benchmark(getInt("-w", defaultWarmUpIterations), getInt("-n", defaultMeasuredIterations));
+        }
+
+        public int getInt(String option, int defaultValue){
+            String value = options.get(option);
+            return value == null ? defaultValue : Integer.parseInt(value);
+        }
+
+        public long getLong(String option, long defaultValue){
+            String value = options.get(option);
+            return value == null ? defaultValue : Long.parseLong(value);
+        }
+
+        public List<String> getPositional(){
+            return positional;
+        }
+
+        /**
+         * @return the positional arguments as sizes, or the default sizes if there are none.
+         */
+        public List<Integer> getSizes(int... defaultSizes){
+            List<Integer> sizes = new ArrayList<>();
+            for(String argument : positional)
+                sizes.add(Integer.parseInt(argument));
+            if(sizes.isEmpty())
+                for(int size : defaultSizes)
+                    sizes.add(size);
+            return sizes;
+        }
+    }
+}
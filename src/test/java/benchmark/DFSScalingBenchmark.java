@@ -0,0 +1,104 @@
+package main.java.benchmark;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.container.EdgeList;
+import main.java.decomposition.spqrTree.container.MetaInfoContainer;
+import main.java.decomposition.spqrTree.container.NodeMap;
+import main.java.decomposition.spqrTree.dfs.AbstractDFS;
+
+import java.util.Locale;
+
+/**
+ * Measures the {@link AbstractDFS} engine of the decomposition on path-like graphs, i.e. cycles whose DFS tree is a
+ * single path as deep as the graph is large. This is the shape of long series chains. Every run happens on a thread
+ * with the given stack size, so a DFS whose depth is bound by the stack shows up as a stack overflow.
+ *
+ * Usage: DFSScalingBenchmark [-w warmUpIterations] [-n measuredIterations] [-x stackKiB] vertices...
+ */
+public class DFSScalingBenchmark {
+
+    private static final int DEFAULT_STACK_KIB = 512;
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+
+    private final Benchmark benchmark;
+    private final long stackBytes;
+
+
+    public DFSScalingBenchmark(Benchmark benchmark, int stackKiB){
+        if(stackKiB < 1)
+            throw new IllegalArgumentException("The benchmark needs a positive stack size.");
+        this.benchmark = benchmark;
+        this.stackBytes = stackKiB * 1024L;
+    }
+
+
+    public static void main(String[] args) throws InterruptedException {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args, "-x");
+        DFSScalingBenchmark benchmark = new DFSScalingBenchmark(arguments.benchmark(2, 5), arguments.getInt("-x", DEFAULT_STACK_KIB));
+        System.out.println(String.format(Locale.ROOT, "%12s %10s %10s %14s", "vertices", "median ms", "min ms", "ns per vertex"));
+        for(int size : arguments.getSizes(DEFAULT_SIZES))
+            benchmark.run(size);
+    }
+
+
+    /**
+     * Measures the DFS on a cycle with the given number of vertices and prints one line.
+     */
+    public void run(int vertexCount) throws InterruptedException {
+
+        double[][] samples = new double[1][];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                samples[0] = measure(vertexCount);
+            } catch (StackOverflowError | Exception exception) {
+                failure[0] = exception;
+            }
+        }, "dfs-benchmark", stackBytes);
+        thread.start();
+        thread.join();
+
+        if(failure[0] != null){
+            System.out.println(String.format(Locale.ROOT, "%12d %s", vertexCount, failure[0].getClass().getSimpleName()));
+        } else {
+            double median = Benchmark.median(samples[0]);
+            System.out.println(String.format(Locale.ROOT, "%12d %10.3f %10.3f %14.1f",
+                    vertexCount, median, samples[0][0], median * 1_000_000.0 / vertexCount));
+        }
+    }
+
+    private double[] measure(int vertexCount) throws Exception {
+
+        if(vertexCount < 3)
+            throw new IllegalArgumentException("A cycle needs at least three vertices.");
+
+        MultiDirectedGraph graph = new MultiDirectedGraph();
+        Vertex[] vertices = new Vertex[vertexCount];
+        for(int i = 0; i < vertexCount; i++){
+            vertices[i] = new Vertex();
+            graph.addVertex(vertices[i]);
+        }
+        NodeMap<Vertex> adjacency = new NodeMap<>();
+        for(Vertex vertex : vertices)
+            adjacency.put(vertex, new EdgeList<DirectedEdge, Vertex>());
+        for(int i = 0; i < vertexCount; i++)
+            addToAdjacency(adjacency, graph.addEdge(vertices[i], vertices[(i + 1) % vertexCount]));
+
+        return benchmark.measure(() -> search(graph, adjacency, vertices[0]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addToAdjacency(NodeMap<Vertex> adjacency, DirectedEdge edge) {
+        ((EdgeList<DirectedEdge, Vertex>) adjacency.get(edge.getSource())).add(edge);
+        ((EdgeList<DirectedEdge, Vertex>) adjacency.get(edge.getTarget())).add(edge);
+    }
+
+    private static AbstractDFS<DirectedEdge, Vertex> search(MultiDirectedGraph graph, NodeMap<Vertex> adjacency, Vertex root) {
+        AbstractDFS<DirectedEdge, Vertex> dfs = new AbstractDFS<DirectedEdge, Vertex>(graph, new MetaInfoContainer(), adjacency);
+        dfs.start(root);
+        return dfs;
+    }
+}
@@ -0,0 +1,113 @@
+package main.java.benchmark;
+
+import main.java.decomposition.hyperGraph.GObject;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Measures the cost of the identity of graph objects: creating objects and putting them into and looking them up in a
+ * {@link HashMap}. The sequential identity of {@link GObject} is compared with the former identity by random UUID
+ * strings, which is rebuilt here as reference.
+ *
+ * Usage: IdentityBenchmark [-w warmUpIterations] [-n measuredIterations] [-s objects]
+ */
+public class IdentityBenchmark {
+
+    /**
+     * Object with the former identity, a random UUID string compared by equals and hashCode of the string.
+     */
+    private static final class UUIDObject {
+
+        private final String id = UUID.randomUUID().toString();
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) return true;
+            if(!(obj instanceof UUIDObject)) return false;
+            return id.equals(((UUIDObject) obj).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+
+    private static final String[] TASKS = {"create UUID", "create sequential", "map UUID", "map sequential"};
+
+    private final Benchmark benchmark;
+
+
+    public IdentityBenchmark(Benchmark benchmark){
+        this.benchmark = benchmark;
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args, "-s");
+        if(!arguments.getPositional().isEmpty()){
+            System.err.println("Usage: IdentityBenchmark [-w warmUpIterations] [-n measuredIterations] [-s objects]");
+            System.exit(2);
+        }
+
+        new IdentityBenchmark(arguments.benchmark(5, 20)).run(arguments.getInt("-s", 100_000));
+    }
+
+
+    /**
+     * Measures all tasks on the given number of objects and prints one line per task.
+     */
+    public void run(int objects) throws Exception {
+
+        UUIDObject[] uuidObjects = new UUIDObject[objects];
+        Vertex[] vertices = new Vertex[objects];
+        for(int i = 0; i < objects; i++){
+            uuidObjects[i] = new UUIDObject();
+            vertices[i] = new Vertex();
+        }
+
+        Benchmark.Task[] tasks = {
+                () -> {
+                    UUIDObject[] created = new UUIDObject[objects];
+                    for(int i = 0; i < objects; i++)
+                        created[i] = new UUIDObject();
+                    return created;
+                },
+                () -> {
+                    // a vertex is numbered when it is first hashed, so the number is drawn here as well
+                    Vertex[] created = new Vertex[objects];
+                    for(int i = 0; i < objects; i++){
+                        created[i] = new Vertex();
+                        created[i].hashCode();
+                    }
+                    return created;
+                },
+                () -> fillAndLookUp(uuidObjects),
+                () -> fillAndLookUp(vertices)
+        };
+
+        System.out.println(String.format(Locale.ROOT, "%-20s %10s %10s %10s %14s", "task", "objects", "median ms", "min ms", "ns per object"));
+        for(int task = 0; task < tasks.length; task++){
+            double[] samples = benchmark.measure(tasks[task]);
+            double median = Benchmark.median(samples);
+            System.out.println(String.format(Locale.ROOT, "%-20s %10d %10.3f %10.3f %14.1f",
+                    TASKS[task], objects, median, samples[0], median * 1_000_000.0 / objects));
+        }
+    }
+
+    private static Object fillAndLookUp(Object[] keys) {
+
+        Map<Object, Integer> map = new HashMap<>();
+        for(int i = 0; i < keys.length; i++)
+            map.put(keys[i], i);
+        long sum = 0;
+        for(Object key : keys)
+            sum += map.get(key);
+        return sum;
+    }
+}
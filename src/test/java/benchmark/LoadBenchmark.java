@@ -0,0 +1,77 @@
+package main.java.benchmark;
+
+import com.yworks.yfiles.graph.DefaultGraph;
+import com.yworks.yfiles.graph.IGraph;
+import com.yworks.yfiles.graphml.GraphMLIOHandler;
+import main.java.algorithm.io.BinaryGraphReader;
+import main.java.algorithm.io.GraphMLReader;
+import main.java.algorithm.utils.GraphConverter;
+import main.java.application.GraphFormatConverter;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Compares the time to load a graph into the decomposition representation over the three ingestion paths: yFiles
+ * GraphML followed by the {@link GraphConverter}, the streaming {@link GraphMLReader} and the memory mapped
+ * {@link BinaryGraphReader}. Every GraphML file is converted to a temporary binary file first.
+ *
+ * Usage: LoadBenchmark [-w warmUpIterations] [-n measuredIterations] file.graphml...
+ */
+public class LoadBenchmark {
+
+    private static final String[] PATHS = {"yFiles GraphML", "StAX GraphML", "binary mmap"};
+
+    private final Benchmark benchmark;
+
+
+    public LoadBenchmark(Benchmark benchmark){
+        this.benchmark = benchmark;
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args);
+        if(arguments.getPositional().isEmpty()){
+            System.err.println("Usage: LoadBenchmark [-w warmUpIterations] [-n measuredIterations] file.graphml...");
+            System.exit(2);
+        }
+
+        LoadBenchmark benchmark = new LoadBenchmark(arguments.benchmark(5, 20));
+        System.out.println(String.format(Locale.ROOT, "%-40s %-16s %10s %10s %10s", "file", "path", "bytes", "median ms", "min ms"));
+        for(String input : arguments.getPositional())
+            benchmark.run(new File(input));
+    }
+
+
+    /**
+     * Measures all paths on the given GraphML file and prints one line per path.
+     */
+    public void run(File graphML) throws Exception {
+
+        File binary = File.createTempFile("load-benchmark", GraphFormatConverter.BINARY_SUFFIX);
+        try {
+            GraphFormatConverter.toBinary(graphML, binary);
+            Benchmark.Task[] loaders = {
+                    () -> {
+                        IGraph graph = new DefaultGraph();
+                        new GraphMLIOHandler().read(graph, graphML.getPath());
+                        return new GraphConverter(graph);
+                    },
+                    () -> new GraphMLReader(graphML),
+                    () -> new BinaryGraphReader(binary)
+            };
+            File[] files = {graphML, graphML, binary};
+
+            for(int path = 0; path < loaders.length; path++){
+                double[] samples = benchmark.measure(loaders[path]);
+                System.out.println(String.format(Locale.ROOT, "%-40s %-16s %10d %10.3f %10.3f",
+                        graphML.getName(), PATHS[path], files[path].length(), Benchmark.median(samples), samples[0]));
+            }
+        } finally {
+            if(!binary.delete())
+                binary.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package main.java.benchmark;
+
+import com.yworks.yfiles.algorithms.Dart;
+import com.yworks.yfiles.algorithms.Edge;
+import com.yworks.yfiles.algorithms.Graph;
+import com.yworks.yfiles.algorithms.Node;
+import com.yworks.yfiles.algorithms.PlanarEmbedding;
+import main.java.algorithm.embedding.RNodeEmbedding;
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the embedding of R-Node skeletons by {@link RNodeEmbedding} with the former yFiles path, which converted the
+ * skeleton to a yFiles {@link Graph}, ran {@link PlanarEmbedding} and mapped the rotations and faces back. Both are
+ * measured on the same skeletons: square grids with a random diagonal in every cell, whose edges lead right and up from
+ * the lower left to the upper right corner. As in {@link main.java.algorithm.typeDetermination.RNodeSkeleton}, a vertex
+ * s* is connected to both corners, so they bound the outer face.
+ *
+ * Usage: RNodeEmbeddingBenchmark [-w warmUpIterations] [-n measuredIterations] [-s seed] vertices...
+ */
+public class RNodeEmbeddingBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100, 1_000, 10_000, 100_000};
+
+    private final Benchmark benchmark;
+    private final long seed;
+
+
+    public RNodeEmbeddingBenchmark(Benchmark benchmark, long seed){
+        this.benchmark = benchmark;
+        this.seed = seed;
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args, "-s");
+        RNodeEmbeddingBenchmark benchmark = new RNodeEmbeddingBenchmark(arguments.benchmark(10, 9), arguments.getLong("-s", 1));
+        System.out.println(String.format(Locale.ROOT, "%10s %10s %12s %12s %12s %12s %10s",
+                "vertices", "edges", "yFiles ms", "yFiles min", "LR ms", "LR min", "speed-up"));
+        for(int size : arguments.getSizes(DEFAULT_SIZES))
+            benchmark.run(size);
+    }
+
+
+    /**
+     * Measures both paths on a grid with about the given number of vertices and prints one line.
+     */
+    public void run(int vertexCount) throws Exception {
+
+        int side = Math.max(2, (int) Math.round(Math.sqrt(vertexCount)));
+        Vertex[] corners = new Vertex[3];
+        MultiDirectedGraph skeleton = skeleton(side, new Random(seed), corners);
+
+        double[] yFilesSamples = benchmark.measure(() -> embedWithYFiles(skeleton));
+        double[] lrSamples = benchmark.measure(() -> new RNodeEmbedding(skeleton, corners[0], corners[1], corners[2]).getFaces());
+
+        double yFilesMedian = Benchmark.median(yFilesSamples);
+        double lrMedian = Benchmark.median(lrSamples);
+        System.out.println(String.format(Locale.ROOT, "%10d %10d %12.2f %12.2f %12.2f %12.2f %9.2fx",
+                skeleton.countVertices(), skeleton.countEdges(), yFilesMedian, yFilesSamples[0], lrMedian,
+                lrSamples[0], yFilesMedian / lrMedian));
+    }
+
+    /**
+     * The work of the former yFiles based embedding: converts the skeleton, embeds it and maps the rotation of every
+     * vertex and the faces back to the edges of the skeleton.
+     *
+     * @return the number of mapped darts, so the work cannot be skipped.
+     */
+    private static int embedWithYFiles(MultiDirectedGraph skeleton) {
+
+        Graph graph = new Graph();
+        Map<Vertex, Node> nodes = new HashMap<>();
+        Map<Edge, DirectedEdge> edges = new HashMap<>();
+        for(Vertex vertex : skeleton.getVertices())
+            nodes.put(vertex, graph.createNode());
+        for(DirectedEdge edge : skeleton.getEdges())
+            edges.put(graph.createEdge(nodes.get(edge.getSource()), nodes.get(edge.getTarget())), edge);
+
+        PlanarEmbedding embedding = new PlanarEmbedding(graph);
+        int darts = 0;
+        for(Node node : nodes.values())
+            for(Dart dart : embedding.getOutgoingDarts(node))
+                if(edges.get(dart.getAssociatedEdge()) != null)
+                    darts++;
+        for(List<Dart> face : embedding.getFaces())
+            for(Dart dart : face)
+                if(edges.get(dart.getAssociatedEdge()) != null)
+                    darts++;
+        return darts;
+    }
+
+    /**
+     * Builds the grid with side * side vertices and s*.
+     *
+     * @param corners receives s*, the lower left and the upper right corner.
+     */
+    private static MultiDirectedGraph skeleton(int side, Random random, Vertex[] corners) {
+
+        MultiDirectedGraph graph = new MultiDirectedGraph();
+        Vertex[][] grid = new Vertex[side][side];
+        for(int x = 0; x < side; x++)
+            for(int y = 0; y < side; y++)
+                grid[x][y] = graph.addVertex(new Vertex());
+        for(int x = 0; x < side; x++){
+            for(int y = 0; y < side; y++){
+                if(x + 1 < side)
+                    graph.addEdge(grid[x][y], grid[x + 1][y]);
+                if(y + 1 < side)
+                    graph.addEdge(grid[x][y], grid[x][y + 1]);
+                if(x + 1 < side && y + 1 < side){
+                    if(random.nextBoolean())
+                        graph.addEdge(grid[x][y], grid[x + 1][y + 1]);
+                    else
+                        graph.addEdge(grid[x + 1][y], grid[x][y + 1]);
+                }
+            }
+        }
+
+        corners[0] = graph.addVertex(new Vertex("s*"));
+        corners[1] = grid[0][0];
+        corners[2] = grid[side - 1][side - 1];
+        graph.addEdge(corners[0], corners[1]);
+        graph.addEdge(corners[0], corners[2]);
+        return graph;
+    }
+}
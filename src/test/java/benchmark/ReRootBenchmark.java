@@ -0,0 +1,83 @@
+package main.java.benchmark;
+
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.AbstractTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures {@link AbstractTree#reRoot} on random trees and on paths. The edges of the trees are oriented at random
+ * like the edges that {@link main.java.decomposition.spqrTree.TCTree} adds before it roots its tree, every measured
+ * iteration moves the root to another random node.
+ *
+ * Usage: ReRootBenchmark [-w warmUpIterations] [-n measuredIterations] [-s seed] nodes...
+ */
+public class ReRootBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+
+    private final Benchmark benchmark;
+    private final long seed;
+
+
+    public ReRootBenchmark(Benchmark benchmark, long seed){
+        this.benchmark = benchmark;
+        this.seed = seed;
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args, "-s");
+        ReRootBenchmark benchmark = new ReRootBenchmark(arguments.benchmark(2, 5), arguments.getLong("-s", 1));
+        System.out.println(String.format(Locale.ROOT, "%8s %10s %10s %10s %12s",
+                "shape", "nodes", "median ms", "min ms", "ns per node"));
+        for(int size : arguments.getSizes(DEFAULT_SIZES)){
+            benchmark.run("random", size, false);
+            benchmark.run("path", size, true);
+        }
+    }
+
+
+    /**
+     * Measures the re-rooting of a tree with the given number of nodes and prints one line. Every iteration moves the
+     * root to a random node.
+     */
+    public void run(String shape, int nodeCount, boolean path) throws Exception {
+
+        Random random = new Random(seed);
+        List<Vertex> nodes = new ArrayList<>(nodeCount);
+        AbstractTree<Vertex> tree = tree(nodeCount, path, nodes, random);
+
+        double[] samples = benchmark.measure(() -> tree.reRoot(nodes.get(random.nextInt(nodeCount))));
+
+        double median = Benchmark.median(samples);
+        System.out.println(String.format(Locale.ROOT, "%8s %10d %10.1f %10.1f %12.1f",
+                shape, nodeCount, median, samples[0], median * 1_000_000.0 / nodeCount));
+    }
+
+    /**
+     * Attaches every node to a random earlier node, or to the previous node for a path, with an edge in a random
+     * direction.
+     */
+    private static AbstractTree<Vertex> tree(int nodeCount, boolean path, List<Vertex> nodes, Random random) {
+
+        Vertex first = new Vertex();
+        AbstractTree<Vertex> tree = new AbstractTree<>(first);
+        tree.addVertex(first);
+        nodes.add(first);
+        for(int i = 1; i < nodeCount; i++){
+            Vertex node = new Vertex();
+            Vertex other = nodes.get(path ? i - 1 : random.nextInt(i));
+            if(random.nextBoolean())
+                tree.addEdge(other, node);
+            else
+                tree.addEdge(node, other);
+            nodes.add(node);
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,96 @@
+package main.java.benchmark;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.TCTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures the construction of the {@link TCTree} on random series-parallel graphs. Such graphs consist of series
+ * chains and parallel bundles only, so their tree of the triconnected components has as many nodes as the graph and
+ * the merging of polygons and bonds does most of the work.
+ *
+ * Usage: TCTreeBenchmark [-w warmUpIterations] [-n measuredIterations] [-s seed] edges...
+ */
+public class TCTreeBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000};
+
+    private final Benchmark benchmark;
+    private final long seed;
+
+
+    public TCTreeBenchmark(Benchmark benchmark, long seed){
+        this.benchmark = benchmark;
+        this.seed = seed;
+    }
+
+
+    public static void main(String[] args) throws Exception {
+
+        Benchmark.Arguments arguments = new Benchmark.Arguments(args, "-s");
+        TCTreeBenchmark benchmark = new TCTreeBenchmark(arguments.benchmark(2, 5), arguments.getLong("-s", 1));
+        System.out.println(String.format(Locale.ROOT, "%10s %10s %10s %10s %10s %12s",
+                "edges", "vertices", "tree nodes", "median ms", "min ms", "ns per edge"));
+        for(int size : arguments.getSizes(DEFAULT_SIZES))
+            benchmark.run(size);
+    }
+
+
+    /**
+     * Measures the construction on a series-parallel graph with about the given number of edges and prints one line.
+     */
+    public void run(int edgeCount) throws Exception {
+
+        MultiDirectedGraph graph = seriesParallelGraph(edgeCount, new Random(seed));
+        int treeNodes = new TCTree<DirectedEdge, Vertex>(graph).getVertices().size();
+
+        double[] samples = benchmark.measure(() -> new TCTree<DirectedEdge, Vertex>(graph));
+
+        double median = Benchmark.median(samples);
+        System.out.println(String.format(Locale.ROOT, "%10d %10d %10d %10.1f %10.1f %12.1f",
+                graph.getEdges().size(), graph.getVertices().size(), treeNodes, median, samples[0],
+                median * 1_000_000.0 / graph.getEdges().size()));
+    }
+
+    /**
+     * Starts with a cycle of two paths and replaces random edges by a path of two edges (series) or adds a path of two
+     * edges next to them (parallel) until the graph has the given number of edges. The result is biconnected.
+     */
+    private static MultiDirectedGraph seriesParallelGraph(int edgeCount, Random random) {
+
+        List<Vertex[]> edges = new ArrayList<>();
+        List<Vertex> vertices = new ArrayList<>();
+        Vertex source = new Vertex(), target = new Vertex(), middle = new Vertex();
+        vertices.add(source);
+        vertices.add(target);
+        vertices.add(middle);
+        edges.add(new Vertex[]{source, target});
+        edges.add(new Vertex[]{source, middle});
+        edges.add(new Vertex[]{middle, target});
+
+        while(edges.size() < edgeCount){
+            int index = random.nextInt(edges.size());
+            Vertex[] edge = edges.get(index);
+            Vertex vertex = new Vertex();
+            vertices.add(vertex);
+            if(random.nextBoolean())
+                edges.set(index, new Vertex[]{edge[0], vertex});
+            else
+                edges.add(new Vertex[]{edge[0], vertex});
+            edges.add(new Vertex[]{vertex, edge[1]});
+        }
+
+        MultiDirectedGraph graph = new MultiDirectedGraph();
+        for(Vertex vertex : vertices)
+            graph.addVertex(vertex);
+        for(Vertex[] edge : edges)
+            graph.addEdge(edge[0], edge[1]);
+        return graph;
+    }
+}
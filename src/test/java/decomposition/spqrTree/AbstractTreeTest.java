@@ -0,0 +1,69 @@
+package main.java.decomposition.spqrTree;
+
+import main.java.decomposition.graph.abs.IDirectedEdge;
+import main.java.decomposition.hyperGraph.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class AbstractTreeTest {
+
+	@Test
+	public void reRootOrientsEdgesAwayFromNewRoot() {
+		Vertex r = new Vertex("r"), a = new Vertex("a"), b = new Vertex("b"), c = new Vertex("c");
+		AbstractTree<Vertex> tree = new AbstractTree<Vertex>(r);
+		tree.addVertex(r);
+		tree.addVertex(a);
+		tree.addVertex(b);
+		tree.addVertex(c);
+		tree.addChild(r, a);
+		tree.addChild(a, b);
+		tree.addChild(r, c);
+
+		assertSame(b, tree.reRoot(b));
+		assertSame(b, tree.getRoot());
+		assertSame(b, tree.getParent(a));
+		assertSame(a, tree.getParent(r));
+		assertSame(r, tree.getParent(c));
+		assertNull(tree.getParent(b));
+	}
+
+	@Test
+	public void reRootLeavesGraphWithCycleUnchanged() {
+		Vertex r = new Vertex("r"), a = new Vertex("a"), b = new Vertex("b"), c = new Vertex("c");
+		AbstractTree<Vertex> tree = new AbstractTree<Vertex>(r);
+		tree.addVertex(r);
+		tree.addVertex(a);
+		tree.addVertex(b);
+		tree.addVertex(c);
+		tree.addEdge(r, a);
+		tree.addEdge(a, b);
+		tree.addEdge(b, c);
+		tree.addEdge(c, a);
+		List<String> orientation = orientation(tree);
+
+		try {
+			tree.reRoot(c);
+			fail("A graph with a cycle must not be re-rooted.");
+		} catch (IllegalStateException expected) {
+			// the graph is not a tree
+		}
+		assertSame(r, tree.getRoot());
+		assertEquals(orientation, orientation(tree));
+	}
+
+
+	private static List<String> orientation(AbstractTree<Vertex> tree) {
+		List<String> orientation = new ArrayList<String>();
+		for (IDirectedEdge<Vertex> edge : tree.getEdges())
+			orientation.add(edge.getSource() + "->" + edge.getTarget());
+		orientation.sort(null);
+		return orientation;
+	}
+}
@@ -0,0 +1,140 @@
+package main.java.decomposition.spqrTree;
+
+import main.java.decomposition.hyperGraph.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TreeIndexTest {
+
+	/**
+	 * r with the children a and b, a with the children c and d, d with the child e.
+	 */
+	@Test
+	public void indexesFixedTree() {
+		Vertex[] v = vertices("r", "a", "b", "c", "d", "e");
+		AbstractTree<Vertex> tree = tree(v, -1, 0, 0, 1, 1, 4);
+		TreeIndex<Vertex> index = tree.getTreeIndex();
+
+		assertEquals(6, index.size());
+		assertEquals(v[0], index.getRoot());
+		assertNull(index.getParent(v[0]));
+		assertEquals(v[4], index.getParent(v[5]));
+		assertEquals(new HashSet<>(Arrays.asList(v[3], v[4])), new HashSet<>(index.getChildren(v[1])));
+		assertTrue(index.getChildren(v[2]).isEmpty());
+
+		assertEquals(0, index.getDepth(index.indexOf(v[0])));
+		assertEquals(3, index.getDepth(index.indexOf(v[5])));
+
+		assertEquals(v[1], index.getLCA(v[3], v[5]));
+		assertEquals(v[0], index.getLCA(v[5], v[2]));
+		assertEquals(v[4], index.getLCA(v[4], v[5]));
+		assertEquals(v[3], index.getLCA(v[3], v[3]));
+		assertNull(index.getLCA(v[3], new Vertex("x")));
+
+		assertTrue(index.isAncestor(v[0], v[5]));
+		assertTrue(index.isAncestor(v[1], v[5]));
+		assertFalse(index.isAncestor(v[5], v[5]));
+		assertFalse(index.isAncestor(v[2], v[5]));
+		assertFalse(index.isAncestor(v[5], v[1]));
+
+		List<Vertex> postOrder = index.getPostOrder();
+		assertEquals(6, postOrder.size());
+		assertEquals(v[0], postOrder.get(5));
+		assertTrue(postOrder.indexOf(v[5]) < postOrder.indexOf(v[4]));
+		assertTrue(postOrder.indexOf(v[3]) < postOrder.indexOf(v[1]));
+		assertTrue(postOrder.indexOf(v[4]) < postOrder.indexOf(v[1]));
+	}
+
+	@Test
+	public void followsChangesOfTheTree() {
+		Vertex[] v = vertices("r", "a", "b");
+		AbstractTree<Vertex> tree = tree(v, -1, 0, 1);
+		assertEquals(v[0], tree.getTreeIndex().getLCA(v[1], v[0]));
+
+		tree.reRoot(v[2]);
+		TreeIndex<Vertex> index = tree.getTreeIndex();
+		assertEquals(v[2], index.getRoot());
+		assertEquals(v[1], index.getLCA(v[1], v[0]));
+		assertEquals(Arrays.asList(v[0], v[1], v[2]), index.getPostOrder());
+	}
+
+	@Test
+	public void agreesWithParentWalkOnRandomTrees() {
+		Random random = new Random(7);
+		for (int round = 0; round < 20; round++) {
+			int size = 1 + random.nextInt(300);
+			Vertex[] v = new Vertex[size];
+			int[] parents = new int[size];
+			for (int i = 0; i < size; i++) {
+				v[i] = new Vertex(Integer.toString(i));
+				parents[i] = i == 0 ? -1 : random.nextInt(i);
+			}
+			AbstractTree<Vertex> tree = tree(v, parents);
+			TreeIndex<Vertex> index = tree.getTreeIndex();
+
+			for (int query = 0; query < 200; query++) {
+				int a = random.nextInt(size), b = random.nextInt(size);
+				List<Integer> ancestors = ancestors(parents, a);
+				int lca = b;
+				while (!ancestors.contains(lca))
+					lca = parents[lca];
+				assertEquals(v[lca], index.getLCA(v[a], v[b]));
+				assertEquals(a != b && ancestors(parents, b).contains(a), index.isAncestor(v[a], v[b]));
+				assertEquals(ancestors.size() - 1, index.getDepth(index.indexOf(v[a])));
+			}
+
+			assertEquals(postOrder(index, v[0], new ArrayList<Vertex>()), index.getPostOrder());
+		}
+	}
+
+
+	private static Vertex[] vertices(String... names) {
+		Vertex[] vertices = new Vertex[names.length];
+		for (int i = 0; i < names.length; i++)
+			vertices[i] = new Vertex(names[i]);
+		return vertices;
+	}
+
+	/**
+	 * @param parents the position of the parent of every vertex, -1 for the root.
+	 */
+	private static AbstractTree<Vertex> tree(Vertex[] vertices, int... parents) {
+		AbstractTree<Vertex> tree = new AbstractTree<Vertex>(vertices[0]);
+		tree.addVertex(vertices[0]);
+		for (int i = 1; i < vertices.length; i++) {
+			tree.addVertex(vertices[i]);
+			tree.addChild(vertices[parents[i]], vertices[i]);
+		}
+		return tree;
+	}
+
+	/**
+	 * @return the vertex and its ancestors up to the root.
+	 */
+	private static List<Integer> ancestors(int[] parents, int vertex) {
+		List<Integer> ancestors = new ArrayList<Integer>();
+		for (int v = vertex; v != -1; v = parents[v])
+			ancestors.add(v);
+		return ancestors;
+	}
+
+	/**
+	 * Recursive post order along the children of the index.
+	 */
+	private static List<Vertex> postOrder(TreeIndex<Vertex> index, Vertex node, List<Vertex> order) {
+		for (Vertex child : index.getChildren(node))
+			postOrder(index, child, order);
+		order.add(node);
+		return order;
+	}
+}
@@ -0,0 +1,117 @@
+package main.java.decomposition.spqrTree.container;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdjacencyListTest {
+
+	private EdgeMap<DirectedEdge, Vertex> positions;
+	private DirectedEdge[] edges;
+
+	@Before
+	public void createEdges() {
+		positions = new EdgeMap<DirectedEdge, Vertex>();
+		MultiDirectedGraph graph = new MultiDirectedGraph();
+		Vertex s = graph.addVertex(new Vertex("s"));
+		edges = new DirectedEdge[6];
+		// directed edges are equal if their ends are, so every edge gets its own target
+		for (int i = 0; i < edges.length; i++)
+			edges[i] = graph.addEdge(s, graph.addVertex(new Vertex("t" + i)));
+	}
+
+	@Test
+	public void removesEdgesAndKeepsOrder() {
+		AdjacencyList<DirectedEdge, Vertex> list = this.list(edges);
+
+		assertTrue(list.remove(edges[2]));
+		assertTrue(list.remove(edges[0]));
+		assertFalse(list.remove(edges[0]));
+		assertEquals(4, list.size());
+		assertEquals(Arrays.asList(edges[1], edges[3], edges[4], edges[5]), new ArrayList<DirectedEdge>(list));
+		assertEquals(edges[1], list.peek());
+
+		list.add(edges[0]);
+		assertEquals(Arrays.asList(edges[1], edges[3], edges[4], edges[5], edges[0]), new ArrayList<DirectedEdge>(list));
+		assertTrue(list.remove(edges[0]));
+		assertEquals(4, list.size());
+	}
+
+	@Test
+	public void peekSkipsRemovedEdges() {
+		AdjacencyList<DirectedEdge, Vertex> list = this.list(edges[0], edges[1]);
+		list.remove(edges[0]);
+		assertEquals(edges[1], list.peek());
+		list.remove(edges[1]);
+		assertNull(list.peek());
+		assertTrue(list.isEmpty());
+		assertFalse(list.iterator().hasNext());
+	}
+
+	@Test
+	public void removesEdgeFromEveryListItIsIn() {
+		AdjacencyList<DirectedEdge, Vertex> first = this.list(edges[0], edges[1]);
+		AdjacencyList<DirectedEdge, Vertex> second = this.list(edges[2], edges[1], edges[3]);
+
+		assertTrue(second.remove(edges[1]));
+		assertEquals(Arrays.asList(edges[2], edges[3]), new ArrayList<DirectedEdge>(second));
+		assertEquals(Arrays.asList(edges[0], edges[1]), new ArrayList<DirectedEdge>(first));
+		assertTrue(first.remove(edges[1]));
+		assertEquals(Arrays.asList(edges[0]), new ArrayList<DirectedEdge>(first));
+		assertFalse(second.remove(edges[1]));
+		assertFalse(first.remove(edges[4]));
+	}
+
+	@Test
+	public void removesFirstOccurrenceOfDuplicates() {
+		AdjacencyList<DirectedEdge, Vertex> list = this.list(edges[0], edges[1], edges[0], edges[2], edges[0]);
+
+		assertTrue(list.remove(edges[0]));
+		assertEquals(Arrays.asList(edges[1], edges[0], edges[2], edges[0]), new ArrayList<DirectedEdge>(list));
+		assertTrue(list.remove(edges[0]));
+		assertTrue(list.remove(edges[0]));
+		assertFalse(list.remove(edges[0]));
+		assertEquals(Arrays.asList(edges[1], edges[2]), new ArrayList<DirectedEdge>(list));
+	}
+
+	@Test
+	public void agreesWithArrayListOnRandomOperations() {
+		Random random = new Random(11);
+		for (int round = 0; round < 100; round++) {
+			this.createEdges();
+			AdjacencyList<DirectedEdge, Vertex> list = new AdjacencyList<DirectedEdge, Vertex>(positions);
+			List<DirectedEdge> reference = new ArrayList<DirectedEdge>();
+			for (int operation = 0; operation < 50; operation++) {
+				DirectedEdge edge = edges[random.nextInt(edges.length)];
+				if (random.nextInt(3) == 0) {
+					list.add(edge);
+					reference.add(edge);
+				} else {
+					assertEquals(reference.remove(edge), list.remove(edge));
+				}
+				assertEquals(reference, new ArrayList<DirectedEdge>(list));
+				assertEquals(reference.size(), list.size());
+				assertEquals(reference.isEmpty() ? null : reference.get(0), list.peek());
+			}
+		}
+	}
+
+
+	private AdjacencyList<DirectedEdge, Vertex> list(DirectedEdge... content) {
+		AdjacencyList<DirectedEdge, Vertex> list = new AdjacencyList<DirectedEdge, Vertex>(positions);
+		list.addAll(Arrays.asList(content));
+		return list;
+	}
+}
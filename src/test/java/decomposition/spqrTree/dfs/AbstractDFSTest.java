@@ -0,0 +1,157 @@
+package main.java.decomposition.spqrTree.dfs;
+
+import main.java.decomposition.graph.DirectedEdge;
+import main.java.decomposition.graph.MultiDirectedGraph;
+import main.java.decomposition.hyperGraph.Vertex;
+import main.java.decomposition.spqrTree.container.EdgeList;
+import main.java.decomposition.spqrTree.container.MetaInfoContainer;
+import main.java.decomposition.spqrTree.container.NodeMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class AbstractDFSTest {
+
+	/**
+	 * Records the calls of the hooks.
+	 */
+	private static class RecordingDFS extends AbstractDFS<DirectedEdge, Vertex> {
+
+		protected final List<String> events = new ArrayList<String>();
+
+		RecordingDFS(MultiDirectedGraph graph, NodeMap<Vertex> adjacency) {
+			super(graph, new MetaInfoContainer(), adjacency);
+		}
+
+		@Override
+		protected void preVisit(Vertex v, int dfsNumber) {
+			events.add("preVisit " + v + " " + dfsNumber);
+		}
+
+		@Override
+		protected void preTraverse(DirectedEdge e, Vertex w, boolean treeEdge) {
+			events.add("preTraverse " + e.getSource() + "->" + w + " " + treeEdge);
+		}
+
+		@Override
+		protected void postTraverse(DirectedEdge e, Vertex w) {
+			events.add("postTraverse " + e.getSource() + "->" + w);
+		}
+
+		@Override
+		protected void postVisit(Vertex v, int dfsNumber, int complNumber) {
+			events.add("postVisit " + v + " " + dfsNumber + " " + complNumber);
+		}
+	}
+
+	/**
+	 * The former recursive DFS as reference.
+	 */
+	private static class RecursiveDFS extends RecordingDFS {
+
+		private int dfsNumber = 0;
+		private int complNumber = 0;
+
+		RecursiveDFS(MultiDirectedGraph graph, NodeMap<Vertex> adjacency) {
+			super(graph, adjacency);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected void dfs(Vertex v) {
+			dfsNumber++;
+			dfsNumMap.setInt(v, dfsNumber);
+			nodeStateMap.setInt(v, GRAY);
+			preVisit(v, dfsNumber);
+
+			for (DirectedEdge e : (EdgeList<DirectedEdge, Vertex>) adj.get(v)) {
+				if (edgeTypeMap.getInt(e) == EDGE_NOT_VISITED) {
+					Vertex w = e.getOtherVertex(v);
+					e.setVertices(v, w);
+					if (nodeStateMap.getInt(w) == WHITE) {
+						edgeTypeMap.setInt(e, TREE_EDGE);
+						preTraverse(e, w, true);
+						dfs(w);
+						postTraverse(e, w);
+					} else {
+						edgeTypeMap.setInt(e, BACK_EDGE);
+						preTraverse(e, w, false);
+					}
+				}
+			}
+
+			nodeStateMap.setInt(v, BLACK);
+			complNumber++;
+			complNumMap.setInt(v, complNumber);
+			postVisit(v, dfsNumMap.getInt(v), complNumber);
+		}
+	}
+
+	@Test
+	public void callsHooksInRecursiveOrder() {
+		Random random = new Random(3);
+		for (int round = 0; round < 200; round++) {
+			int vertexCount = 1 + random.nextInt(40);
+			int edgeCount = random.nextInt(3 * vertexCount + 1);
+			MultiDirectedGraph graph = new MultiDirectedGraph();
+			Vertex[] vertices = new Vertex[vertexCount];
+			for (int i = 0; i < vertexCount; i++)
+				vertices[i] = graph.addVertex(new Vertex(Integer.toString(i)));
+			NodeMap<Vertex> adjacency = adjacency(vertices);
+			for (int i = 0; i < edgeCount; i++) {
+				// parallel edges are allowed, self loops are not part of the decomposition
+				int s = random.nextInt(vertexCount), t = random.nextInt(vertexCount);
+				if (s != t)
+					addEdge(graph, adjacency, vertices[s], vertices[t]);
+			}
+			Vertex root = vertices[random.nextInt(vertexCount)];
+
+			RecordingDFS recursive = new RecursiveDFS(graph, adjacency);
+			recursive.start(root);
+			RecordingDFS iterative = new RecordingDFS(graph, adjacency);
+			iterative.start(root);
+
+			assertEquals(recursive.events, iterative.events);
+		}
+	}
+
+	@Test
+	public void searchesLongPathWithoutStackOverflow() {
+		int vertexCount = 100_000;
+		MultiDirectedGraph graph = new MultiDirectedGraph();
+		Vertex[] vertices = new Vertex[vertexCount];
+		for (int i = 0; i < vertexCount; i++)
+			vertices[i] = graph.addVertex(new Vertex(Integer.toString(i)));
+		NodeMap<Vertex> adjacency = adjacency(vertices);
+		for (int i = 0; i < vertexCount; i++)
+			addEdge(graph, adjacency, vertices[i], vertices[(i + 1) % vertexCount]);
+
+		AbstractDFS<DirectedEdge, Vertex> dfs = new AbstractDFS<DirectedEdge, Vertex>(graph, new MetaInfoContainer(), adjacency);
+		dfs.start(vertices[0]);
+
+		int treeEdges = 0;
+		for (DirectedEdge edge : graph.getEdges())
+			if (dfs.getEdgeTypeMap().getInt(edge) == AbstractDFS.TREE_EDGE)
+				treeEdges++;
+		assertEquals(vertexCount - 1, treeEdges);
+	}
+
+
+	private static NodeMap<Vertex> adjacency(Vertex[] vertices) {
+		NodeMap<Vertex> adjacency = new NodeMap<Vertex>();
+		for (Vertex vertex : vertices)
+			adjacency.put(vertex, new EdgeList<DirectedEdge, Vertex>());
+		return adjacency;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addEdge(MultiDirectedGraph graph, NodeMap<Vertex> adjacency, Vertex s, Vertex t) {
+		DirectedEdge edge = graph.addEdge(s, t);
+		((EdgeList<DirectedEdge, Vertex>) adjacency.get(s)).add(edge);
+		((EdgeList<DirectedEdge, Vertex>) adjacency.get(t)).add(edge);
+	}
+}